@@ -0,0 +1,52 @@
+package carddeck;
+
+import card.TrainCard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The draw and fill cycle of the train card decks: draw a face-up and a face-down card, discard both and let the
+ * deck manager refill the decks, so the cards keep going around and the discards are reshuffled every few dozen
+ * operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class DeckBenchmark {
+
+    private DeckManager manager;
+    private FaceUpDeck faceUpDeck;
+    private FaceDownDeck faceDownDeck;
+    private DiscardsDeck discardsDeck;
+
+    @Setup
+    public void setUp() {
+        manager = new DeckManager(new PrintStream(OutputStream.nullOutputStream()), new SplittableRandom(42));
+        faceUpDeck = manager.getFaceUpDeck();
+        faceDownDeck = manager.getFaceDownDeck();
+        discardsDeck = manager.getDiscardsDeck();
+    }
+
+    @Benchmark
+    public void drawAndFill(Blackhole blackhole) {
+        int index = 0;
+        while (faceUpDeck.getColorAt(index) == null) {
+            index++;
+        }
+        TrainCard faceUpCard = faceUpDeck.drawACard(index);
+        TrainCard faceDownCard = faceDownDeck.drawACard(0);
+        discardsDeck.addToDeck(faceUpCard);
+        discardsDeck.addToDeck(faceDownCard);
+        manager.manageDecks();
+        blackhole.consume(faceUpCard);
+        blackhole.consume(faceDownCard);
+    }
+}
@@ -0,0 +1,31 @@
+package game;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the JMH benchmarks of the benchmark folder with the GC profiler, so every benchmark is reported
+ * in operations per second (ops/s) and bytes allocated per operation (gc.alloc.rate.norm).
+ * Run it from the project directory, the route and task files are read from src/file. The results are also written
+ * to bench_output.txt.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * @param args  optional regular expression of the benchmarks to run, e.g. "PathFinder", all by default
+     * @throws RunnerException  when a benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : ".*Benchmark.*")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.TEXT)
+                .result("bench_output.txt")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,54 @@
+package player;
+
+import carddeck.DeckManager;
+import city.City;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import route.Route;
+import route.RouteFileReader;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card combinations of a hand drawn from a shuffled deck, for every color of every route of the map, the way a
+ * computer player looks for a route to claim, one operation is the whole sweep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class PlayerBenchmark {
+
+    @Param({"4", "10", "20"})
+    public int handSize;
+
+    private Player player;
+    private List<Route<City>> routes;
+
+    @Setup
+    public void setUp() {
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+        DeckManager manager = new DeckManager(out, new SplittableRandom(42));
+        player = new Player("benchmark", manager, out);
+        player.setPlayerId("p0");
+        for (int i = 0; i < handSize; i++) {
+            player.drawAFaceDownCard();
+        }
+        routes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+    }
+
+    @Benchmark
+    public void getCardCombinationOnATargetRoute_allRoutes(Blackhole blackhole) {
+        for (Route<City> route : routes) {
+            for (String color : route.getColors()) {
+                blackhole.consume(player.getCardCombinationOnATargetRoute(route, color));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package route.graph;
+
+import city.City;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import route.Route;
+import route.RouteFileReader;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connectivity checks over the routes of a player, the way tasks are checked after a route is claimed.
+ * The player owns a fixed random share of the routes of the map, one operation checks every pair of its cities,
+ * with a depth first search per pair or with the union-find of the player's routes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class PathFinderBenchmark {
+
+    @Param({"0.2", "0.5"})
+    public double share;
+
+    private Map<String, Set<Route<City>>> ownedRoutes;
+    private List<String> cityNames;
+    private UnionFind connectedCities;
+    private List<City> cities;
+
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        ownedRoutes = new LinkedHashMap<>();
+        connectedCities = new UnionFind();
+        Map<String, City> citiesByName = new LinkedHashMap<>();
+        for (Route<City> route : RouteFileReader.getRouteFileReaderInstance().createRoutes()) {
+            if (rand.nextDouble() < share) {
+                ownedRoutes.computeIfAbsent(route.getCity1().getCityName(), k -> new LinkedHashSet<>()).add(route);
+                ownedRoutes.computeIfAbsent(route.getCity2().getCityName(), k -> new LinkedHashSet<>())
+                        .add(route.reversed());
+                connectedCities.union(route.getCity1(), route.getCity2());
+                citiesByName.put(route.getCity1().getCityName(), route.getCity1());
+                citiesByName.put(route.getCity2().getCityName(), route.getCity2());
+            }
+        }
+        cityNames = new ArrayList<>(ownedRoutes.keySet());
+        cities = new ArrayList<>(citiesByName.values());
+    }
+
+    @Benchmark
+    public void findPath_allPairs(Blackhole blackhole) {
+        for (int i = 0; i < cityNames.size(); i++) {
+            for (int j = i + 1; j < cityNames.size(); j++) {
+                blackhole.consume(new PathFinder(ownedRoutes, cityNames.get(i), cityNames.get(j)).findPath());
+            }
+        }
+    }
+
+    @Benchmark
+    public void unionFind_allPairs(Blackhole blackhole) {
+        for (int i = 0; i < cities.size(); i++) {
+            for (int j = i + 1; j < cities.size(); j++) {
+                blackhole.consume(connectedCities.isConnected(cities.get(i), cities.get(j)));
+            }
+        }
+    }
+}
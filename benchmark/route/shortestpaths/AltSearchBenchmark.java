@@ -0,0 +1,70 @@
+package route.shortestpaths;
+
+import org.openjdk.jmh.annotations.*;
+import route.graph.CsrGraph;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point to point shortest paths on a synthetic map of 10 000 cities, a 100 x 100 grid with random lengths from 1 to
+ * 6 as on the board, between random pairs of cities: Dijkstra's search with Dial's bucket queue stopping at the
+ * target, against the bidirectional ALT search with the landmarks of the map, built once in the setup. The settled
+ * counter is the number of vertices settled per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class AltSearchBenchmark {
+
+    private static final int GRID_SIZE = 100;
+    private static final int NUM_OF_PAIRS = 1024;
+
+    private CsrGraph csr;
+    private AltSearch altSearch;
+    private int[] sources;
+    private int[] targets;
+    private int[] distances;
+    private int[] predecessors;
+    private int pair;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Settled {
+        public long settled;
+    }
+
+    @Setup
+    public void setUp() {
+        csr = GridGraphs.create(GRID_SIZE, 1, new SplittableRandom(42));
+        altSearch = new AltSearch(csr, Landmarks.of(csr));
+        SplittableRandom random = new SplittableRandom(7);
+        sources = random.ints(NUM_OF_PAIRS, 0, csr.getNumOfVertices()).toArray();
+        targets = random.ints(NUM_OF_PAIRS, 0, csr.getNumOfVertices()).toArray();
+        distances = new int[csr.getNumOfVertices()];
+        predecessors = new int[csr.getNumOfVertices()];
+    }
+
+    @Benchmark
+    public int dijkstra(Settled counter) {
+        int i = nextPair();
+        counter.settled += ShortestPathFinder.search(csr, sources[i], targets[i], distances, predecessors, null);
+        return distances[targets[i]];
+    }
+
+    @Benchmark
+    public int alt(Settled counter) {
+        int i = nextPair();
+        int distance = altSearch.search(sources[i], targets[i]);
+        counter.settled += altSearch.getNumOfSettled();
+        return distance;
+    }
+
+    private int nextPair() {
+        pair = (pair + 1) % NUM_OF_PAIRS;
+        return pair;
+    }
+}
@@ -0,0 +1,64 @@
+package route.shortestpaths;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import route.RouteFileReader;
+import route.graph.Graph;
+import route.graph.CsrGraph;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single source shortest paths to every vertex with Dial's bucket queue against the IndexedMinHeap, from every city of
+ * the map, or from 16 vertices of a 100 x 100 grid with random lengths from 1 to 6, as on the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class DialSearchBenchmark {
+
+    private static final int GRID_SIZE = 100;
+    private static final int GRID_SOURCES = 16;
+
+    @Param({"map", "grid"})
+    public String graphType;
+
+    private CsrGraph csr;
+    private int[] sources;
+    private int[] distances;
+    private int[] predecessors;
+
+    @Setup
+    public void setUp() {
+        if (graphType.equals("map")) {
+            csr = new Graph<>(RouteFileReader.getRouteFileReaderInstance().createRoutes()).getCsr();
+            sources = new int[csr.getNumOfVertices()];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = i;
+            }
+        } else {
+            csr = GridGraphs.create(GRID_SIZE, 1, new SplittableRandom(42));
+            sources = new SplittableRandom(7).ints(GRID_SOURCES, 0, csr.getNumOfVertices()).toArray();
+        }
+        distances = new int[csr.getNumOfVertices()];
+        predecessors = new int[csr.getNumOfVertices()];
+    }
+
+    @Benchmark
+    public void dial(Blackhole blackhole) {
+        for (int source : sources) {
+            blackhole.consume(DialSearch.search(csr, csr.getMaxWeight(), source, -1, distances, predecessors, null));
+        }
+    }
+
+    @Benchmark
+    public void heap(Blackhole blackhole) {
+        for (int source : sources) {
+            blackhole.consume(ShortestPathFinder.heapSearch(csr, source, -1, distances, predecessors, null));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package route.shortestpaths;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The priority queue the way Dijkstra's uses it: add every item, lower the priority of every item once, then remove
+ * them all, one operation is the whole cycle. The HeapMinPQ of boxed items against the IndexedMinHeap of ints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapMinPQBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private Integer[] items;
+    private double[] priorities;
+    private int[] intPriorities;
+
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        items = new Integer[size];
+        priorities = new double[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+            priorities[i] = rand.nextInt(1000);
+        }
+        intPriorities = new int[size];
+        for (int i = 0; i < size; i++) {
+            intPriorities[i] = (int) priorities[i];
+        }
+    }
+
+    @Benchmark
+    public void addChangePriorityRemoveMin(Blackhole blackhole) {
+        HeapMinPQ<Integer> pq = new HeapMinPQ<>();
+        for (int i = 0; i < size; i++) {
+            pq.add(items[i], priorities[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            pq.changePriority(items[i], priorities[i] / 2);
+        }
+        while (!pq.isEmpty()) {
+            blackhole.consume(pq.removeMin());
+        }
+    }
+
+    @Benchmark
+    public void indexedMinHeap_addDecreasePriorityRemoveMin(Blackhole blackhole) {
+        IndexedMinHeap heap = new IndexedMinHeap(size);
+        for (int i = 0; i < size; i++) {
+            heap.add(i, intPriorities[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            heap.decreasePriority(i, intPriorities[i] / 2);
+        }
+        while (!heap.isEmpty()) {
+            blackhole.consume(heap.removeMin());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package route.shortestpaths;
+
+import city.City;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import route.Route;
+import route.RouteFileReader;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shortest path between every pair of cities of the map, answered from the shared all-pairs table once it is
+ * built, one operation is the whole sweep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class ShortestPathFinderBenchmark {
+
+    private Graph<City, Route<City>> graph;
+    private List<City> cities;
+
+    @Setup
+    public void setUp() {
+        graph = new Graph<>(RouteFileReader.getRouteFileReaderInstance().createRoutes());
+        cities = new ArrayList<>(graph.getAllCities());
+        cities.sort(Comparator.comparing(City::getCityName));
+    }
+
+    @Benchmark
+    public void findShortestPath_allPairs(Blackhole blackhole) {
+        for (int i = 0; i < cities.size(); i++) {
+            for (int j = i + 1; j < cities.size(); j++) {
+                blackhole.consume(new ShortestPathFinder<>(graph, cities.get(i), cities.get(j)).findShortestPath());
+            }
+        }
+    }
+}
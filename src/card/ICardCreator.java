@@ -1,7 +1,12 @@
 package card;
 
+import color.TrainColor;
+
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This ICardCreator interface defines what colors are allowed to create cards and function(s) for creating a card
@@ -9,10 +14,12 @@ import java.util.Set;
 
 public interface ICardCreator {
     /**
-     * a set of colors in all small letters to define the nine allowed colors for train cards
+     * a set of colors in all small letters to define the nine allowed colors for train cards, the names of the card
+     * colors of TrainColor, iterated in their order so that seeded random choices are the same in every run
      */
-    Set<String> COLORS = Set.of("purple", "blue", "red", "yellow", "rainbow",
-            "green", "black", "orange", "white");
+    Set<String> COLORS = Collections.unmodifiableSet(TrainColor.getCardColors().stream()
+            .map(TrainColor::getName)
+            .collect(Collectors.<String, Set<String>>toCollection(LinkedHashSet::new)));
 
 
     /**
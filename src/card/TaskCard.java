@@ -18,6 +18,7 @@ public class TaskCard implements ICard {
     private int points;
     private String ownerId;
     private String cardId;
+    private int cardNum;
     private boolean completed;
 
 
@@ -41,6 +42,7 @@ public class TaskCard implements ICard {
         this.points = points;
         ownerId = null;
         cardId = null;
+        cardNum = -1;
         completed = false;
     }
 
@@ -54,6 +56,14 @@ public class TaskCard implements ICard {
         return cardId;
     }
 
+    /**
+     * get the number the card id is made of, which is also the line of this task in the task file
+     * @return  the card number, -1 if no id has been assigned
+     */
+    public int getCardNum() {
+        return cardNum;
+    }
+
     @Override
     public int getCardType() {
         return TASK_CARD_CODE;
@@ -131,6 +141,7 @@ public class TaskCard implements ICard {
             throw new IllegalStateException("This card has been assigned card id, cannot reassign id.");
         }
         this.cardId = "Task" + num;
+        this.cardNum = num;
     }
 
 
@@ -1,5 +1,7 @@
 package card;
 
+import color.TrainColor;
+
 import java.util.List;
 
 /**
@@ -9,14 +11,26 @@ public class TrainCard implements ICard {
 
     private String ownerId;
     private String cardId;
+    private int cardNum;
     private String color;
+    private TrainColor trainColor; // looked up from color when first asked for
 
     public TrainCard(String color) {
         ownerId = null;
         cardId = null;
+        cardNum = -1;
         this.color = color;
     }
 
+    /**
+     * constructor, a card of a card color of TrainColor
+     * @param color     the color of the card
+     */
+    public TrainCard(TrainColor color) {
+        this(color.getName());
+        trainColor = color;
+    }
+
     @Override
     public String getOwnerId() {
         return ownerId;
@@ -27,6 +41,14 @@ public class TrainCard implements ICard {
         return cardId;
     }
 
+    /**
+     * get the number the card id is made of
+     * @return  the card number, -1 if no id has been assigned
+     */
+    public int getCardNum() {
+        return cardNum;
+    }
+
     @Override
     public int getCardType() {
         return TRAIN_CARD_CODE;
@@ -41,6 +63,18 @@ public class TrainCard implements ICard {
         return color;
     }
 
+    /**
+     * get color of a train card as a TrainColor
+     * @return      the color
+     * @throws  IllegalArgumentException     when the color of the card isn't a color of TrainColor
+     */
+    public TrainColor getTrainColor() {
+        if (trainColor == null) {
+            trainColor = TrainColor.of(color);
+        }
+        return trainColor;
+    }
+
 
     /**
      * set owner id to a player, invoke when a player draws and keeps the card
@@ -78,6 +112,7 @@ public class TrainCard implements ICard {
             throw new IllegalStateException("This card has been assigned card id, cannot reassign id.");
         }
         this.cardId = "Train" + num;
+        this.cardNum = num;
     }
 
     @Override
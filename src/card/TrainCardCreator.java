@@ -13,10 +13,19 @@ public class TrainCardCreator implements ICardCreator {
     private List<String> availableColors;
 
     /**
-     * private constructor
+     * constructor, use getCreatorInstance() for the creator shared by the console game, or create a new creator
+     * for a self-contained game so that excluded colors do not leak between games
      */
-    private TrainCardCreator() {
-        rand  = new Random();
+    public TrainCardCreator() {
+        this(new Random());
+    }
+
+    /**
+     * constructor
+     * @param rand  the random generator of the game, picks the colors of the cards
+     */
+    public TrainCardCreator(Random rand) {
+        this.rand = rand;
         availableColors = new ArrayList<>();
         availableColors.addAll(COLORS);
     }
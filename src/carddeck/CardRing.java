@@ -0,0 +1,191 @@
+package carddeck;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.RandomAccess;
+
+/**
+ * This class is the list of cards of a deck, a circular buffer in one array from the top card to the bottom card.
+ * Drawing the top card, burying a card at the bottom and reading a card at any position are constant time and don't
+ * allocate, unlike the nodes of a linked list, the array only grows when the deck holds more cards than ever before.
+ * The decks hand this list out as their List of cards, so the static list accessors keep working.
+ * @param <C>   the card type
+ */
+final class CardRing<C> extends AbstractList<C> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] cards;
+    private int head; // the position of the top card in the array
+    private int size;
+
+    /**
+     * constructor, an empty deck
+     */
+    CardRing() {
+        cards = new Object[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public C get(int index) {
+        checkIndex(index, size);
+        return cardAt(index);
+    }
+
+    @Override
+    public C set(int index, C card) {
+        checkIndex(index, size);
+        C old = cardAt(index);
+        cards[position(index)] = card;
+        return old;
+    }
+
+    /**
+     * insert a card, constant time at the top (0) and at the bottom (size), other positions shift the cards of the
+     * nearer end
+     */
+    @Override
+    public void add(int index, C card) {
+        checkIndex(index, size + 1);
+        modCount++;
+        if (size == cards.length) {
+            grow();
+        }
+        if (index < size - index) {
+            head = position(cards.length - 1);
+            for (int i = 0; i < index; i++) {
+                cards[position(i)] = cards[position(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                cards[position(i)] = cards[position(i - 1)];
+            }
+        }
+        cards[position(index)] = card;
+        size++;
+    }
+
+    /**
+     * remove a card, constant time at the top (0) and at the bottom (size - 1), other positions shift the cards of
+     * the nearer end
+     */
+    @Override
+    public C remove(int index) {
+        checkIndex(index, size);
+        modCount++;
+        C card = cardAt(index);
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                cards[position(i)] = cards[position(i - 1)];
+            }
+            cards[head] = null;
+            head = position(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                cards[position(i)] = cards[position(i + 1)];
+            }
+            cards[position(size - 1)] = null;
+        }
+        size--;
+        return card;
+    }
+
+    /**
+     * bury cards at the bottom in their order
+     */
+    @Override
+    public boolean addAll(Collection<? extends C> newCards) {
+        if (newCards.isEmpty()) {
+            return false;
+        }
+        modCount++;
+        while (size + newCards.size() > cards.length) {
+            grow();
+        }
+        for (C card : newCards) {
+            cards[position(size++)] = card;
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        for (int i = 0; i < size; i++) {
+            cards[position(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * shuffle the cards in place with the Fisher-Yates shuffle, the same swaps and the same order as
+     * Collections.shuffle(list, rand)
+     * @param rand  the random generator of the game
+     */
+    void shuffle(Random rand) {
+        modCount++;
+        for (int i = size; i > 1; i--) {
+            int j = rand.nextInt(i);
+            int a = position(i - 1);
+            int b = position(j);
+            Object card = cards[a];
+            cards[a] = cards[b];
+            cards[b] = card;
+        }
+    }
+
+    /**
+     * move every card of another deck to the bottom of this deck in their order, the other deck is left empty
+     */
+    void moveAllFrom(CardRing<? extends C> other) {
+        if (other == this || other.size == 0) {
+            return;
+        }
+        modCount++;
+        other.modCount++;
+        while (size + other.size > cards.length) {
+            grow();
+        }
+        for (int i = 0; i < other.size; i++) {
+            int from = other.position(i);
+            cards[position(size++)] = other.cards[from];
+            other.cards[from] = null;
+        }
+        other.head = 0;
+        other.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private C cardAt(int index) { return (C) cards[position(index)]; }
+
+    /**
+     * get the position in the array of the card at an index, the index is at most the length of the array
+     */
+    private int position(int index) {
+        int position = head + index;
+        return position < cards.length ? position : position - cards.length;
+    }
+
+    /**
+     * double the array, the top card moves to position 0
+     */
+    private void grow() {
+        Object[] newCards = new Object[2 * cards.length];
+        for (int i = 0; i < size; i++) {
+            newCards[i] = cards[position(i)];
+        }
+        cards = newCards;
+        head = 0;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+}
@@ -1,30 +1,127 @@
 package carddeck;
 
 
+import card.TaskCard;
+import card.TrainCard;
+import card.TrainCardCreator;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
 /**
  * This class deck manager is responsible for filling in all the deck for the first time, and coordinate filling
  * and discarding behaviors between deck classes, such as filling in face-up deck from face-down when the former is empty,
  * filling in face-down deck from discards when the former is empty,
  */
 public class DeckManager {
-    private static TaskCardDeck taskCardDeck = TaskCardDeck.getObjectInstance();
-    private static FaceDownDeck faceDownDeck = FaceDownDeck.getObjectInstance();
-    private static FaceUpDeck faceUpDeck = FaceUpDeck.getObjectInstance();
-    private static DiscardsDeck discardsDeck = DiscardsDeck.getObjectInstance();
-    private static DeckManager manager = new DeckManager();
+    // the deck manager used by the console game, only created when asked for
+    private static DeckManager manager;
+
+    // instance variables
+    private TaskCardDeck taskCardDeck;
+    private FaceDownDeck faceDownDeck;
+    private FaceUpDeck faceUpDeck;
+    private DiscardsDeck discardsDeck;
+    private PrintStream out;
+
+    /**
+     * constructor, creates a brand new set of decks that is not shared with any other game,
+     * used when several games run in the same JVM
+     * @param out   where messages of the decks are printed
+     */
+    public DeckManager(PrintStream out) {
+        this(out, new SplittableRandom());
+    }
+
+    /**
+     * constructor, creates a brand new set of decks that is not shared with any other game, every deck gets its
+     * own generator split from the random generator of the game, so the same seed always deals the same cards
+     * @param out   where messages of the decks are printed
+     * @param random    the random generator of the game
+     */
+    public DeckManager(PrintStream out, SplittableRandom random) {
+        this.out = out;
+        TrainCardCreator trainCardCreator = new TrainCardCreator(new Random(random.nextLong()));
+        discardsDeck = new DiscardsDeck(new Random(random.nextLong()));
+        faceDownDeck = new FaceDownDeck(new FaceDownDeckCreator(trainCardCreator), discardsDeck, out);
+        faceUpDeck = new FaceUpDeck(faceDownDeck, discardsDeck, out);
+        Random taskRand = new Random(random.nextLong());
+        taskCardDeck = new TaskCardDeck(new TaskCardDeckCreator(taskRand), taskRand);
+        createDecks();
+    }
 
     // private constructor
-    private DeckManager() {
+    private DeckManager(TaskCardDeck taskCardDeck, FaceDownDeck faceDownDeck, FaceUpDeck faceUpDeck,
+                        DiscardsDeck discardsDeck, PrintStream out) {
+        this.taskCardDeck = taskCardDeck;
+        this.faceDownDeck = faceDownDeck;
+        this.faceUpDeck = faceUpDeck;
+        this.discardsDeck = discardsDeck;
+        this.out = out;
+    }
+
+    public static synchronized DeckManager getObjectInstance() {
+        if (manager == null) {
+            manager = new DeckManager(TaskCardDeck.getObjectInstance(), FaceDownDeck.getObjectInstance(),
+                    FaceUpDeck.getObjectInstance(), DiscardsDeck.getObjectInstance(), System.out);
+            manager.createDecks();
+        }
+        return manager;
+    }
+
+    /**
+     * create a brand new set of decks holding exactly the given cards instead of random ones,
+     * used when a game is rebuilt from a saved state
+     * @param faceDownCards     the face-down cards from top to bottom
+     * @param faceUpCards       the cards on the 5 face-up spots, null for an empty spot
+     * @param discards      the discarded cards in the order they were discarded
+     * @param taskCards     the task cards from top to bottom
+     * @param dealtTaskCards    the 3 dealt task cards, null for a spot that holds no card
+     * @param out   where messages of the decks are printed
+     * @param random    the random generator of the game, used for later shuffles
+     * @return  a deck manager of the given decks
+     */
+    public static DeckManager restore(List<TrainCard> faceDownCards, List<TrainCard> faceUpCards,
+                                      List<TrainCard> discards, List<TaskCard> taskCards,
+                                      List<TaskCard> dealtTaskCards, PrintStream out, SplittableRandom random) {
+        DiscardsDeck discardsDeck = new DiscardsDeck(new Random(random.nextLong()));
+        FaceDownDeckCreator faceDownDeckCreator = new FaceDownDeckCreator(new TrainCardCreator());
+        FaceDownDeck faceDownDeck = new FaceDownDeck(faceDownDeckCreator, discardsDeck, out);
+        FaceUpDeck faceUpDeck = new FaceUpDeck(faceDownDeck, discardsDeck, out);
+        TaskCardDeckCreator taskCardDeckCreator = new TaskCardDeckCreator();
+        TaskCardDeck taskCardDeck = new TaskCardDeck(taskCardDeckCreator, new Random(random.nextLong()));
+
+        faceDownDeckCreator.restoreCardDeck(faceDownCards);
+        faceUpDeck.restoreCardDeck(faceUpCards);
+        discardsDeck.addToDeck(discards);
+        taskCardDeckCreator.restoreCardDeck(taskCards);
+        taskCardDeck.restoreDealtCards(dealtTaskCards);
+        return new DeckManager(taskCardDeck, faceDownDeck, faceUpDeck, discardsDeck, out);
+    }
+
+    /**
+     * getter methods to get the decks managed by this manager
+     */
+    public TaskCardDeck getTaskCardDeck() { return taskCardDeck; }
+
+    public FaceDownDeck getFaceDownDeck() { return faceDownDeck; }
+
+    public FaceUpDeck getFaceUpDeck() { return faceUpDeck; }
+
+    public DiscardsDeck getDiscardsDeck() { return discardsDeck; }
+
+    /**
+     * fill in all the decks for the first time
+     */
+    private void createDecks() {
         taskCardDeck.createCardDeck();
         faceDownDeck.createCardDeck();
         faceUpDeck.createCardDeck();
         discardsDeck.createCardDeck();
     }
 
-    public static DeckManager getObjectInstance() {
-        return manager;
-    }
-
     /**
      * be responsible for inter-deck activities, such as filling decks
      */
@@ -37,6 +134,8 @@ public class DeckManager {
         // fill face-up deck
         if (faceUpDeck.isEmpty() && !faceDownDeck.isEmpty()) {
             faceUpDeck.fillDeck();
+        } else if (!faceUpDeck.isFull() && !faceDownDeck.isEmpty()) {
+            faceUpDeck.fillEmptySpots();
         }
         while (faceUpDeck.isFull() && faceUpDeck.has3OrMoreLocoCard()) {
             faceUpDeck.discardAll();
@@ -45,8 +144,8 @@ public class DeckManager {
             }
         }
 
-        System.out.print("up"  + faceUpDeck.getSize());
-        System.out.println(" down"  + faceDownDeck.getSize());
+        out.print("up"  + faceUpDeck.getSize());
+        out.println(" down"  + faceDownDeck.getSize());
     }
 
 
@@ -2,20 +2,34 @@ package carddeck;
 
 import card.TrainCard;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 
 public class DiscardsDeck implements ICardDeck, IShuffleable {
 
-    private static List<TrainCard> discardsDeckList = new LinkedList<>();
+    // the discards deck used by the console game
     private static DiscardsDeck discardsDeckObject = new DiscardsDeck();
 
+    // instance variable
+    private CardRing<TrainCard> discardsDeckList;
+    private Random rand;
+
+    /**
+     * constructor, used by the console game
+     */
+    DiscardsDeck() {
+        this(new Random());
+    }
+
     /**
-     * private constructor
+     * constructor, used by DeckManager to give every game its own discards deck
+     * @param rand  the random generator of the game, used to shuffle the deck
      */
-    private DiscardsDeck() {}
+    DiscardsDeck(Random rand) {
+        discardsDeckList = new CardRing<>();
+        this.rand = rand;
+    }
 
     @Override
     public void createCardDeck() { }
@@ -33,9 +47,25 @@ public class DiscardsDeck implements ICardDeck, IShuffleable {
      * @return  discardsDeck list
      */
     public static List<TrainCard> getListInstance() {
+        return discardsDeckObject.getList();
+    }
+
+    /**
+     * get the list of cards in this discards deck
+     * @return  discardsDeck list
+     */
+    CardRing<TrainCard> getList() {
         return discardsDeckList;
     }
 
+    /**
+     * get the cards in this discards deck, read only
+     * @return  the discarded cards in the order they were discarded
+     */
+    public List<TrainCard> getCards() {
+        return Collections.unmodifiableList(discardsDeckList);
+    }
+
 
     @Override
     public int getSize() {
@@ -55,7 +85,7 @@ public class DiscardsDeck implements ICardDeck, IShuffleable {
     @Override
     public void shuffle() {
         if (getSize() > 1) {
-            Collections.shuffle(discardsDeckList);
+            discardsDeckList.shuffle(rand);
         }
     }
 
@@ -3,21 +3,33 @@ package carddeck;
 import card.ICard;
 import card.TrainCard;
 
+import java.io.PrintStream;
+import java.util.Collections;
 import java.util.List;
 
 public class FaceDownDeck implements ICardDeck, IDrawable, IFillable {
 
-    // class variables
-    private static List<TrainCard> faceDownDeckList = FaceDownDeckCreator.getCardDeckListInstance();
-    private static FaceDownDeck faceDownDeckObject = new FaceDownDeck();
-    private static DiscardsDeck discardsDeckObject = DiscardsDeck.getObjectInstance();
-    private static FaceDownDeckCreator creator = FaceDownDeckCreator.getDeckCreatorObjectInstance();
-    private static FaceUpDeck faceUpDeck = FaceUpDeck.getObjectInstance();
+    // the face-down deck used by the console game
+    private static FaceDownDeck faceDownDeckObject = new FaceDownDeck(
+            FaceDownDeckCreator.getDeckCreatorObjectInstance(), DiscardsDeck.getObjectInstance(), System.out);
+
+    // instance variables
+    private CardRing<TrainCard> faceDownDeckList;
+    private DiscardsDeck discardsDeckObject;
+    private FaceDownDeckCreator creator;
+    private PrintStream out;
 
     /**
-     * private constructor
+     * constructor, used by DeckManager to give every game its own face-down deck
+     * @param creator   the creator that fills this deck with train cards
+     * @param discardsDeck  the discards deck of the same game, used to refill this deck
+     * @param out   where messages of this deck are printed
      */
-    private FaceDownDeck() {
+    FaceDownDeck(FaceDownDeckCreator creator, DiscardsDeck discardsDeck, PrintStream out) {
+        this.creator = creator;
+        this.discardsDeckObject = discardsDeck;
+        this.out = out;
+        faceDownDeckList = creator.getCardDeckList();
     }
 
     /**
@@ -36,6 +48,15 @@ public class FaceDownDeck implements ICardDeck, IDrawable, IFillable {
     }
 
 
+    /**
+     * get the cards in this deck, read only
+     * @return  the face-down cards from top to bottom
+     */
+    public List<TrainCard> getCards() {
+        return Collections.unmodifiableList(faceDownDeckList);
+    }
+
+
     /**
      * implements ICardDeck interface, get size of card deck
      * @return the number train cards in the face-down card deck
@@ -73,7 +94,7 @@ public class FaceDownDeck implements ICardDeck, IDrawable, IFillable {
         if (faceDownDeckList.isEmpty()) {
             fillDeck();
             if (faceDownDeckList.isEmpty()) {
-                System.out.println("The card deck is empty, cannot draw a card.");
+                out.println("The card deck is empty, cannot draw a card.");
             }
         }
         return faceDownDeckList.remove(index);
@@ -81,18 +102,18 @@ public class FaceDownDeck implements ICardDeck, IDrawable, IFillable {
 
 
     /**
-     * fill deck using all the cards in discards deck,
+     * fill deck using all the cards in discards deck once this deck runs out, the face-up deck doesn't need to be
+     * empty, its empty spots are filled from this deck afterwards,
      * make public when invoking fillDeck related tests in FaceDownDeckTest
      */
     @Override
     public void fillDeck() {
         if (discardsDeckObject.isEmpty()) {
-            System.out.println("Discards card deck is empty, cannot fill face-down deck. ");
+            out.println("Discards card deck is empty, cannot fill face-down deck. ");
         }
-        if (isEmpty() && faceUpDeck.isEmpty() && !discardsDeckObject.isEmpty()) {
+        if (isEmpty() && !discardsDeckObject.isEmpty()) {
             discardsDeckObject.shuffle();
-            faceDownDeckList.addAll(DiscardsDeck.getListInstance());
-            discardsDeckObject.clearDeck();
+            faceDownDeckList.moveAllFrom(discardsDeckObject.getList());
         }
     }
 
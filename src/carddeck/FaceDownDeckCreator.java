@@ -11,19 +11,22 @@ import java.util.*;
  */
 public class FaceDownDeckCreator implements ICardDeckCreator {
 
-    // enable only one instance of this class
-    private static List<TrainCard> faceDownDeck = new LinkedList<>();
-    private static FaceDownDeckCreator deckCreator = new FaceDownDeckCreator();
-    private static TrainCardCreator trainCardCreator =  TrainCardCreator.getCreatorInstance();
+    // the creator used by the console game
+    private static FaceDownDeckCreator deckCreator = new FaceDownDeckCreator(TrainCardCreator.getCreatorInstance());
 
-    // class variables
+    // instance variables
+    private CardRing<TrainCard> faceDownDeck;
+    private TrainCardCreator trainCardCreator;
     private Map<String, Integer> countingMap;
     private boolean existed;
 
     /**
-     * private constructor
+     * constructor, used by DeckManager to give every game its own face-down deck
+     * @param trainCardCreator  the train card creator this deck draws its random cards from
      */
-    private FaceDownDeckCreator() {
+    FaceDownDeckCreator(TrainCardCreator trainCardCreator) {
+        this.trainCardCreator = trainCardCreator;
+        faceDownDeck = new CardRing<>();
         countingMap = new HashMap<>();
         existed = false;
     }
@@ -45,11 +48,32 @@ public class FaceDownDeckCreator implements ICardDeckCreator {
         setExisted();
     }
 
+    /**
+     * fill the deck with the cards of a saved game instead of random cards, used by DeckManager.restore()
+     * @param cards     the face-down cards from top to bottom
+     * @throws      IllegalStateException       when the deck has been created
+     */
+    void restoreCardDeck(List<TrainCard> cards) {
+        if (existed) {
+            throw new IllegalStateException("The card deck already exists, cannot create more than one face-down deck.");
+        }
+        faceDownDeck.addAll(cards);
+        setExisted();
+    }
+
     /**
      * get the only instance of face-down deck
      * @return  all the face-down card in a list
      */
     public static List<TrainCard> getCardDeckListInstance() {
+        return deckCreator.getCardDeckList();
+    }
+
+    /**
+     * get the face-down deck list created by this creator
+     * @return  all the face-down card in a list
+     */
+    CardRing<TrainCard> getCardDeckList() {
         return faceDownDeck;
     }
 
@@ -74,27 +98,29 @@ public class FaceDownDeckCreator implements ICardDeckCreator {
             countingMap.put(color, 0);
         }
 
-        // within limit, update map
-        if ((!color.equals("rainbow") && countingMap.get(color) < NON_RAINBOW_CARD_NUM_PER_COLOR) ||
-                (color.equals("rainbow") && countingMap.get(color) < RAINBOW_CARD_NUM)) {
-            countingMap.put(color, countingMap.get(color) + 1);
-        } else {
-            // reach or exceed limit, exclude this color, create another random card, repeat the process
-            while ((trainCardCreator.hasAvailableColors()) &&
-                    (!color.equals("rainbow") && countingMap.get(color) >= NON_RAINBOW_CARD_NUM_PER_COLOR) ||
-                    (color.equals("rainbow") && countingMap.get(color) >= RAINBOW_CARD_NUM)) {
-                trainCardCreator.excludeColor(color);
-                trainCard = trainCardCreator.createACard();
-                color = trainCard.getColor();
-                }
-            // keep counting
-            if (trainCardCreator.hasAvailableColors()) {
-                countingMap.put(color, countingMap.get(color) + 1);
+        // reach or exceed limit, exclude this color, create another random card, repeat the process
+        while (countingMap.get(color) >= getColorLimit(color)) {
+            trainCardCreator.excludeColor(color);
+            trainCard = trainCardCreator.createACard();
+            color = trainCard.getColor();
+            if (!countingMap.containsKey(color)) {
+                countingMap.put(color, 0);
             }
         }
+        // keep counting
+        countingMap.put(color, countingMap.get(color) + 1);
         return trainCard;
     }
 
+    /**
+     * get the maximum number of cards of a color in the deck
+     * @param color     a String representation of a color
+     * @return  the number of rainbow cards for rainbow, the number of cards per color otherwise
+     */
+    private int getColorLimit(String color) {
+        return color.equals("rainbow") ? RAINBOW_CARD_NUM : NON_RAINBOW_CARD_NUM_PER_COLOR;
+    }
+
     /**
      * set existed to true after creating deck for the first time
      */
@@ -2,30 +2,40 @@ package carddeck;
 
 import card.TrainCard;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 
 public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable {
 
-    // class variable
-    private static List<TrainCard> faceUpDeckList = new ArrayList<>();
-    private static FaceUpDeck faceUpDeckObject = new FaceUpDeck();
-    private static FaceDownDeck faceDownDeckObject = FaceDownDeck.getObjectInstance();
-    private static DiscardsDeck discardsDeckObject = DiscardsDeck.getObjectInstance();
+    // the face-up deck used by the console game
+    private static FaceUpDeck faceUpDeckObject = new FaceUpDeck(
+            FaceDownDeck.getObjectInstance(), DiscardsDeck.getObjectInstance(), System.out);
 
 
     // constants
     private final int CARD_NUM = 5;
 
     // instance variable
+    private List<TrainCard> faceUpDeckList;
+    private FaceDownDeck faceDownDeckObject;
+    private DiscardsDeck discardsDeckObject;
+    private PrintStream out;
     private int locoCardNum;
     private boolean existed;
     private int size;
 
     /**
-     * private constructor, fill deck with 5 cards in instantiation
+     * constructor, used by DeckManager to give every game its own face-up deck
+     * @param faceDownDeck  the face-down deck of the same game, where replacement cards are drawn from
+     * @param discardsDeck  the discards deck of the same game, where discarded cards go
+     * @param out   where messages of this deck are printed
      */
-    private FaceUpDeck() {
+    FaceUpDeck(FaceDownDeck faceDownDeck, DiscardsDeck discardsDeck, PrintStream out) {
+        faceUpDeckList = new ArrayList<>();
+        this.faceDownDeckObject = faceDownDeck;
+        this.discardsDeckObject = discardsDeck;
+        this.out = out;
         locoCardNum = 0;
         existed = false;
         size = 0;
@@ -55,6 +65,13 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
      * @return return a color string of the card at the given index
      */
     public static String getColorByIndex(int index) {
+        return faceUpDeckObject.getColorAt(index);
+    }
+
+    /** get color by index of this deck
+     * @return return a color string of the card at the given index, null if that spot is empty
+     */
+    public String getColorAt(int index) {
         if (faceUpDeckList.get(index) != null) {
             return faceUpDeckList.get(index).getColor();
         }
@@ -84,17 +101,45 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
     @Override
     public void createCardDeck() {
         if (!existed) {
-            faceUpDeckObject.fillDeck();
+            fillDeck();
             existed = true;
         }
     }
 
+    /**
+     * put the cards of a saved game on the spots, used by DeckManager.restore()
+     * @param cards     the cards on the 5 spots, null for an empty spot
+     * @throws IllegalStateException    when the deck has been filled
+     */
+    void restoreCardDeck(List<TrainCard> cards) {
+        if (existed) {
+            throw new IllegalStateException("The face-up deck has been filled, cannot restore it.");
+        }
+        for (TrainCard card : cards) {
+            faceUpDeckList.add(card);
+            if (card != null) {
+                setLocoCardNum(true, card);
+                increaseSize();
+            }
+        }
+        existed = true;
+    }
+
     /**
      * get and display the cards in the deck
      *
      * @return FaceUpDeckList
      */
     public static List<TrainCard> getListInstance() {
+        return faceUpDeckObject.getCards();
+    }
+
+    /**
+     * get the cards in this deck, empty spots are null
+     *
+     * @return FaceUpDeckList
+     */
+    public List<TrainCard> getCards() {
         return faceUpDeckList;
     }
 
@@ -128,7 +173,7 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
     public void discardAll() {
         // if not full, cannot discard
         if (has3OrMoreLocoCard() && isFull()) {
-            System.out.println("More than 3 locomotive cards on the deck. Cards are being discarded. ");
+            out.println("More than 3 locomotive cards on the deck. Cards are being discarded. ");
             for (int i = 0; i < CARD_NUM; i++) {
                 discard(i);
             }
@@ -191,12 +236,12 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
     @Override
     public void fillDeck() {
         if (faceDownDeckObject.isEmpty()) {
-            System.out.println("Face-down deck is empty.");
+            out.println("Face-down deck is empty.");
         } else {
             // face down not empty and this empty
             if (this.isEmpty()) {
-                // empty deck, fill up all five spots
-                for (int i = 0; i < CARD_NUM; i++) {
+                // empty deck, fill up all five spots, or as many as the face-down deck has
+                for (int i = 0; i < CARD_NUM && !faceDownDeckObject.isEmpty(); i++) {
                     addACard(i);
                 }
                 // recursion discard and fill
@@ -208,6 +253,17 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
         }
     }
 
+    /**
+     * fill the spots left empty while the face-down deck was exhausted, as long as the face-down deck has cards
+     */
+    public void fillEmptySpots() {
+        for (int i = 0; i < faceUpDeckList.size() && !faceDownDeckObject.isEmpty(); i++) {
+            if (faceUpDeckList.get(i) == null) {
+                addACard(i);
+            }
+        }
+    }
+
     /**
      * add a card to the given position to face-up deck
      *
@@ -226,8 +282,8 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
         TrainCard currCard = faceDownDeckObject.drawACard(DEFAULT_DRAWING_POS);
         setLocoCardNum(true, currCard);
 
-        // different adding behavior
-        if (!existed) {
+        // different adding behavior, the list grows up to 5 spots when the deck is first filled
+        if (index >= faceUpDeckList.size()) {
             faceUpDeckList.add(currCard);
         } else {
             faceUpDeckList.set(index, currCard);
@@ -269,10 +325,10 @@ public class FaceUpDeck implements ICardDeck, IDiscardable, IDrawable, IFillable
      * display the deck by printing out each card
      */
     public void display() {
-        System.out.println("The following " + faceUpDeckList.size() + " cards are available. ");
+        out.println("The following " + faceUpDeckList.size() + " cards are available. ");
         if (!faceUpDeckList.isEmpty()) {
             for (int i = 0; i < faceUpDeckList.size(); i++) {
-                System.out.println("    Choice " + i + " " + faceUpDeckList.get(i).getColor());
+                out.println("    Choice " + i + " " + faceUpDeckList.get(i).getColor());
             }
         }
     }
@@ -5,30 +5,45 @@ import card.TaskCard;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * This class represents the task card deck, the deck has shuffle, draw card, and discard behaviors
  */
 public class TaskCardDeck implements ICardDeck, IShuffleable, IDiscardable {
 
-    private static List<TaskCard> taskCardDeckList = TaskCardDeckCreator.getTaskCardDeck();
-    private static TaskCardDeck taskCardDeckObject = new TaskCardDeck();
-    private static TaskCardDeckCreator creator = TaskCardDeckCreator.getCreatorInstance();
+    // the task card deck used by the console game
+    private static TaskCardDeck taskCardDeckObject = new TaskCardDeck(TaskCardDeckCreator.getCreatorInstance());
 
     // constants
     private final int DEAL_CARD_NUM = 3;
 
     // instance variable
+    private CardRing<TaskCard> taskCardDeckList;
+    private TaskCardDeckCreator creator;
     private List<TaskCard> dealt3Cards;
+    private Random rand;
 
     /**
-     * private constructor, uses Singleton pattern
+     * constructor, used by the console game
+     * @param creator   the creator that fills this deck with task cards
      */
-    private TaskCardDeck() {
+    TaskCardDeck(TaskCardDeckCreator creator) {
+        this(creator, new Random());
+    }
+
+    /**
+     * constructor, used by DeckManager to give every game its own task card deck
+     * @param creator   the creator that fills this deck with task cards
+     * @param rand  the random generator of the game, used to shuffle the deck
+     */
+    TaskCardDeck(TaskCardDeckCreator creator, Random rand) {
+        this.creator = creator;
+        this.rand = rand;
+        taskCardDeckList = creator.getDeckList();
         // initialize its length to be 3
-        dealt3Cards = new LinkedList<>();
+        dealt3Cards = new ArrayList<>(DEAL_CARD_NUM);
         for (int i = 0; i < DEAL_CARD_NUM; i++) {
             dealt3Cards.add(null);
         }
@@ -59,6 +74,25 @@ public class TaskCardDeck implements ICardDeck, IShuffleable, IDiscardable {
     }
 
 
+    /**
+     * get the cards in this deck, read only
+     * @return  the task cards from top to bottom, not including the dealt cards
+     */
+    public List<TaskCard> getCards() {
+        return Collections.unmodifiableList(taskCardDeckList);
+    }
+
+    /**
+     * put back the dealt cards of a saved game, used by DeckManager.restore()
+     * @param cards     3 task cards, null for a spot that holds no card
+     */
+    void restoreDealtCards(List<TaskCard> cards) {
+        for (int i = 0; i < DEAL_CARD_NUM; i++) {
+            dealt3Cards.set(i, cards.get(i));
+        }
+    }
+
+
     /**
      * implements ICardDeck interface, get size of task card deck
      */
@@ -104,7 +138,7 @@ public class TaskCardDeck implements ICardDeck, IShuffleable, IDiscardable {
      */
     @Override
     public void shuffle() {
-        Collections.shuffle(taskCardDeckList);
+        taskCardDeckList.shuffle(rand);
     }
 
 
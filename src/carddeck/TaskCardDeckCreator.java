@@ -10,21 +10,29 @@ import java.util.stream.IntStream;
 public class TaskCardDeckCreator implements ICardDeckCreator {
 
     // class variables
-    private static List<TaskCard> taskCardDeck = new LinkedList<>();
-    private static TaskCardDeckCreator creator = new TaskCardDeckCreator();
     private static List<String> tasks = TaskFileReader.getTasks();
-
-    // constants
-    private static List<Integer> RANGE = IntStream.range(0, TOTAL_TASK_CARD_NUM).boxed().collect(Collectors.toList());
+    private static TaskCardDeckCreator creator = new TaskCardDeckCreator();
 
     // instance variables
+    private CardRing<TaskCard> taskCardDeck = new CardRing<>();
+    private List<Integer> range = IntStream.range(0, TOTAL_TASK_CARD_NUM).boxed().collect(Collectors.toList());
     private Set<Integer> usedIds = new HashSet<>();
     private boolean existed = false;
+    private Random rand;
 
     /**
-     * private constructor
+     * constructor, used by the console game
      */
-    private TaskCardDeckCreator() {
+    TaskCardDeckCreator() {
+        this(new Random());
+    }
+
+    /**
+     * constructor, used by DeckManager to give every game its own task card deck
+     * @param rand  the random generator of the game, decides the order of the cards
+     */
+    TaskCardDeckCreator(Random rand) {
+        this.rand = rand;
     }
 
 
@@ -39,7 +47,7 @@ public class TaskCardDeckCreator implements ICardDeckCreator {
             throw new IllegalStateException("Deck exists, cannot create deck.");
         }
         shuffledRange();
-        for (int i : RANGE) {
+        for (int i : range) {
             TaskCard currCard = createACard(i);
             setTaskCardId(i, currCard);
             taskCardDeck.add(currCard);
@@ -48,11 +56,36 @@ public class TaskCardDeckCreator implements ICardDeckCreator {
     }
 
 
+    /**
+     * fill the deck with the cards of a saved game instead of shuffled cards, used by DeckManager.restore()
+     * @param cards     the task cards from top to bottom
+     * @throws      IllegalStateException   when the deck has been created
+     */
+    void restoreCardDeck(List<TaskCard> cards) {
+        if (isExisted()) {
+            throw new IllegalStateException("Deck exists, cannot create deck.");
+        }
+        for (TaskCard card : cards) {
+            usedIds.add(card.getCardNum());
+            taskCardDeck.add(card);
+        }
+        setExisted();
+    }
+
+
     /**
      * provides public access to the only instance of task card deck
      * @return  the only instance of a list of ICard
      */
     public static List<TaskCard> getTaskCardDeck() {
+        return creator.getDeckList();
+    }
+
+    /**
+     * get the task card deck list created by this creator
+     * @return  a list of task cards
+     */
+    CardRing<TaskCard> getDeckList() {
         return taskCardDeck;
     }
 
@@ -83,11 +116,11 @@ public class TaskCardDeckCreator implements ICardDeckCreator {
      * used in createCardDeck()
      */
     public void shuffledRange() {
-        Collections.shuffle(RANGE);
+        Collections.shuffle(range, rand);
     }
 
     public List<Integer> getRange() {
-        return RANGE;
+        return range;
     }
 
 
@@ -31,7 +31,7 @@ public class TaskFileReader {
         fileScanner = new Scanner(taskFile);
     }
 
-    public static List<String> getTasks() {
+    public static synchronized List<String> getTasks() {
         createTaskList();
         return tasksList;
     }
@@ -1,17 +1,57 @@
 package city;
 
+import java.util.Objects;
+
 public class City {
+
+    public static final int NO_ID = -1; // a city not interned by CityNames
+
     private String cityName;
+    private int cityId;
 
     public City(String cityName) {
+        this(cityName, NO_ID);
+    }
+
+    /**
+     * constructor, used by CityNames to intern a city with a dense id
+     * @param cityName  the name of the city
+     * @param cityId    0 to the number of interned cities (exclusive)
+     */
+    City(String cityName, int cityId) {
         this.cityName = cityName;
+        this.cityId = cityId;
     }
 
     public String getCityName() {
         return cityName;
     }
 
-    public boolean equals(City other) {
-        return (cityName.equals(other.getCityName()));
+    /**
+     * get the dense id of this city, the same for every city object with this name once the name is interned
+     * @return  the id given by CityNames, NO_ID if this object was not created by CityNames
+     */
+    public int getCityId() {
+        return cityId;
+    }
+
+    /**
+     * two cities are equal if they have the same name, whether they were created by CityNames or not
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return cityName.equals(((City) o).cityName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(cityName);
+    }
+
+    @Override
+    public String toString() {
+        return cityName;
     }
 }
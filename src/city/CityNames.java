@@ -1,22 +1,38 @@
 package city;
 
-import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CityNames {
 
-    private static Map<String, City> cityMap = new HashMap<>();
+    // shared by all games, cities never change once created, a city's id is its index in the list
+    private static Map<String, City> cityMap = new ConcurrentHashMap<>();
+    private static List<City> cityList = new CopyOnWriteArrayList<>();
+    private static Map<String, City> cityMapIgnoreCase = new ConcurrentHashMap<>(); // by lower case name, first wins
     private static CityNames cityNames = new CityNames();
 
     private CityNames() {}
 
+    /**
+     * intern a city, the first city of a name gets the next dense id
+     * @param cityName  the name of the city
+     * @return  the only city object of this name
+     */
     public City addToCityNames(String cityName) {
-        if (!exists(cityName)) {
-            City city = new City(cityName);
-            cityMap.put(cityName, city);
+        City city = cityMap.get(cityName);
+        if (city != null) {
             return city;
-        } else {
-            return cityMap.get(cityName);
+        }
+        synchronized (cityList) {
+            return cityMap.computeIfAbsent(cityName, name -> {
+                City newCity = new City(name, cityList.size());
+                cityList.add(newCity);
+                cityMapIgnoreCase.putIfAbsent(name.toLowerCase(Locale.ROOT), newCity);
+                return newCity;
+            });
         }
     }
 
@@ -31,6 +47,40 @@ public class CityNames {
         return null;
     }
 
+    /**
+     * get a city by its name in any case, e.g. a name typed by a player
+     * @param cityName  the name of the city in any case
+     * @return  the city of exactly this name if there is one, the first city of this name in another case otherwise,
+     *          null if no city has this name
+     */
+    public City getCityByNameIgnoreCase(String cityName) {
+        City city = cityMap.get(cityName);
+        if (city == null) {
+            city = cityMapIgnoreCase.get(cityName.toLowerCase(Locale.ROOT));
+        }
+        return city;
+    }
+
+    /**
+     * get a city by its dense id
+     * @param cityId    0 to getNumOfCities() (exclusive)
+     * @return  the city with this id
+     * @throws IndexOutOfBoundsException    when no city has this id
+     */
+    public City getCityById(int cityId) { return cityList.get(cityId); }
+
+    /**
+     * get the dense id of a city name, interning it if needed
+     * @param cityName  the name of the city
+     * @return  the id of the city
+     */
+    public int getCityId(String cityName) { return addToCityNames(cityName).getCityId(); }
+
+    /**
+     * get the number of interned cities, every id is smaller than this number
+     */
+    public int getNumOfCities() { return cityList.size(); }
+
     public Map<String, City> getCityMap() { return cityMap; }
 
     public boolean exists(String cityName) {
@@ -0,0 +1,85 @@
+package color;
+
+import java.util.*;
+
+/**
+ * This enum lists the colors of train cards and routes. The nine card colors come first, in the order colors are
+ * iterated everywhere in the game, so an array indexed by ordinal() holds a count per card color; GREY is only a route
+ * color, a grey route is claimed with cards of any one color.
+ */
+public enum TrainColor {
+    PURPLE("purple"),
+    BLUE("blue"),
+    RED("red"),
+    YELLOW("yellow"),
+    RAINBOW("rainbow"),
+    GREEN("green"),
+    BLACK("black"),
+    ORANGE("orange"),
+    WHITE("white"),
+    GREY("grey");
+
+    public static final int NUM_OF_CARD_COLORS = 9; // the card colors are ordinals 0 to 8
+
+    private static final TrainColor[] VALUES = values();
+    private static final Map<String, TrainColor> COLORS_BY_NAME = new HashMap<>();
+    private static final List<TrainColor> CARD_COLORS = List.of(Arrays.copyOf(VALUES, NUM_OF_CARD_COLORS));
+
+    static {
+        for (TrainColor color : VALUES) {
+            COLORS_BY_NAME.put(color.name, color);
+        }
+    }
+
+    private final String name;
+
+    TrainColor(String name) {
+        this.name = name;
+    }
+
+    /**
+     * get the name of this color as written on cards and in the routes file, in all small letters
+     */
+    public String getName() { return name; }
+
+    /**
+     * check if cards can have this color, every color but grey
+     */
+    public boolean isCardColor() { return this != GREY; }
+
+    /**
+     * get a color by its name
+     * @param name  a color name in all small letters
+     * @return  the color
+     * @throws IllegalArgumentException     when no color has this name
+     */
+    public static TrainColor of(String name) {
+        TrainColor color = find(name);
+        if (color == null) {
+            throw new IllegalArgumentException("Unknown color: " + name + ".");
+        }
+        return color;
+    }
+
+    /**
+     * find a color by its name
+     * @param name  a color name in all small letters
+     * @return  the color, null if no color has this name
+     */
+    public static TrainColor find(String name) { return COLORS_BY_NAME.get(name); }
+
+    /**
+     * check if a name is the name of a color, of a card or of a route
+     */
+    public static boolean contains(String name) { return COLORS_BY_NAME.containsKey(name); }
+
+    /**
+     * get a color by its ordinal
+     */
+    public static TrainColor get(int ordinal) { return VALUES[ordinal]; }
+
+    /**
+     * get the nine colors of train cards in order, read only
+     */
+    public static List<TrainColor> getCardColors() { return CARD_COLORS; }
+}
@@ -5,7 +5,7 @@ import card.TrainCard;
 import carddeck.*;
 import city.City;
 import city.CityNames;
-import color.RouteColors;
+import color.TrainColor;
 import player.ComputerPlayer;
 import player.Player;
 import player.PlayersCreator;
@@ -213,7 +213,6 @@ public class Game {
         }
     }
 
-
     private void humanDrawFaceUp(Scanner scanner, Player p) {
         System.out.print("Input a number from 0(inclusive) to " + faceUpDeck.getSize()
                 + "(exclusive): " );
@@ -360,7 +359,7 @@ public class Game {
         route.displayColors();
         System.out.print("Type in a color of your choice: ");
         String routeColor = scanner.next().strip();
-        while (!RouteColors.contains(routeColor) || !route.getColors().contains(routeColor)) {
+        while (!TrainColor.contains(routeColor) || !route.getColors().contains(routeColor)) {
             System.out.print("Invalid color, try again: ");
             routeColor = scanner.next();
         }
@@ -448,12 +447,15 @@ public class Game {
         int maxPoint = 0;
         String winnerName = "";
 
-        // TODO: play last turn, implements longest path finder
         if (game.isLastTurn()) {
             for (Player p : game.players) {
                 p.calculateUnfinishedTasks(); // deal with unfinished tasks, deduct points
+            }
+            Player.addLongestPathBonus(game.players);
+            for (Player p : game.players) {
                 if (p.getPoints() > maxPoint) {
                     maxPoint = p.getPoints();
+                    winnerName = p.getPlayerName();
                 }
             }
         }
@@ -0,0 +1,360 @@
+package game;
+
+import card.TaskCard;
+import card.TrainCard;
+import carddeck.DeckManager;
+import carddeck.TaskCardDeckCreator;
+import city.City;
+import color.TrainColor;
+import game.state.Board;
+import game.state.GameState;
+import player.ComputerPlayer;
+import player.Player;
+import player.PlayersCreator;
+import route.Route;
+import route.RouteFileReader;
+import route.RouteFinder;
+import route.graph.Graph;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class runs a game between computer players without any console input or pauses. Unlike Game, an engine owns
+ * its decks, players, routes, graph and route finder, nothing is shared with other engines, so many games can be
+ * played at the same time in one JVM.
+ */
+public class GameEngine {
+
+    private static final int DEFAULT_DIFF_LEVEL = 1;
+    public static final int MAX_TURNS = 1000; // stop a game that makes no progress
+
+    // attributes
+    private long seed;
+    private boolean lastTurn;
+    private int turnCount;
+    private PrintStream out;
+
+    // decks and players
+    private DeckManager manager;
+    private List<Player> players;
+
+    // graph and routes
+    private List<Route<City>> allRoutes;
+    private Graph<City, Route<City>> graph;
+    private RouteFinder finder;
+
+    // the cards, routes and players of this game as ids, used by game states
+    private Board board;
+
+    /**
+     * constructor, create a silent game of computer players in the default difficulty level with a random seed
+     * @param playerNum     the number of computer players, 2 - 5
+     */
+    public GameEngine(int playerNum) {
+        this(playerNum, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * constructor, create a silent game of computer players in the default difficulty level
+     * @param playerNum     the number of computer players, 2 - 5
+     * @param seed  the seed of all the random decisions in the game, the same seed plays the same game
+     */
+    public GameEngine(int playerNum, long seed) {
+        this(playerNum, DEFAULT_DIFF_LEVEL, new PrintStream(OutputStream.nullOutputStream()), seed);
+    }
+
+    /**
+     * constructor, with a random seed
+     * @param playerNum     the number of computer players, 2 - 5
+     * @param difficultyLevel   1 - 3, the higher the difficulty level, the more intelligent the robots are
+     * @param out   where messages of the game are printed
+     * @throws  IllegalArgumentException    when the number of players is not within 2 - 5
+     */
+    public GameEngine(int playerNum, int difficultyLevel, PrintStream out) {
+        this(playerNum, difficultyLevel, out, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * constructor, the decks and every player get their own generator split from one generator made of the seed
+     * @param playerNum     the number of computer players, 2 - 5
+     * @param difficultyLevel   1 - 3, the higher the difficulty level, the more intelligent the robots are
+     * @param out   where messages of the game are printed
+     * @param seed  the seed of all the random decisions in the game, the same seed plays the same game
+     * @throws  IllegalArgumentException    when the number of players is not within 2 - 5
+     */
+    public GameEngine(int playerNum, int difficultyLevel, PrintStream out, long seed) {
+        if (playerNum < 2 || playerNum > 5) {
+            throw new IllegalArgumentException("Number of players should be between 2 and 5.");
+        }
+        this.out = out;
+        this.seed = seed;
+        lastTurn = false;
+        turnCount = 0;
+
+        // create decks and players
+        SplittableRandom random = new SplittableRandom(seed);
+        manager = new DeckManager(out, random);
+        players = PlayersCreator.createComputerPlayers(playerNum, difficultyLevel, manager, out, random);
+
+        // graph and routes
+        allRoutes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        graph = new Graph<>(allRoutes);
+        finder = new RouteFinder(graph);
+        for (Player p : players) {
+            ((ComputerPlayer) p).setClaimableRoutes(getAllRoutes());
+        }
+
+        // no card has been dealt yet, every train card is in the face-down, face-up or discards deck
+        List<TrainCard> trainCards = new ArrayList<>(manager.getFaceDownDeck().getCards());
+        for (TrainCard card : manager.getFaceUpDeck().getCards()) {
+            if (card != null) {
+                trainCards.add(card);
+            }
+        }
+        trainCards.addAll(manager.getDiscardsDeck().getCards());
+        List<String> playerNames = new ArrayList<>();
+        for (Player p : players) {
+            playerNames.add(p.getPlayerName());
+        }
+        board = new Board(playerNames, difficultyLevel, trainCards, manager.getTaskCardDeck().getCards(), allRoutes);
+    }
+
+    /**
+     * constructor, rebuild a game from a saved state with brand new cards, players and routes,
+     * the shuffle seed of the state becomes the seed of the rebuilt game
+     * @param state     a state of a game between two turns
+     * @param out   where messages of the game are printed
+     */
+    private GameEngine(GameState state, PrintStream out) {
+        this.out = out;
+        seed = state.getShuffleSeed();
+        SplittableRandom random = new SplittableRandom(seed);
+        board = state.getBoard();
+        lastTurn = state.isLastTurn();
+        turnCount = state.getTurnCount();
+
+        // cards
+        List<TrainCard> trainCards = new ArrayList<>();
+        for (int i = 0; i < board.getNumOfTrainCards(); i++) {
+            TrainCard card = new TrainCard(TrainColor.get(board.getTrainCardColor(i)));
+            card.setCardId(i);
+            trainCards.add(card);
+        }
+        List<TaskCard> taskCards = new ArrayList<>();
+        for (int i = 0; i < board.getNumOfTaskCards(); i++) {
+            TaskCard card = TaskCardDeckCreator.getCreatorInstance().createACard(i);
+            card.setCardId(i);
+            taskCards.add(card);
+        }
+
+        // decks
+        List<TrainCard> faceDownCards = new ArrayList<>();
+        for (int i = 0; i < state.getFaceDownSize(); i++) {
+            faceDownCards.add(trainCards.get(state.getFaceDownCard(i)));
+        }
+        List<TrainCard> faceUpCards = new ArrayList<>();
+        for (int i = 0; i < GameState.FACE_UP_NUM; i++) {
+            int card = state.getFaceUpCard(i);
+            faceUpCards.add(card == GameState.NO_CARD ? null : trainCards.get(card));
+        }
+        List<TrainCard> discards = new ArrayList<>();
+        for (int i = 0; i < state.getDiscardsSize(); i++) {
+            discards.add(trainCards.get(state.getDiscard(i)));
+        }
+        List<TaskCard> taskDeckCards = new ArrayList<>();
+        for (int i = 0; i < state.getTaskDeckSize(); i++) {
+            taskDeckCards.add(taskCards.get(state.getTaskDeckCard(i)));
+        }
+        List<TaskCard> dealtTaskCards = new ArrayList<>();
+        for (int i = 0; i < GameState.DEALT_TASK_NUM; i++) {
+            int card = state.getDealtTask(i);
+            dealtTaskCards.add(card == GameState.NO_CARD ? null : taskCards.get(card));
+        }
+        manager = DeckManager.restore(faceDownCards, faceUpCards, discards, taskDeckCards, dealtTaskCards, out,
+                random);
+
+        // graph and routes
+        allRoutes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        graph = new Graph<>(allRoutes);
+        finder = new RouteFinder(graph);
+
+        // players
+        players = new ArrayList<>();
+        for (int i = 0; i < board.getNumOfPlayers(); i++) {
+            ComputerPlayer p = new ComputerPlayer(board.getPlayerName(i), board.getDifficultyLevel(), manager, out,
+                    new Random(random.nextLong()));
+            p.setPlayerId("p" + i);
+            p.setClaimableRoutes(getAllRoutes());
+
+            List<TrainCard> hand = new ArrayList<>();
+            for (TrainCard card : trainCards) {
+                if (state.getTrainCardOwner(card.getCardNum()) == i) {
+                    hand.add(card);
+                }
+            }
+            Map<TaskCard, Boolean> ownedTaskCards = new LinkedHashMap<>();
+            for (TaskCard card : taskCards) {
+                if (state.getTaskOwner(card.getCardNum()) == i) {
+                    ownedTaskCards.put(card, state.isTaskCompleted(card.getCardNum()));
+                }
+            }
+            List<Route<City>> ownedRoutes = new ArrayList<>();
+            for (int j = 0; j < allRoutes.size(); j++) {
+                Route<City> route = allRoutes.get(j);
+                for (int k = 0; k < route.getColors().size(); k++) {
+                    if (state.getRouteOwner(j, k) == i) {
+                        route.setOwner(p.getPlayerId(), k);
+                        ownedRoutes.add(route);
+                    }
+                }
+            }
+            p.restore(state.getPoints(i), state.getTrainsLeft(i), hand, ownedTaskCards, ownedRoutes);
+            players.add(p);
+        }
+    }
+
+    /**
+     * rebuild a silent game from a saved state, the rebuilt game can be played on from where the state was taken
+     * @param state     a state of a game between two turns
+     * @return  a new game in the position of the state
+     * @throws IllegalArgumentException     when the state is in the middle of a turn
+     */
+    public static GameEngine fromState(GameState state) {
+        return fromState(state, new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * rebuild a game from a saved state, the rebuilt game can be played on from where the state was taken
+     * @param state     a state of a game between two turns
+     * @param out   where messages of the game are printed
+     * @return  a new game in the position of the state
+     * @throws IllegalArgumentException     when the state is in the middle of a turn
+     */
+    public static GameEngine fromState(GameState state, PrintStream out) {
+        if (state.getCurrentPlayer() != 0 || state.getTurnPhase() != GameState.START) {
+            throw new IllegalArgumentException("Only a state between two turns can be rebuilt.");
+        }
+        return new GameEngine(state, out);
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public long getSeed() { return seed; }
+
+    public boolean isLastTurn() { return lastTurn; }
+
+    public int getTurnCount() { return turnCount; }
+
+    public List<Player> getPlayers() { return Collections.unmodifiableList(players); }
+
+    public DeckManager getDeckManager() { return manager; }
+
+    public List<Route<City>> getAllRoutes() { return Collections.unmodifiableList(allRoutes); }
+
+    public Graph<City, Route<City>> getGraph() { return graph; }
+
+    public RouteFinder getRouteFinder() { return finder; }
+
+    public Board getBoard() { return board; }
+
+    /**
+     * take a compact snapshot of this game, should be called between two turns
+     * @return  a new state of this game
+     */
+    public GameState captureState() {
+        return GameState.capture(this);
+    }
+
+    /**
+     * check if the game has ended, either a player triggered the last turn or the game reached the turn limit
+     * @return true if no more turns should be played, false otherwise
+     */
+    public boolean isOver() {
+        return lastTurn || turnCount >= MAX_TURNS;
+    }
+
+    /*--------------------------------- game flow --------------------------------------------------------------*/
+
+    /**
+     * play a whole game, from setting up to calculating final points
+     * @return  the players of this game in their seating order, with final points
+     */
+    public List<Player> play() {
+        setUp();
+        while (!isOver()) {
+            playATurn();
+        }
+        finish();
+        return getPlayers();
+    }
+
+    /**
+     * game set up
+     * deal 4 trainCards to each player,
+     * deal 3 task cards to each player and player should choose at least 2 cards to keep
+     */
+    public void setUp() {
+        for (Player p : players) {
+            p.getStartingHand();
+            List<TaskCard> taskCards = p.drawTaskCards();
+            Set<Integer> cardIndices = p.generateCardIndices();
+            p.chooseTaskCards(taskCards, cardIndices);
+        }
+        manager.manageDecks();
+    }
+
+    /**
+     * play a turn, every player plays once in the seating order
+     */
+    public void playATurn() {
+        for (Player p : players) {
+            p.setAbleToDrawTrainCard();
+            p.setAbleToDrawRainbowCard();
+            if (!manager.getFaceUpDeck().isEmpty() || !manager.getFaceDownDeck().isEmpty()) {
+                ((ComputerPlayer) p).play();
+            }
+            manager.manageDecks();
+        }
+        setLastTurn();
+        turnCount++;
+    }
+
+    /**
+     * deduct the points of unfinished tasks from every player, then give the longest path bonus
+     */
+    public void finish() {
+        for (Player p : players) {
+            p.calculateUnfinishedTasks();
+        }
+        Player.addLongestPathBonus(players);
+    }
+
+    /**
+     * get the player with the most points, the player seated first wins a tie
+     * @return  the winner of this game
+     */
+    public Player getWinner() {
+        Player winner = players.get(0);
+        for (Player p : players) {
+            if (p.getPoints() > winner.getPoints()) {
+                winner = p;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * set the lastTurn variable as true when one of the players has 2 or fewer train cards
+     */
+    private void setLastTurn() {
+        for (Player p : players) {
+            if (p.getNumOfTrainLeft() <= 2) {
+                lastTurn = true;
+                break;
+            }
+        }
+    }
+}
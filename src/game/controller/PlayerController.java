@@ -0,0 +1,21 @@
+package game.controller;
+
+import game.state.GameState;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface is the decision maker of a seat in a TurnLoop, a computer player, a remote human or anything else
+ * that picks moves. A decision is returned as a future, so a controller can think on its own threads, wait for input
+ * or ask over the network without holding up the turn loop, which plays a default move when the deadline passes.
+ */
+public interface PlayerController {
+
+    /**
+     * choose the next move of the current player
+     * @param state     a copy of the game state, the controller may keep it and read it on any thread
+     * @param moves     the legal moves encoded by Move, a copy the controller may keep
+     * @return  a future completed with one of the legal moves
+     */
+    CompletableFuture<Integer> decide(GameState state, int[] moves);
+}
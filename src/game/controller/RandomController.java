@@ -0,0 +1,27 @@
+package game.controller;
+
+import game.state.GameState;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class is a computer controller that picks a random legal move, on the thread of the turn loop.
+ */
+public class RandomController implements PlayerController {
+
+    private final Random rand;
+
+    /**
+     * constructor
+     * @param rand  the random generator the moves are picked with
+     */
+    public RandomController(Random rand) {
+        this.rand = rand;
+    }
+
+    @Override
+    public CompletableFuture<Integer> decide(GameState state, int[] moves) {
+        return CompletableFuture.completedFuture(moves[rand.nextInt(moves.length)]);
+    }
+}
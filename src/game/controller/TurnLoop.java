@@ -0,0 +1,155 @@
+package game.controller;
+
+import game.state.GameState;
+import game.state.Move;
+import game.state.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class plays a game state with a controller for every seat. Each decision has a deadline: a controller that is
+ * too late, fails, or answers with an illegal move gets the default move instead, so one slow or broken controller
+ * never stalls the game. A late answer is ignored, the controller only ever sees copies of the state.
+ */
+public class TurnLoop {
+
+    private static final int NO_MOVE = -1;
+
+    private final GameState state;
+    private final List<PlayerController> controllers;
+    private final long deadlineMillis;
+    private final int[] moves;
+    private final int[] numOfDefaults; // moves played for each player because of a late, failed or illegal answer
+
+    /**
+     * constructor
+     * @param state     the game state to play on, changed by the loop
+     * @param controllers   a controller for every player, in the seating order
+     * @param deadlineMillis    how long a controller has for each decision, in milliseconds
+     * @throws IllegalArgumentException     when the number of controllers doesn't match the number of players,
+     *                                      or the deadline is not positive
+     */
+    public TurnLoop(GameState state, List<PlayerController> controllers, long deadlineMillis) {
+        if (controllers.size() != state.getNumOfPlayers()) {
+            throw new IllegalArgumentException("Every player needs exactly one controller.");
+        }
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("The deadline has to be a positive number of milliseconds.");
+        }
+        this.state = state;
+        this.controllers = new ArrayList<>(controllers);
+        this.deadlineMillis = deadlineMillis;
+        moves = new int[MoveGenerator.getMaxMoves(state.getBoard())];
+        numOfDefaults = new int[state.getNumOfPlayers()];
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public GameState getState() { return state; }
+
+    public long getDeadlineMillis() { return deadlineMillis; }
+
+    /**
+     * get the number of default moves a player got instead of its own decision
+     */
+    public int getNumOfDefaults(int player) { return numOfDefaults[player]; }
+
+    /*--------------------------------- game flow --------------------------------------------------------------*/
+
+    /**
+     * play until the game is over, then deduct the points of unfinished tasks
+     * @return  the final state
+     */
+    public GameState play() {
+        while (!state.isOver()) {
+            playATurn();
+        }
+        state.finish();
+        return state;
+    }
+
+    /**
+     * play the whole game on an executor, the caller is free to do other work meanwhile
+     * @param executor  the executor running the turn loop
+     * @return  a future of the final state
+     */
+    public CompletableFuture<GameState> playAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::play, executor);
+    }
+
+    /**
+     * play a turn, every player plays once in the seating order
+     */
+    public void playATurn() {
+        int turn = state.getTurnCount();
+        while (state.getTurnCount() == turn) {
+            playAMove();
+        }
+    }
+
+    /**
+     * ask the current player's controller for a move and apply it, or the default move if the controller
+     * doesn't come up with a legal move in time
+     */
+    public void playAMove() {
+        int player = state.getCurrentPlayer();
+        int num = MoveGenerator.generate(state, moves);
+        int[] legalMoves = Arrays.copyOf(moves, num);
+
+        Integer decision;
+        try {
+            decision = controllers.get(player).decide(state.copy(), legalMoves)
+                    .copy()
+                    .completeOnTimeout(NO_MOVE, deadlineMillis, TimeUnit.MILLISECONDS)
+                    .exceptionally(t -> NO_MOVE)
+                    .join();
+        } catch (RuntimeException e) {
+            // the controller failed before returning a future
+            decision = NO_MOVE;
+        }
+
+        int move;
+        if (decision != null && contains(legalMoves, decision)) {
+            move = decision;
+        } else {
+            move = getDefaultMove(legalMoves);
+            numOfDefaults[player]++;
+        }
+        state.apply(move);
+    }
+
+    /**
+     * the move played for a controller that didn't decide: keep every dealt task card, otherwise draw a face-down
+     * card, otherwise the first legal move
+     * @param legalMoves    the legal moves, at least one
+     * @return  one of the legal moves
+     */
+    static int getDefaultMove(int[] legalMoves) {
+        int best = legalMoves[0];
+        for (int move : legalMoves) {
+            if (Move.getType(move) == Move.KEEP_TASKS) {
+                if (Move.getType(best) != Move.KEEP_TASKS ||
+                        Integer.bitCount(Move.getKeptTasks(move)) > Integer.bitCount(Move.getKeptTasks(best))) {
+                    best = move;
+                }
+            } else if (Move.getType(move) == Move.DRAW_FACE_DOWN) {
+                return move;
+            }
+        }
+        return best;
+    }
+
+    private static boolean contains(int[] legalMoves, int move) {
+        for (int legalMove : legalMoves) {
+            if (legalMove == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package game.simulation;
+
+import game.state.Board;
+import game.state.GameState;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class is the immutable result of one simulated game: the seed it was played with, the number of turns, and
+ * for every player the final points, the claimed routes and the completed and failed tasks.
+ * Routes are numbered route id * Board.MAX_PARALLEL_ROUTES + parallel index, tasks by their card number.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int turnCount;
+    private final boolean finished; // false if the game was stopped by the turn limit
+    private final int[] points;
+    private final BitSet[] ownedRoutes;
+    private final BitSet[] completedTasks;
+    private final BitSet[] failedTasks;
+
+    /**
+     * constructor, read the result from the state of a finished game
+     * @param seed  the seed the game was played with
+     * @param state     the final state of the game
+     */
+    GameResult(long seed, GameState state) {
+        Board board = state.getBoard();
+        int numOfPlayers = state.getNumOfPlayers();
+        this.seed = seed;
+        turnCount = state.getTurnCount();
+        finished = state.isLastTurn();
+        points = new int[numOfPlayers];
+        ownedRoutes = new BitSet[numOfPlayers];
+        completedTasks = new BitSet[numOfPlayers];
+        failedTasks = new BitSet[numOfPlayers];
+        for (int i = 0; i < numOfPlayers; i++) {
+            points[i] = state.getPoints(i);
+            ownedRoutes[i] = new BitSet();
+            completedTasks[i] = new BitSet();
+            failedTasks[i] = new BitSet();
+        }
+        for (int route = 0; route < board.getNumOfRoutes(); route++) {
+            for (int index = 0; index < board.getNumOfParallelRoutes(route); index++) {
+                int owner = state.getRouteOwner(route, index);
+                if (owner != GameState.NO_OWNER) {
+                    ownedRoutes[owner].set(route * Board.MAX_PARALLEL_ROUTES + index);
+                }
+            }
+        }
+        for (int task = 0; task < board.getNumOfTaskCards(); task++) {
+            int owner = state.getTaskOwner(task);
+            if (owner != GameState.NO_OWNER) {
+                (state.isTaskCompleted(task) ? completedTasks : failedTasks)[owner].set(task);
+            }
+        }
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public long getSeed() { return seed; }
+
+    public int getTurnCount() { return turnCount; }
+
+    /**
+     * check if the game ended with the last turn rather than the turn limit
+     */
+    public boolean isFinished() { return finished; }
+
+    public int getNumOfPlayers() { return points.length; }
+
+    public int getPoints(int player) { return points[player]; }
+
+    /**
+     * get the routes a player claimed, a copy
+     */
+    public BitSet getOwnedRoutes(int player) { return (BitSet) ownedRoutes[player].clone(); }
+
+    /**
+     * get the tasks a player completed, a copy
+     */
+    public BitSet getCompletedTasks(int player) { return (BitSet) completedTasks[player].clone(); }
+
+    /**
+     * get the tasks a player kept but didn't complete, a copy
+     */
+    public BitSet getFailedTasks(int player) { return (BitSet) failedTasks[player].clone(); }
+
+    /**
+     * get the player with the most points, the player seated first wins a tie
+     * @return  the index of the winner
+     */
+    public int getWinner() {
+        int winner = 0;
+        for (int i = 1; i < points.length; i++) {
+            if (points[i] > points[winner]) {
+                winner = i;
+            }
+        }
+        return winner;
+    }
+
+    /*--------------------------------- equals, hashCode and toString -----------------------------------------*/
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameResult other = (GameResult) o;
+        return seed == other.seed &&
+                turnCount == other.turnCount &&
+                finished == other.finished &&
+                Arrays.equals(points, other.points) &&
+                Arrays.equals(ownedRoutes, other.ownedRoutes) &&
+                Arrays.equals(completedTasks, other.completedTasks) &&
+                Arrays.equals(failedTasks, other.failedTasks);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(seed);
+        result = 31 * result + turnCount;
+        result = 31 * result + Arrays.hashCode(points);
+        result = 31 * result + Arrays.hashCode(ownedRoutes);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "game " + seed + ": " + turnCount + " turns" + (finished ? "" : " (turn limit)") +
+                ", points " + Arrays.toString(points) + ", winner p" + getWinner();
+    }
+}
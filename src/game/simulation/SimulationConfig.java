@@ -0,0 +1,37 @@
+package game.simulation;
+
+/**
+ * This class describes the games of a simulation: the number of computer players and their difficulty level.
+ */
+public final class SimulationConfig {
+
+    private final int playerNum;
+    private final int difficultyLevel;
+
+    /**
+     * constructor
+     * @param playerNum     the number of computer players in every game, 2 - 5
+     * @param difficultyLevel   1 - 3, the higher the difficulty level, the more intelligent the robots are
+     * @throws IllegalArgumentException     when the number of players is not within 2 - 5, or the difficulty level
+     *                                      is not within 1 - 3
+     */
+    public SimulationConfig(int playerNum, int difficultyLevel) {
+        if (playerNum < 2 || playerNum > 5) {
+            throw new IllegalArgumentException("Number of players should be between 2 and 5.");
+        }
+        if (difficultyLevel < 1 || difficultyLevel > 3) {
+            throw new IllegalArgumentException("Difficulty level should be between 1 and 3.");
+        }
+        this.playerNum = playerNum;
+        this.difficultyLevel = difficultyLevel;
+    }
+
+    public int getPlayerNum() { return playerNum; }
+
+    public int getDifficultyLevel() { return difficultyLevel; }
+
+    @Override
+    public String toString() {
+        return playerNum + " players, difficulty level " + difficultyLevel;
+    }
+}
@@ -0,0 +1,55 @@
+package game.simulation;
+
+import game.GameEngine;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * This class plays batches of silent games as a stream of results. A game is only played when the stream asks for
+ * its result, so a stream can be filtered, grouped or cut short without keeping every game in memory, and a
+ * parallel stream plays its games on the common pool. A game only depends on its seed, so the results are the same
+ * in any order or on any number of threads.
+ */
+public final class Simulations {
+
+    // private constructor, only static methods
+    private Simulations() { }
+
+    /**
+     * create a lazy stream of games, parallel if the seed stream is parallel
+     * @param config    the games to play
+     * @param seeds     a seed for every game, may be infinite
+     * @return  a stream of results in the order of the seeds
+     */
+    public static Stream<GameResult> run(SimulationConfig config, LongStream seeds) {
+        return seeds.mapToObj(seed -> play(config, seed));
+    }
+
+    /**
+     * create a lazy stream of games
+     * @param config    the games to play
+     * @param seeds     a seed for every game
+     * @return  a sequential stream of results in the order of the seeds, call parallel() to play on many threads
+     */
+    public static Stream<GameResult> run(SimulationConfig config, long... seeds) {
+        return run(config, Arrays.stream(seeds));
+    }
+
+    /**
+     * play one game from setting up to calculating final points
+     * @param config    the game to play
+     * @param seed  the seed of all the random decisions in the game
+     * @return  the result of the game
+     */
+    public static GameResult play(SimulationConfig config, long seed) {
+        // every game prints to its own stream, a shared stream would make parallel games wait for its lock
+        GameEngine engine = new GameEngine(config.getPlayerNum(), config.getDifficultyLevel(),
+                new PrintStream(OutputStream.nullOutputStream()), seed);
+        engine.play();
+        return new GameResult(seed, engine.captureState());
+    }
+}
@@ -0,0 +1,151 @@
+package game.state;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class records every change of a game state as an event encoded by GameEvent, in the order they happen.
+ * The log keeps a copy of the state it started from and a snapshot every few turns, so a ReplayEngine can rebuild
+ * any position of the game without replaying it from the start.
+ * A recorded state must only move forward, going back with copyFrom() makes the log wrong.
+ */
+public final class ActionLog {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int snapshotInterval;
+    private long[] events;
+    private int size;
+
+    // snapshots in the order of their turns, each with the number of events recorded before it
+    private final List<GameState> snapshots;
+    private int[] snapshotEvents;
+
+    /**
+     * constructor, start recording a game state, with a snapshot every DEFAULT_SNAPSHOT_INTERVAL turns
+     * @param state     the state to record, a copy of it is the start of the log
+     */
+    public ActionLog(GameState state) {
+        this(state, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * constructor, start recording a game state
+     * @param state     the state to record, a copy of it is the start of the log
+     * @param snapshotInterval  number of turns between two snapshots
+     * @throws IllegalArgumentException     when the state is in the middle of a turn or the interval is not positive
+     */
+    public ActionLog(GameState state, int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("The snapshot interval should be at least 1 turn.");
+        }
+        if (state.getCurrentPlayer() != 0 || state.getTurnPhase() != GameState.START) {
+            throw new IllegalArgumentException("Only a state between two turns can be recorded.");
+        }
+        this.snapshotInterval = snapshotInterval;
+        events = new long[INITIAL_CAPACITY];
+        snapshots = new ArrayList<>();
+        snapshotEvents = new int[INITIAL_CAPACITY / snapshotInterval + 1];
+        addSnapshot(state);
+        state.setLog(this);
+    }
+
+    /*--------------------------------- recording -------------------------------------------------------------*/
+
+    /**
+     * add an event to the end of the log, called by the recorded state
+     */
+    void record(long event) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size * 2);
+        }
+        events[size++] = event;
+    }
+
+    /**
+     * take a snapshot when the recorded state reaches a multiple of the snapshot interval, called by the recorded
+     * state after the last player of a turn
+     */
+    void turnEnded(GameState state) {
+        if (state.getTurnCount() % snapshotInterval == 0) {
+            addSnapshot(state);
+        }
+    }
+
+    private void addSnapshot(GameState state) {
+        if (snapshots.size() == snapshotEvents.length) {
+            snapshotEvents = Arrays.copyOf(snapshotEvents, snapshotEvents.length * 2);
+        }
+        snapshotEvents[snapshots.size()] = size;
+        snapshots.add(state.copy());
+    }
+
+    /**
+     * stop recording the state, the log keeps everything recorded so far
+     */
+    public void stop(GameState state) {
+        state.setLog(null);
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public int size() { return size; }
+
+    /**
+     * get an event, 0 is the first event recorded
+     */
+    public long getEvent(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index of an event.");
+        }
+        return events[index];
+    }
+
+    /**
+     * get a copy of the recorded events
+     */
+    public long[] getEvents() { return Arrays.copyOf(events, size); }
+
+    public int getSnapshotInterval() { return snapshotInterval; }
+
+    public int getNumOfSnapshots() { return snapshots.size(); }
+
+    /**
+     * get a copy of a snapshot, snapshot 0 is the state the log started from
+     */
+    public GameState getSnapshot(int index) { return snapshots.get(index).copy(); }
+
+    /**
+     * get the number of events recorded before a snapshot
+     */
+    public int getSnapshotEventIndex(int index) {
+        if (index < 0 || index >= snapshots.size()) {
+            throw new IndexOutOfBoundsException("Invalid index of a snapshot.");
+        }
+        return snapshotEvents[index];
+    }
+
+    public int getStartTurn() { return snapshots.get(0).getTurnCount(); }
+
+    /**
+     * find the latest snapshot taken at or before a turn
+     * @return  the snapshot index, -1 if the log started after that turn
+     */
+    int findSnapshot(int turn) {
+        int low = 0;
+        int high = snapshots.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (snapshots.get(mid).getTurnCount() <= turn) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+}
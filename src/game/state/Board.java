@@ -0,0 +1,185 @@
+package game.state;
+
+import card.TaskCard;
+import card.TrainCard;
+import city.City;
+import color.TrainColor;
+import route.Route;
+
+import java.util.*;
+
+/**
+ * This class holds the facts of a game that never change after the decks are created: the players, the color of
+ * every train card, the cities, lengths and colors of the routes and the cities and points of the task cards.
+ * Cities, routes and cards are referred to by int ids and colors by the ordinal of their TrainColor, a board is
+ * shared by a game state and all of its copies.
+ */
+public final class Board {
+
+    // constants
+    public static final int NO_CITY = -1;
+    public static final int MAX_PARALLEL_ROUTES = 2;
+    private static final int[] CARS_TO_POINTS = {0, 1, 2, 4, 7, 10, 15};
+
+    // players
+    private final String[] playerNames;
+    private final int difficultyLevel;
+
+    // cards
+    private final byte[] trainCardColors;
+    private final int[] taskCity1;
+    private final int[] taskCity2;
+    private final int[] taskPoints;
+
+    // cities and routes, the route id is its index in the routes list
+    private final String[] cityNames;
+    private final Map<String, Integer> cityIds;
+    private final int[] routeCity1;
+    private final int[] routeCity2;
+    private final int[] routeLength;
+    private final int[] routeColors; // MAX_PARALLEL_ROUTES entries per route
+    private final int[] numOfParallelRoutes;
+    private final int[][] cityRoutes; // ids of the routes touching a city
+
+    /**
+     * constructor
+     * @param playerNames   names of the players in their seating order
+     * @param difficultyLevel   1 - 3, the difficulty level of the computer players
+     * @param trainCards    all the train cards of the game, with card ids assigned
+     * @param taskCards     all the task cards of the game, with card ids assigned
+     * @param routes    all the routes of the game, the index of a route in this list becomes its id
+     * @throws IllegalArgumentException     when a card or a route has an unknown color, or a card is grey
+     */
+    public Board(List<String> playerNames, int difficultyLevel, List<TrainCard> trainCards, List<TaskCard> taskCards,
+                 List<Route<City>> routes) {
+        this.playerNames = playerNames.toArray(new String[0]);
+        this.difficultyLevel = difficultyLevel;
+
+        trainCardColors = new byte[trainCards.size()];
+        for (TrainCard card : trainCards) {
+            TrainColor color = card.getTrainColor();
+            if (!color.isCardColor()) {
+                throw new IllegalArgumentException("Invalid color, cannot add this card.");
+            }
+            trainCardColors[card.getCardNum()] = (byte) color.ordinal();
+        }
+
+        // number the cities in the order they appear in the routes
+        cityIds = new LinkedHashMap<>();
+        int numOfRoutes = routes.size();
+        routeCity1 = new int[numOfRoutes];
+        routeCity2 = new int[numOfRoutes];
+        routeLength = new int[numOfRoutes];
+        routeColors = new int[numOfRoutes * MAX_PARALLEL_ROUTES];
+        numOfParallelRoutes = new int[numOfRoutes];
+        for (int i = 0; i < numOfRoutes; i++) {
+            Route<City> route = routes.get(i);
+            routeCity1[i] = addCity(route.getCity1().getCityName());
+            routeCity2[i] = addCity(route.getCity2().getCityName());
+            routeLength[i] = route.getNumOfCars();
+            List<String> colors = route.getColors();
+            numOfParallelRoutes[i] = colors.size();
+            for (int j = 0; j < colors.size(); j++) {
+                routeColors[i * MAX_PARALLEL_ROUTES + j] = TrainColor.of(colors.get(j)).ordinal();
+            }
+        }
+        cityNames = cityIds.keySet().toArray(new String[0]);
+
+        // routes touching each city
+        int[] degrees = new int[cityNames.length];
+        for (int i = 0; i < numOfRoutes; i++) {
+            degrees[routeCity1[i]]++;
+            degrees[routeCity2[i]]++;
+        }
+        cityRoutes = new int[cityNames.length][];
+        for (int i = 0; i < cityNames.length; i++) {
+            cityRoutes[i] = new int[degrees[i]];
+            degrees[i] = 0;
+        }
+        for (int i = 0; i < numOfRoutes; i++) {
+            cityRoutes[routeCity1[i]][degrees[routeCity1[i]]++] = i;
+            cityRoutes[routeCity2[i]][degrees[routeCity2[i]]++] = i;
+        }
+
+        // tasks whose cities are not on the map can never be completed
+        taskCity1 = new int[taskCards.size()];
+        taskCity2 = new int[taskCards.size()];
+        taskPoints = new int[taskCards.size()];
+        for (TaskCard card : taskCards) {
+            int id = card.getCardNum();
+            taskCity1[id] = getCityId(card.getCity1().getCityName());
+            taskCity2[id] = getCityId(card.getCity2().getCityName());
+            taskPoints[id] = card.getPoints();
+        }
+    }
+
+    /**
+     * helper function of the constructor, give a city the next id if it doesn't have one
+     */
+    private int addCity(String cityName) {
+        return cityIds.computeIfAbsent(cityName, name -> cityIds.size());
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public int getNumOfPlayers() { return playerNames.length; }
+
+    public String getPlayerName(int player) { return playerNames[player]; }
+
+    public int getDifficultyLevel() { return difficultyLevel; }
+
+    public int getNumOfTrainCards() { return trainCardColors.length; }
+
+    /**
+     * get the color of a train card
+     * @return  the ordinal of the TrainColor of the card
+     */
+    public int getTrainCardColor(int card) { return trainCardColors[card]; }
+
+    public int getNumOfTaskCards() { return taskPoints.length; }
+
+    public int getTaskCity1(int task) { return taskCity1[task]; }
+
+    public int getTaskCity2(int task) { return taskCity2[task]; }
+
+    public int getTaskPoints(int task) { return taskPoints[task]; }
+
+    public int getNumOfCities() { return cityNames.length; }
+
+    public String getCityName(int city) { return cityNames[city]; }
+
+    /**
+     * get the id of a city by its name
+     * @return  the city id, NO_CITY if the city is not on the map
+     */
+    public int getCityId(String cityName) { return cityIds.getOrDefault(cityName, NO_CITY); }
+
+    public int getNumOfRoutes() { return routeLength.length; }
+
+    public int getRouteCity1(int route) { return routeCity1[route]; }
+
+    public int getRouteCity2(int route) { return routeCity2[route]; }
+
+    public int getRouteLength(int route) { return routeLength[route]; }
+
+    public int getRoutePoints(int route) { return CARS_TO_POINTS[routeLength[route]]; }
+
+    public int getNumOfParallelRoutes(int route) { return numOfParallelRoutes[route]; }
+
+    /**
+     * get the color of one of the parallel routes
+     * @return  the ordinal of the TrainColor of the route, TrainColor.GREY for a grey route
+     */
+    public int getRouteColor(int route, int index) { return routeColors[route * MAX_PARALLEL_ROUTES + index]; }
+
+    public int getNumOfCityRoutes(int city) { return cityRoutes[city].length; }
+
+    public int getCityRoute(int city, int index) { return cityRoutes[city][index]; }
+
+    /**
+     * get the city at the other end of a route
+     */
+    public int getOtherCity(int route, int city) {
+        return routeCity1[route] == city ? routeCity2[route] : routeCity1[route];
+    }
+}
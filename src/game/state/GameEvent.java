@@ -0,0 +1,149 @@
+package game.state;
+
+/**
+ * This class encodes the changes of a game state into single longs for the action log. Player actions carry their
+ * results, such as the card drawn, and the deck changes that follow from them, such as reshuffling the discards or
+ * discarding 3 face-up locomotives, are events of their own.
+ * Layout of an event, from the highest bits: 8 bits of type, 8 bits of player, 48 bits of data.
+ */
+public final class GameEvent {
+
+    // event types, player actions
+    public static final int DRAW_FACE_UP = 1;   // data: face-up spot, card
+    public static final int DRAW_FACE_DOWN = 2; // data: card
+    public static final int DEAL_TASKS = 3;     // data: the 3 task cards
+    public static final int KEEP_TASKS = 4;     // data: bit mask of the kept cards
+    public static final int CLAIM_ROUTE = 5;    // data: the claim move
+    public static final int PASS = 6;
+    // event types, deck changes
+    public static final int RESHUFFLE = 7;      // data: number of cards moved from the discards to the face-down deck
+    public static final int LOCO_WIPE = 8;      // data: the 5 face-up cards discarded
+
+    private static final int TYPE_SHIFT = 56;
+    private static final int PLAYER_SHIFT = 48;
+    private static final int ID_BITS = 8;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final long DATA_MASK = (1L << PLAYER_SHIFT) - 1;
+
+    // private constructor, only static methods
+    private GameEvent() { }
+
+    /*--------------------------------- create events ---------------------------------------------------------*/
+
+    static long drawFaceUp(int player, int index, int card) {
+        return of(DRAW_FACE_UP, player, (long) card << ID_BITS | index);
+    }
+
+    static long drawFaceDown(int player, int card) {
+        return of(DRAW_FACE_DOWN, player, (long) card << ID_BITS);
+    }
+
+    static long dealTasks(int player, int[] tasks) {
+        long data = 0;
+        for (int i = tasks.length - 1; i >= 0; i--) {
+            data = data << ID_BITS | tasks[i];
+        }
+        return of(DEAL_TASKS, player, data);
+    }
+
+    static long keepTasks(int player, int keptIndices) {
+        return of(KEEP_TASKS, player, keptIndices);
+    }
+
+    static long claimRoute(int player, int route, int index, int color, int numOfLocos) {
+        return of(CLAIM_ROUTE, player, Move.claimRoute(route, index, color, numOfLocos));
+    }
+
+    static long pass(int player) {
+        return of(PASS, player, 0);
+    }
+
+    static long reshuffle(int player, int numOfCards) {
+        return of(RESHUFFLE, player, numOfCards);
+    }
+
+    static long locoWipe(int player, int[] cards) {
+        long data = 0;
+        for (int i = cards.length - 1; i >= 0; i--) {
+            data = data << ID_BITS | (cards[i] & ID_MASK);
+        }
+        return of(LOCO_WIPE, player, data);
+    }
+
+    private static long of(int type, int player, long data) {
+        return (long) type << TYPE_SHIFT | (long) player << PLAYER_SHIFT | data;
+    }
+
+    /*--------------------------------- read events -----------------------------------------------------------*/
+
+    public static int getType(long event) { return (int) (event >>> TYPE_SHIFT); }
+
+    public static int getPlayer(long event) { return (int) ((event >>> PLAYER_SHIFT) & ID_MASK); }
+
+    /**
+     * get the i-th id stored in an event: the face-up spot (0) and card (1) of a face-up draw, the card (1) of a
+     * face-down draw, the dealt tasks (0 - 2), or the discarded cards (0 - 4) of a locomotive wipe
+     */
+    public static int getId(long event, int i) { return (int) ((event >>> (i * ID_BITS)) & ID_MASK); }
+
+    /**
+     * get the data of an event as a number: the kept task mask, the claim move or the number of reshuffled cards
+     */
+    public static long getData(long event) { return event & DATA_MASK; }
+
+    /**
+     * check if an event is a decision of a player rather than a deck change that follows from one
+     */
+    public static boolean isPlayerAction(long event) { return getType(event) <= PASS; }
+
+    /**
+     * get the move that causes a player action
+     * @throws IllegalArgumentException     when the event is a deck change
+     */
+    public static int toMove(long event) {
+        switch (getType(event)) {
+            case DRAW_FACE_UP:
+                return Move.drawFaceUp(getId(event, 0));
+            case DRAW_FACE_DOWN:
+                return Move.drawFaceDown();
+            case DEAL_TASKS:
+                return Move.drawTasks();
+            case KEEP_TASKS:
+                return Move.keepTasks((int) getData(event));
+            case CLAIM_ROUTE:
+                return (int) getData(event);
+            case PASS:
+                return Move.pass();
+            default:
+                throw new IllegalArgumentException("This event is not a player action.");
+        }
+    }
+
+    /**
+     * describe an event, for logs and debugging
+     */
+    public static String toString(long event) {
+        String player = "p" + getPlayer(event) + " ";
+        switch (getType(event)) {
+            case DRAW_FACE_UP:
+                return player + "draws card " + getId(event, 1) + " from face-up " + getId(event, 0);
+            case DRAW_FACE_DOWN:
+                return player + "draws card " + getId(event, 1) + " from face-down";
+            case DEAL_TASKS:
+                return player + "is dealt tasks " + getId(event, 0) + ", " + getId(event, 1) + ", " +
+                        getId(event, 2);
+            case KEEP_TASKS:
+                return player + "keeps tasks " + Long.toBinaryString(getData(event));
+            case CLAIM_ROUTE:
+                return player + Move.toString((int) getData(event));
+            case PASS:
+                return player + "passes";
+            case RESHUFFLE:
+                return getData(event) + " discards reshuffled into the face-down deck";
+            case LOCO_WIPE:
+                return "face-up cards discarded for 3 or more locomotives";
+            default:
+                return "unknown event " + event;
+        }
+    }
+}
@@ -0,0 +1,1116 @@
+package game.state;
+
+import card.TaskCard;
+import card.TrainCard;
+import carddeck.DeckManager;
+import city.City;
+import color.TrainColor;
+import game.GameEngine;
+import player.Player;
+import route.Route;
+import route.longestpaths.LongestPathFinder;
+
+import java.util.*;
+
+/**
+ * This class is a compact snapshot of a game made of primitive arrays only. Cards, routes, cities and players are
+ * int ids described by a shared Board, so copying a state only copies a handful of small arrays. Search code copies
+ * a state, applies moves to the copy and goes back by copying the saved state over it again.
+ * The methods that change a state follow the same rules as the decks and players of a GameEngine.
+ */
+public final class GameState {
+
+    // constants
+    public static final int NO_CARD = -1;
+    public static final int NO_OWNER = -1;
+    public static final int FACE_UP_NUM = 5;
+    public static final int DEALT_TASK_NUM = 3;
+
+    // phases of a turn
+    public static final int START = 0;
+    public static final int SECOND_DRAW = 1; // the first of two train cards is drawn
+    public static final int KEEP_TASKS = 2; // task cards are dealt, waiting for the player to keep some
+    private static final int RAINBOW = TrainColor.RAINBOW.ordinal();
+    private static final int GREY = TrainColor.GREY.ordinal();
+    private static final int LOCO_LIMIT = 3;
+    private static final int LAST_TURN_TRAINS = 2;
+
+    private final Board board;
+
+    // train cards, decks are stored from top to bottom between a head and an end index
+    private final int[] faceDown;
+    private int faceDownHead;
+    private int faceDownEnd;
+    private final int[] faceUp;
+    private final int[] discards;
+    private int discardsSize;
+    private final byte[] trainCardOwners;
+    private final int[] handCounts; // TrainColor.NUM_OF_CARD_COLORS counts per player
+
+    // task cards
+    private final int[] taskDeck;
+    private int taskDeckHead;
+    private int taskDeckEnd;
+    private final int[] dealtTasks;
+    private final byte[] taskOwners;
+    private final boolean[] completedTasks;
+
+    // routes and players
+    private final byte[] routeOwners; // MAX_PARALLEL_ROUTES entries per route
+    private final int[] points;
+    private final int[] trainsLeft;
+    private int currentPlayer;
+    private int turnPhase;
+    private int turnCount;
+    private boolean lastTurn;
+    private long shuffleSeed;
+
+    // scratch of the search for connected task cities, every state has its own, not part of the state
+    private final int[] cityMarks; // the mark of the search a city was last reached by
+    private final int[] cityStack;
+    private int cityMark;
+
+    // the log every change is recorded to, null if the state is not recorded, copies are never recorded
+    private ActionLog log;
+    // the changes that can be undone and redone, null if undo is not enabled, copies never have one
+    private UndoHistory history;
+
+    // ids of the fields of a state, used by the undo history to tell where a change was made
+    static final int FACE_DOWN = 0;
+    static final int FACE_DOWN_HEAD = 1;
+    static final int FACE_DOWN_END = 2;
+    static final int FACE_UP = 3;
+    static final int DISCARDS = 4;
+    static final int DISCARDS_SIZE = 5;
+    static final int TRAIN_CARD_OWNERS = 6;
+    static final int HAND_COUNTS = 7;
+    static final int TASK_DECK = 8;
+    static final int TASK_DECK_HEAD = 9;
+    static final int TASK_DECK_END = 10;
+    static final int DEALT_TASKS = 11;
+    static final int TASK_OWNERS = 12;
+    static final int COMPLETED_TASKS = 13;
+    static final int ROUTE_OWNERS = 14;
+    static final int POINTS = 15;
+    static final int TRAINS_LEFT = 16;
+    static final int CURRENT_PLAYER = 17;
+    static final int TURN_PHASE = 18;
+    static final int TURN_COUNT = 19;
+    static final int LAST_TURN = 20;
+    static final int SHUFFLE_SEED = 21;
+
+    /**
+     * constructor, an empty state with no cards in any deck
+     * @param board     the board of the game
+     */
+    private GameState(Board board) {
+        this.board = board;
+        int numOfPlayers = board.getNumOfPlayers();
+        faceDown = new int[board.getNumOfTrainCards()];
+        faceUp = new int[FACE_UP_NUM];
+        Arrays.fill(faceUp, NO_CARD);
+        discards = new int[board.getNumOfTrainCards()];
+        trainCardOwners = new byte[board.getNumOfTrainCards()];
+        Arrays.fill(trainCardOwners, (byte) NO_OWNER);
+        handCounts = new int[numOfPlayers * TrainColor.NUM_OF_CARD_COLORS];
+        taskDeck = new int[board.getNumOfTaskCards()];
+        dealtTasks = new int[DEALT_TASK_NUM];
+        Arrays.fill(dealtTasks, NO_CARD);
+        taskOwners = new byte[board.getNumOfTaskCards()];
+        Arrays.fill(taskOwners, (byte) NO_OWNER);
+        completedTasks = new boolean[board.getNumOfTaskCards()];
+        routeOwners = new byte[board.getNumOfRoutes() * Board.MAX_PARALLEL_ROUTES];
+        Arrays.fill(routeOwners, (byte) NO_OWNER);
+        points = new int[numOfPlayers];
+        trainsLeft = new int[numOfPlayers];
+        cityMarks = new int[board.getNumOfCities()];
+        cityStack = new int[board.getNumOfCities()];
+    }
+
+    /**
+     * copy constructor, shares the board and copies everything else
+     */
+    private GameState(GameState other) {
+        board = other.board;
+        faceDown = other.faceDown.clone();
+        faceDownHead = other.faceDownHead;
+        faceDownEnd = other.faceDownEnd;
+        faceUp = other.faceUp.clone();
+        discards = other.discards.clone();
+        discardsSize = other.discardsSize;
+        trainCardOwners = other.trainCardOwners.clone();
+        handCounts = other.handCounts.clone();
+        taskDeck = other.taskDeck.clone();
+        taskDeckHead = other.taskDeckHead;
+        taskDeckEnd = other.taskDeckEnd;
+        dealtTasks = other.dealtTasks.clone();
+        taskOwners = other.taskOwners.clone();
+        completedTasks = other.completedTasks.clone();
+        routeOwners = other.routeOwners.clone();
+        points = other.points.clone();
+        trainsLeft = other.trainsLeft.clone();
+        currentPlayer = other.currentPlayer;
+        turnPhase = other.turnPhase;
+        turnCount = other.turnCount;
+        lastTurn = other.lastTurn;
+        shuffleSeed = other.shuffleSeed;
+        cityMarks = new int[board.getNumOfCities()];
+        cityStack = new int[board.getNumOfCities()];
+    }
+
+    /**
+     * take a snapshot of a game between two turns, the game itself is not changed
+     * @param engine    the game
+     * @return  a new state of the game, the next player to play is the first player
+     */
+    public static GameState capture(GameEngine engine) {
+        GameState state = new GameState(engine.getBoard());
+        DeckManager manager = engine.getDeckManager();
+
+        for (TrainCard card : manager.getFaceDownDeck().getCards()) {
+            state.faceDown[state.faceDownEnd++] = card.getCardNum();
+        }
+        List<TrainCard> faceUpCards = manager.getFaceUpDeck().getCards();
+        for (int i = 0; i < faceUpCards.size(); i++) {
+            if (faceUpCards.get(i) != null) {
+                state.faceUp[i] = faceUpCards.get(i).getCardNum();
+            }
+        }
+        for (TrainCard card : manager.getDiscardsDeck().getCards()) {
+            state.discards[state.discardsSize++] = card.getCardNum();
+        }
+        for (TaskCard card : manager.getTaskCardDeck().getCards()) {
+            state.taskDeck[state.taskDeckEnd++] = card.getCardNum();
+        }
+        List<TaskCard> dealtCards = manager.getTaskCardDeck().getDealt3Cards();
+        for (int i = 0; i < DEALT_TASK_NUM; i++) {
+            if (dealtCards.get(i) != null) {
+                state.dealtTasks[i] = dealtCards.get(i).getCardNum();
+            }
+        }
+
+        // players
+        List<Player> players = engine.getPlayers();
+        Map<String, Integer> playerIndices = new HashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            playerIndices.put(p.getPlayerId(), i);
+            state.points[i] = p.getPoints();
+            state.trainsLeft[i] = p.getNumOfTrainLeft();
+            for (TrainCard card : p.getTrainCards()) {
+                state.addToHand(i, card.getCardNum());
+            }
+            Map<TaskCard, Boolean> taskCards = p.getOwnedTaskCards();
+            for (TaskCard card : taskCards.keySet()) {
+                state.taskOwners[card.getCardNum()] = (byte) i;
+                state.completedTasks[card.getCardNum()] = taskCards.get(card);
+            }
+        }
+
+        // routes
+        List<Route<City>> routes = engine.getAllRoutes();
+        for (int i = 0; i < routes.size(); i++) {
+            Route<City> route = routes.get(i);
+            for (int j = 0; j < route.getColors().size(); j++) {
+                String ownerId = route.getOwnerId(j);
+                if (ownerId != null) {
+                    state.routeOwners[i * Board.MAX_PARALLEL_ROUTES + j] = playerIndices.get(ownerId).byteValue();
+                }
+            }
+        }
+
+        state.turnCount = engine.getTurnCount();
+        state.lastTurn = engine.isLastTurn();
+        state.shuffleSeed = engine.getSeed();
+        return state;
+    }
+
+    /**
+     * copy this state, the copy shares the board and nothing else
+     * @return  a new state equal to this one
+     */
+    public GameState copy() {
+        return new GameState(this);
+    }
+
+    /**
+     * overwrite this state with another state of the same board without allocating, used to go back to a saved state,
+     * the undo history of this state is cleared
+     * @param other     the state to copy from
+     * @throws IllegalArgumentException     when the other state belongs to another board
+     */
+    public void copyFrom(GameState other) {
+        if (other.board != board) {
+            throw new IllegalArgumentException("Cannot copy a state of another board.");
+        }
+        System.arraycopy(other.faceDown, 0, faceDown, 0, faceDown.length);
+        faceDownHead = other.faceDownHead;
+        faceDownEnd = other.faceDownEnd;
+        System.arraycopy(other.faceUp, 0, faceUp, 0, faceUp.length);
+        System.arraycopy(other.discards, 0, discards, 0, discards.length);
+        discardsSize = other.discardsSize;
+        System.arraycopy(other.trainCardOwners, 0, trainCardOwners, 0, trainCardOwners.length);
+        System.arraycopy(other.handCounts, 0, handCounts, 0, handCounts.length);
+        System.arraycopy(other.taskDeck, 0, taskDeck, 0, taskDeck.length);
+        taskDeckHead = other.taskDeckHead;
+        taskDeckEnd = other.taskDeckEnd;
+        System.arraycopy(other.dealtTasks, 0, dealtTasks, 0, dealtTasks.length);
+        System.arraycopy(other.taskOwners, 0, taskOwners, 0, taskOwners.length);
+        System.arraycopy(other.completedTasks, 0, completedTasks, 0, completedTasks.length);
+        System.arraycopy(other.routeOwners, 0, routeOwners, 0, routeOwners.length);
+        System.arraycopy(other.points, 0, points, 0, points.length);
+        System.arraycopy(other.trainsLeft, 0, trainsLeft, 0, trainsLeft.length);
+        currentPlayer = other.currentPlayer;
+        turnPhase = other.turnPhase;
+        turnCount = other.turnCount;
+        lastTurn = other.lastTurn;
+        shuffleSeed = other.shuffleSeed;
+        if (history != null) {
+            history.clear();
+        }
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public Board getBoard() { return board; }
+
+    public int getNumOfPlayers() { return points.length; }
+
+    public int getCurrentPlayer() { return currentPlayer; }
+
+    /**
+     * get how far the current player is in the turn
+     * @return  START, SECOND_DRAW or KEEP_TASKS
+     */
+    public int getTurnPhase() { return turnPhase; }
+
+    public int getTurnCount() { return turnCount; }
+
+    public boolean isLastTurn() { return lastTurn; }
+
+    public long getShuffleSeed() { return shuffleSeed; }
+
+    public int getPoints(int player) { return points[player]; }
+
+    public int getTrainsLeft(int player) { return trainsLeft[player]; }
+
+    public int getFaceDownSize() { return faceDownEnd - faceDownHead; }
+
+    /**
+     * get a face-down card, 0 is the top of the deck
+     */
+    public int getFaceDownCard(int index) { return faceDown[faceDownHead + index]; }
+
+    /**
+     * get the card on a face-up spot
+     * @return  the card id, NO_CARD if the spot is empty
+     */
+    public int getFaceUpCard(int index) { return faceUp[index]; }
+
+    public int getDiscardsSize() { return discardsSize; }
+
+    public int getDiscard(int index) { return discards[index]; }
+
+    /**
+     * get the player holding a train card
+     * @return  the player index, NO_OWNER if the card is in a deck
+     */
+    public int getTrainCardOwner(int card) { return trainCardOwners[card]; }
+
+    /**
+     * get the number of cards of a color in a player's hand
+     * @param color     the ordinal of a card color of TrainColor
+     */
+    public int getNumOfCards(int player, int color) {
+        return handCounts[player * TrainColor.NUM_OF_CARD_COLORS + color];
+    }
+
+    /**
+     * get the number of cards in a player's hand
+     */
+    public int getNumOfCards(int player) {
+        int num = 0;
+        for (int color = 0; color < TrainColor.NUM_OF_CARD_COLORS; color++) {
+            num += handCounts[player * TrainColor.NUM_OF_CARD_COLORS + color];
+        }
+        return num;
+    }
+
+    public int getTaskDeckSize() { return taskDeckEnd - taskDeckHead; }
+
+    /**
+     * get a task card in the task deck, 0 is the top of the deck
+     */
+    public int getTaskDeckCard(int index) { return taskDeck[taskDeckHead + index]; }
+
+    /**
+     * get a dealt task card
+     * @return  the card id, NO_CARD if no card is dealt in that spot
+     */
+    public int getDealtTask(int index) { return dealtTasks[index]; }
+
+    /**
+     * get the player owning a task card
+     * @return  the player index, NO_OWNER if no player owns it
+     */
+    public int getTaskOwner(int task) { return taskOwners[task]; }
+
+    public boolean isTaskCompleted(int task) { return completedTasks[task]; }
+
+    /**
+     * check if a player owns any task card
+     */
+    public boolean hasTasks(int player) {
+        for (byte owner : taskOwners) {
+            if (owner == player) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * get the player who claimed one of the parallel routes
+     * @return  the player index, NO_OWNER if the route is not claimed
+     */
+    public int getRouteOwner(int route, int index) { return routeOwners[route * Board.MAX_PARALLEL_ROUTES + index]; }
+
+    /**
+     * check if the game has ended, either a player triggered the last turn or the game reached the turn limit
+     */
+    public boolean isOver() { return lastTurn || turnCount >= GameEngine.MAX_TURNS; }
+
+    /*--------------------------------- setter methods --------------------------------------------------------*/
+
+    /**
+     * set the seed the next shuffle of the discards deck is made from, a captured state starts with the seed
+     * of its game
+     */
+    public void setShuffleSeed(long shuffleSeed) { setSeed(shuffleSeed); }
+
+    /**
+     * start or stop recording the changes of this state, set by ActionLog
+     */
+    void setLog(ActionLog log) { this.log = log; }
+
+    private void record(long event) {
+        if (log != null) {
+            log.record(event);
+        }
+    }
+
+    /*--------------------------------- train cards -----------------------------------------------------------*/
+
+    /**
+     * the current player draws the top card of the face-down deck, the deck is filled from the discards first
+     * if it is empty
+     * @return  the card drawn
+     * @throws IllegalStateException    when both the face-down and the discards deck are empty
+     */
+    public int drawFaceDownCard() {
+        if (faceDownHead == faceDownEnd) {
+            fillFaceDown();
+        }
+        if (faceDownHead == faceDownEnd) {
+            throw new IllegalStateException("The card deck is empty, cannot draw a card.");
+        }
+        int card = faceDown[faceDownHead];
+        setFaceDownHead(faceDownHead + 1);
+        addToHand(currentPlayer, card);
+        record(GameEvent.drawFaceDown(currentPlayer, card));
+        return card;
+    }
+
+    /**
+     * the current player draws a face-up card, the spot is filled with the top face-down card if there is one
+     * @param index     0 - 4
+     * @return  the card drawn
+     * @throws IllegalArgumentException     when the spot is empty
+     */
+    public int drawFaceUpCard(int index) {
+        int card = faceUp[index];
+        if (card == NO_CARD) {
+            throw new IllegalArgumentException("There is no card in this spot.");
+        }
+        setInt(FACE_UP, faceUp, index, faceDownHead < faceDownEnd ? takeFaceDownCard() : NO_CARD);
+        addToHand(currentPlayer, card);
+        record(GameEvent.drawFaceUp(currentPlayer, index, card));
+        return card;
+    }
+
+    /**
+     * refill the decks after a player's turn, the same as DeckManager.manageDecks():
+     * fill the face-down deck from the discards, fill the face-up deck from the face-down deck, and discard
+     * the face-up cards while 3 or more of them are locomotives
+     */
+    public void manageDecks() {
+        if (faceDownHead == faceDownEnd && discardsSize > 0) {
+            fillFaceDown();
+        }
+        int faceUpSize = getFaceUpSize();
+        if (faceUpSize == 0 && faceDownHead < faceDownEnd) {
+            fillFaceUp();
+        } else if (faceUpSize < FACE_UP_NUM) {
+            for (int i = 0; i < FACE_UP_NUM && faceDownHead < faceDownEnd; i++) {
+                if (faceUp[i] == NO_CARD) {
+                    setInt(FACE_UP, faceUp, i, takeFaceDownCard());
+                }
+            }
+        }
+        while (getFaceUpSize() == FACE_UP_NUM && getNumOfFaceUpLocos() >= LOCO_LIMIT) {
+            discardFaceUp();
+            if (faceDownHead < faceDownEnd) {
+                fillFaceUp();
+            }
+        }
+    }
+
+    /**
+     * fill all the face-up spots from the face-down deck, discard and fill again while the spots are full and 3
+     * or more of them are locomotives
+     */
+    private void fillFaceUp() {
+        while (getFaceUpSize() == 0 && faceDownHead < faceDownEnd) {
+            for (int i = 0; i < FACE_UP_NUM && faceDownHead < faceDownEnd; i++) {
+                setInt(FACE_UP, faceUp, i, takeFaceDownCard());
+            }
+            if (getFaceUpSize() == FACE_UP_NUM && getNumOfFaceUpLocos() >= LOCO_LIMIT) {
+                discardFaceUp();
+            }
+        }
+    }
+
+    /**
+     * move every face-up card to the discards deck
+     */
+    private void discardFaceUp() {
+        record(GameEvent.locoWipe(currentPlayer, faceUp));
+        for (int i = 0; i < FACE_UP_NUM; i++) {
+            if (faceUp[i] != NO_CARD) {
+                addToDiscards(faceUp[i]);
+                setInt(FACE_UP, faceUp, i, NO_CARD);
+            }
+        }
+    }
+
+    /**
+     * shuffle the discards deck and make it the face-down deck, only when the face-down deck is empty
+     */
+    private void fillFaceDown() {
+        if (faceDownHead < faceDownEnd || discardsSize == 0) {
+            return;
+        }
+        record(GameEvent.reshuffle(currentPlayer, discardsSize));
+        shuffleDiscards();
+        for (int i = 0; i < discardsSize; i++) {
+            setInt(FACE_DOWN, faceDown, i, discards[i]);
+        }
+        setFaceDownHead(0);
+        setFaceDownEnd(discardsSize);
+        setDiscardsSize(0);
+    }
+
+    /**
+     * take the top card off the face-down deck, the deck has a card
+     */
+    private int takeFaceDownCard() {
+        int card = faceDown[faceDownHead];
+        setFaceDownHead(faceDownHead + 1);
+        return card;
+    }
+
+    private void addToDiscards(int card) {
+        setInt(DISCARDS, discards, discardsSize, card);
+        setDiscardsSize(discardsSize + 1);
+    }
+
+    /**
+     * Fisher-Yates shuffle of the discards deck, driven by the shuffle seed, which moves on after every shuffle
+     */
+    private void shuffleDiscards() {
+        long seed = shuffleSeed;
+        for (int i = discardsSize; i > 1; i--) {
+            seed += 0x9E3779B97F4A7C15L;
+            int j = nextInt(seed, i);
+            int temp = discards[i - 1];
+            setInt(DISCARDS, discards, i - 1, discards[j]);
+            setInt(DISCARDS, discards, j, temp);
+        }
+        setSeed(seed);
+    }
+
+    /**
+     * splitmix64 output of a step of the shuffle seed
+     * @return  a number in 0 (inclusive) to bound (exclusive)
+     */
+    private static int nextInt(long seed, int bound) {
+        long z = seed;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) (((z >>> 32) * bound) >>> 32);
+    }
+
+    private int getFaceUpSize() {
+        int size = 0;
+        for (int card : faceUp) {
+            if (card != NO_CARD) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private int getNumOfFaceUpLocos() {
+        int num = 0;
+        for (int card : faceUp) {
+            if (card != NO_CARD && board.getTrainCardColor(card) == RAINBOW) {
+                num++;
+            }
+        }
+        return num;
+    }
+
+    private void addToHand(int player, int card) {
+        setByte(TRAIN_CARD_OWNERS, trainCardOwners, card, player);
+        int index = player * TrainColor.NUM_OF_CARD_COLORS + board.getTrainCardColor(card);
+        setInt(HAND_COUNTS, handCounts, index, handCounts[index] + 1);
+    }
+
+    /**
+     * move cards of a color from a player's hand to the discards deck, in the order of the card ids
+     */
+    private void discardFromHand(int player, int color, int num) {
+        int index = player * TrainColor.NUM_OF_CARD_COLORS + color;
+        setInt(HAND_COUNTS, handCounts, index, handCounts[index] - num);
+        for (int card = 0; card < trainCardOwners.length && num > 0; card++) {
+            if (trainCardOwners[card] == player && board.getTrainCardColor(card) == color) {
+                setByte(TRAIN_CARD_OWNERS, trainCardOwners, card, NO_OWNER);
+                addToDiscards(card);
+                num--;
+            }
+        }
+    }
+
+    /*--------------------------------- routes ----------------------------------------------------------------*/
+
+    /**
+     * the current player claims one of the parallel routes with cards of one color plus locomotives,
+     * the player scores the route and every task it completes
+     * @param route     the route id
+     * @param index     0 or 1, which of the parallel routes is claimed
+     * @param color     the ordinal of the TrainColor of the non-locomotive cards played, ignored when only locomotives
+     *                  are played
+     * @param numOfLocos    the number of locomotive cards played
+     * @throws IllegalStateException    when the route is taken or the player doesn't have enough trains
+     * @throws IllegalArgumentException     when the color or the cards don't fit the route
+     */
+    public void claimRoute(int route, int index, int color, int numOfLocos) {
+        int player = currentPlayer;
+        int length = board.getRouteLength(route);
+        int numOfColorCards = length - numOfLocos;
+        int routeColor = board.getRouteColor(route, index);
+        if (routeOwners[route * Board.MAX_PARALLEL_ROUTES + index] != NO_OWNER) {
+            throw new IllegalStateException("The route is occupied, cannot claim it.");
+        }
+        for (int i = 0; i < board.getNumOfParallelRoutes(route); i++) {
+            if (routeOwners[route * Board.MAX_PARALLEL_ROUTES + i] == player) {
+                throw new IllegalStateException("This player has occupied a parallel route, cannot claim it.");
+            }
+        }
+        if (trainsLeft[player] < length) {
+            throw new IllegalStateException("Not enough trains left to claim this route.");
+        }
+        if (numOfColorCards > 0 && (color < 0 || color >= TrainColor.NUM_OF_CARD_COLORS || color == RAINBOW ||
+                (routeColor != GREY && routeColor != color))) {
+            throw new IllegalArgumentException("The cards don't match the route color.");
+        }
+        if (numOfLocos < 0 || numOfLocos > length || getNumOfCards(player, RAINBOW) < numOfLocos ||
+                (numOfColorCards > 0 && getNumOfCards(player, color) < numOfColorCards)) {
+            throw new IllegalArgumentException("This player doesn't have any card or enough required cards.");
+        }
+
+        if (numOfColorCards > 0) {
+            discardFromHand(player, color, numOfColorCards);
+        }
+        discardFromHand(player, RAINBOW, numOfLocos);
+        setByte(ROUTE_OWNERS, routeOwners, route * Board.MAX_PARALLEL_ROUTES + index, player);
+        setInt(TRAINS_LEFT, trainsLeft, player, trainsLeft[player] - length);
+        setInt(POINTS, points, player, points[player] + board.getRoutePoints(route));
+        record(GameEvent.claimRoute(player, route, index, numOfColorCards > 0 ? color : RAINBOW, numOfLocos));
+        finishTasks(player);
+    }
+
+    /**
+     * complete every unfinished task of a player whose cities are connected by the player's routes
+     */
+    private void finishTasks(int player) {
+        for (int task = 0; task < taskOwners.length; task++) {
+            if (taskOwners[task] == player && !completedTasks[task] &&
+                    isConnected(player, board.getTaskCity1(task), board.getTaskCity2(task))) {
+                setCompleted(task);
+                setInt(POINTS, points, player, points[player] + board.getTaskPoints(task));
+            }
+        }
+    }
+
+    /**
+     * depth first search over the routes claimed by a player, in the scratch arrays of this state: a city is visited
+     * when its mark is the mark of this search, so nothing is cleared or allocated between searches
+     * @return  true if the player's routes connect the two cities, false otherwise
+     */
+    private boolean isConnected(int player, int fromCity, int toCity) {
+        if (fromCity == Board.NO_CITY || toCity == Board.NO_CITY) {
+            return false;
+        }
+        if (cityMark == Integer.MAX_VALUE) {
+            Arrays.fill(cityMarks, 0);
+            cityMark = 0;
+        }
+        int mark = ++cityMark;
+        int top = 0;
+        cityStack[top++] = fromCity;
+        cityMarks[fromCity] = mark;
+        while (top > 0) {
+            int city = cityStack[--top];
+            if (city == toCity) {
+                return true;
+            }
+            for (int i = 0; i < board.getNumOfCityRoutes(city); i++) {
+                int route = board.getCityRoute(city, i);
+                int next = board.getOtherCity(route, city);
+                if (cityMarks[next] != mark && ownsRoute(player, route)) {
+                    cityMarks[next] = mark;
+                    cityStack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * check if a player claimed any of the parallel routes
+     */
+    public boolean ownsRoute(int player, int route) {
+        for (int i = 0; i < board.getNumOfParallelRoutes(route); i++) {
+            if (routeOwners[route * Board.MAX_PARALLEL_ROUTES + i] == player) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*--------------------------------- task cards ------------------------------------------------------------*/
+
+    /**
+     * deal 3 task cards from the top of the task deck
+     * @throws IllegalStateException    when dealt cards are still waiting or the deck has fewer than 3 cards
+     */
+    public void dealTasks() {
+        for (int task : dealtTasks) {
+            if (task != NO_CARD) {
+                throw new IllegalStateException("Still exist cards in dealt cards, cannot deal more cards.");
+            }
+        }
+        if (getTaskDeckSize() < DEALT_TASK_NUM) {
+            throw new IllegalStateException("Not enough task cards to deal.");
+        }
+        for (int i = 0; i < DEALT_TASK_NUM; i++) {
+            setInt(DEALT_TASKS, dealtTasks, i, taskDeck[taskDeckHead]);
+            setTaskDeckHead(taskDeckHead + 1);
+        }
+        record(GameEvent.dealTasks(currentPlayer, dealtTasks));
+    }
+
+    /**
+     * the current player keeps some of the dealt task cards, the others go to the bottom of the task deck
+     * @param keptIndices   a bit for every dealt card, bit i is set if card i is kept
+     * @throws IllegalArgumentException     when fewer than 2 cards are kept for the first time, or none later
+     */
+    public void keepTasks(int keptIndices) {
+        int player = currentPlayer;
+        boolean hasTasks = hasTasks(player);
+        int numOfKept = Integer.bitCount(keptIndices & ((1 << DEALT_TASK_NUM) - 1));
+        if (!hasTasks && numOfKept < 2) {
+            throw new IllegalArgumentException("The player needs to choose at least 2 task cards in this turn.");
+        } else if (hasTasks && numOfKept < 1) {
+            throw new IllegalArgumentException("The player needs to choose at least 1 task card(s) in this turn.");
+        }
+
+        for (int i = 0; i < DEALT_TASK_NUM; i++) {
+            if ((keptIndices & (1 << i)) != 0 && dealtTasks[i] == NO_CARD) {
+                throw new IllegalArgumentException("No card has been dealt in this spot, cannot keep it.");
+            }
+        }
+
+        for (int i = 0; i < DEALT_TASK_NUM; i++) {
+            if ((keptIndices & (1 << i)) != 0) {
+                setByte(TASK_OWNERS, taskOwners, dealtTasks[i], player);
+            }
+        }
+        for (int i = 0; i < DEALT_TASK_NUM; i++) {
+            if ((keptIndices & (1 << i)) == 0 && dealtTasks[i] != NO_CARD) {
+                if (taskDeckEnd == taskDeck.length) {
+                    // move the deck back to the front of the array to make room at the bottom
+                    for (int j = 0; j < getTaskDeckSize(); j++) {
+                        setInt(TASK_DECK, taskDeck, j, taskDeck[taskDeckHead + j]);
+                    }
+                    setTaskDeckEnd(taskDeckEnd - taskDeckHead);
+                    setTaskDeckHead(0);
+                }
+                setInt(TASK_DECK, taskDeck, taskDeckEnd, dealtTasks[i]);
+                setTaskDeckEnd(taskDeckEnd + 1);
+            }
+            setInt(DEALT_TASKS, dealtTasks, i, NO_CARD);
+        }
+        record(GameEvent.keepTasks(player, keptIndices & ((1 << DEALT_TASK_NUM) - 1)));
+        // a task may already be connected by the routes of the player
+        finishTasks(player);
+    }
+
+    /*--------------------------------- game flow -------------------------------------------------------------*/
+
+    /**
+     * play a move of the current player, a move from MoveGenerator is always legal, the decks are refilled after
+     * every train card drawn and the turn passes to the next player when the current player is done
+     * @param move  a move encoded by Move
+     * @throws IllegalArgumentException     when the move type is unknown
+     */
+    public void apply(int move) {
+        switch (Move.getType(move)) {
+            case Move.DRAW_FACE_UP:
+                int card = drawFaceUpCard(Move.getFaceUpIndex(move));
+                if (turnPhase == START && board.getTrainCardColor(card) != RAINBOW) {
+                    setTurnPhase(SECOND_DRAW);
+                    manageDecks();
+                } else {
+                    finishTurn();
+                }
+                break;
+            case Move.DRAW_FACE_DOWN:
+                drawFaceDownCard();
+                if (turnPhase == START) {
+                    setTurnPhase(SECOND_DRAW);
+                    manageDecks();
+                } else {
+                    finishTurn();
+                }
+                break;
+            case Move.DRAW_TASKS:
+                dealTasks();
+                setTurnPhase(KEEP_TASKS);
+                break;
+            case Move.KEEP_TASKS:
+                keepTasks(Move.getKeptTasks(move));
+                finishTurn();
+                break;
+            case Move.CLAIM_ROUTE:
+                claimRoute(Move.getRoute(move), Move.getRouteIndex(move), Move.getColor(move),
+                        Move.getNumOfLocos(move));
+                finishTurn();
+                break;
+            case Move.PASS:
+                record(GameEvent.pass(currentPlayer));
+                finishTurn();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown move: " + move + ".");
+        }
+        if (history != null) {
+            history.commit();
+        }
+    }
+
+    /**
+     * refill the decks and pass the turn to the next player
+     */
+    private void finishTurn() {
+        manageDecks();
+        setTurnPhase(START);
+        endTurn();
+    }
+
+    /**
+     * pass the turn to the next player, after the last player of a turn, check if the last turn is reached
+     */
+    public void endTurn() {
+        setCurrentPlayer(currentPlayer + 1);
+        if (currentPlayer == getNumOfPlayers()) {
+            setCurrentPlayer(0);
+            for (int trains : trainsLeft) {
+                if (trains <= LAST_TURN_TRAINS) {
+                    setLastTurn(true);
+                    break;
+                }
+            }
+            setTurnCount(turnCount + 1);
+            if (log != null) {
+                log.turnEnded(this);
+            }
+        }
+    }
+
+    /**
+     * deduct the points of unfinished tasks from every player, points never go below 0, then give the longest path
+     * bonus to every player with the longest continuous path
+     */
+    public void finish() {
+        for (int task = 0; task < taskOwners.length; task++) {
+            int owner = taskOwners[task];
+            if (owner != NO_OWNER && !completedTasks[task]) {
+                setInt(POINTS, points, owner, Math.max(0, points[owner] - board.getTaskPoints(task)));
+            }
+        }
+        int[] longestPaths = new int[getNumOfPlayers()];
+        for (int player = 0; player < longestPaths.length; player++) {
+            longestPaths[player] = getLongestPathLength(player);
+        }
+        boolean[] winners = LongestPathFinder.findBonusWinners(longestPaths);
+        for (int player = 0; player < winners.length; player++) {
+            if (winners[player]) {
+                setInt(POINTS, points, player, points[player] + LongestPathFinder.LONGEST_PATH_BONUS);
+            }
+        }
+    }
+
+    /**
+     * get the number of cars of the longest continuous path of the routes claimed by a player
+     */
+    public int getLongestPathLength(int player) {
+        int numOfRoutes = 0;
+        for (int route = 0; route < board.getNumOfRoutes(); route++) {
+            if (ownsRoute(player, route)) {
+                numOfRoutes++;
+            }
+        }
+        int[] cities1 = new int[numOfRoutes];
+        int[] cities2 = new int[numOfRoutes];
+        int[] lengths = new int[numOfRoutes];
+        int i = 0;
+        for (int route = 0; route < board.getNumOfRoutes(); route++) {
+            if (ownsRoute(player, route)) {
+                cities1[i] = board.getRouteCity1(route);
+                cities2[i] = board.getRouteCity2(route);
+                lengths[i++] = board.getRouteLength(route);
+            }
+        }
+        return LongestPathFinder.findLongestPath(cities1, cities2, lengths);
+    }
+
+    /*--------------------------------- undo and redo ---------------------------------------------------------*/
+
+    /**
+     * start keeping the changes of this state so moves can be taken back, every apply() is one move, changes made
+     * by the other methods belong to the next move, or are one move of their own if undo() comes first
+     */
+    public void enableUndo() {
+        if (history == null) {
+            history = new UndoHistory();
+        }
+    }
+
+    /**
+     * stop keeping the changes of this state and forget the moves kept so far
+     */
+    public void disableUndo() { history = null; }
+
+    public boolean canUndo() { return history != null && history.canUndo(); }
+
+    public boolean canRedo() { return history != null && history.canRedo(); }
+
+    /**
+     * take back the last move, in time proportional to the number of values it changed
+     * @throws IllegalStateException    when undo is not enabled or there is no move to take back
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No move to undo.");
+        }
+        history.undo(this);
+    }
+
+    /**
+     * play again the last move taken back, in time proportional to the number of values it changed,
+     * any new change after an undo drops the moves that could be redone
+     * @throws IllegalStateException    when undo is not enabled or there is no move to redo
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No move to redo.");
+        }
+        history.redo(this);
+    }
+
+    /**
+     * write a value back to a field, used by the undo history only
+     */
+    void restore(int field, int index, long value) {
+        switch (field) {
+            case FACE_DOWN: faceDown[index] = (int) value; break;
+            case FACE_DOWN_HEAD: faceDownHead = (int) value; break;
+            case FACE_DOWN_END: faceDownEnd = (int) value; break;
+            case FACE_UP: faceUp[index] = (int) value; break;
+            case DISCARDS: discards[index] = (int) value; break;
+            case DISCARDS_SIZE: discardsSize = (int) value; break;
+            case TRAIN_CARD_OWNERS: trainCardOwners[index] = (byte) value; break;
+            case HAND_COUNTS: handCounts[index] = (int) value; break;
+            case TASK_DECK: taskDeck[index] = (int) value; break;
+            case TASK_DECK_HEAD: taskDeckHead = (int) value; break;
+            case TASK_DECK_END: taskDeckEnd = (int) value; break;
+            case DEALT_TASKS: dealtTasks[index] = (int) value; break;
+            case TASK_OWNERS: taskOwners[index] = (byte) value; break;
+            case COMPLETED_TASKS: completedTasks[index] = value != 0; break;
+            case ROUTE_OWNERS: routeOwners[index] = (byte) value; break;
+            case POINTS: points[index] = (int) value; break;
+            case TRAINS_LEFT: trainsLeft[index] = (int) value; break;
+            case CURRENT_PLAYER: currentPlayer = (int) value; break;
+            case TURN_PHASE: turnPhase = (int) value; break;
+            case TURN_COUNT: turnCount = (int) value; break;
+            case LAST_TURN: lastTurn = value != 0; break;
+            case SHUFFLE_SEED: shuffleSeed = value; break;
+            default: throw new IllegalArgumentException("Unknown field: " + field + ".");
+        }
+    }
+
+    /*--------------------------------- changes kept by the undo history --------------------------------------*/
+
+    private void setInt(int field, int[] array, int index, int value) {
+        if (history != null) {
+            history.add(field, index, array[index], value);
+        }
+        array[index] = value;
+    }
+
+    private void setByte(int field, byte[] array, int index, int value) {
+        if (history != null) {
+            history.add(field, index, array[index], value);
+        }
+        array[index] = (byte) value;
+    }
+
+    private void setCompleted(int task) {
+        if (history != null) {
+            history.add(COMPLETED_TASKS, task, completedTasks[task] ? 1 : 0, 1);
+        }
+        completedTasks[task] = true;
+    }
+
+    private void setFaceDownHead(int head) {
+        if (history != null) {
+            history.add(FACE_DOWN_HEAD, 0, faceDownHead, head);
+        }
+        faceDownHead = head;
+    }
+
+    private void setFaceDownEnd(int end) {
+        if (history != null) {
+            history.add(FACE_DOWN_END, 0, faceDownEnd, end);
+        }
+        faceDownEnd = end;
+    }
+
+    private void setDiscardsSize(int size) {
+        if (history != null) {
+            history.add(DISCARDS_SIZE, 0, discardsSize, size);
+        }
+        discardsSize = size;
+    }
+
+    private void setTaskDeckHead(int head) {
+        if (history != null) {
+            history.add(TASK_DECK_HEAD, 0, taskDeckHead, head);
+        }
+        taskDeckHead = head;
+    }
+
+    private void setTaskDeckEnd(int end) {
+        if (history != null) {
+            history.add(TASK_DECK_END, 0, taskDeckEnd, end);
+        }
+        taskDeckEnd = end;
+    }
+
+    private void setCurrentPlayer(int player) {
+        if (history != null) {
+            history.add(CURRENT_PLAYER, 0, currentPlayer, player);
+        }
+        currentPlayer = player;
+    }
+
+    private void setTurnPhase(int phase) {
+        if (history != null) {
+            history.add(TURN_PHASE, 0, turnPhase, phase);
+        }
+        turnPhase = phase;
+    }
+
+    private void setTurnCount(int count) {
+        if (history != null) {
+            history.add(TURN_COUNT, 0, turnCount, count);
+        }
+        turnCount = count;
+    }
+
+    private void setLastTurn(boolean last) {
+        if (history != null) {
+            history.add(LAST_TURN, 0, lastTurn ? 1 : 0, last ? 1 : 0);
+        }
+        lastTurn = last;
+    }
+
+    private void setSeed(long seed) {
+        if (history != null) {
+            history.add(SHUFFLE_SEED, 0, shuffleSeed, seed);
+        }
+        shuffleSeed = seed;
+    }
+
+    /*--------------------------------- equals and hashCode ---------------------------------------------------*/
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameState other = (GameState) o;
+        return board == other.board &&
+                currentPlayer == other.currentPlayer &&
+                turnPhase == other.turnPhase &&
+                turnCount == other.turnCount &&
+                lastTurn == other.lastTurn &&
+                shuffleSeed == other.shuffleSeed &&
+                Arrays.equals(faceDown, faceDownHead, faceDownEnd, other.faceDown, other.faceDownHead,
+                        other.faceDownEnd) &&
+                Arrays.equals(faceUp, other.faceUp) &&
+                Arrays.equals(discards, 0, discardsSize, other.discards, 0, other.discardsSize) &&
+                Arrays.equals(trainCardOwners, other.trainCardOwners) &&
+                Arrays.equals(taskDeck, taskDeckHead, taskDeckEnd, other.taskDeck, other.taskDeckHead,
+                        other.taskDeckEnd) &&
+                Arrays.equals(dealtTasks, other.dealtTasks) &&
+                Arrays.equals(taskOwners, other.taskOwners) &&
+                Arrays.equals(completedTasks, other.completedTasks) &&
+                Arrays.equals(routeOwners, other.routeOwners) &&
+                Arrays.equals(points, other.points) &&
+                Arrays.equals(trainsLeft, other.trainsLeft);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(currentPlayer, turnPhase, turnCount, lastTurn, shuffleSeed);
+        for (int i = faceDownHead; i < faceDownEnd; i++) {
+            result = 31 * result + faceDown[i];
+        }
+        for (int i = 0; i < discardsSize; i++) {
+            result = 31 * result + discards[i];
+        }
+        for (int i = taskDeckHead; i < taskDeckEnd; i++) {
+            result = 31 * result + taskDeck[i];
+        }
+        result = 31 * result + Arrays.hashCode(faceUp);
+        result = 31 * result + Arrays.hashCode(trainCardOwners);
+        result = 31 * result + Arrays.hashCode(taskOwners);
+        result = 31 * result + Arrays.hashCode(completedTasks);
+        result = 31 * result + Arrays.hashCode(routeOwners);
+        result = 31 * result + Arrays.hashCode(points);
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package game.state;
+
+import color.TrainColor;
+
+/**
+ * This class encodes the actions of a player into single ints, so lists of moves are plain int arrays.
+ * Layout of a move, from the lowest bit:
+ *   bits 0 - 4     number of locomotive cards played to claim a route
+ *   bits 5 - 8     TrainColor ordinal of the other cards played to claim a route, RAINBOW if only locomotives are
+ *                  played
+ *   bit 9          which of the parallel routes is claimed
+ *   bits 10 - 23   route id, face-up spot, or bit mask of the kept task cards
+ *   bits 24 - 27   type of the move
+ */
+public final class Move {
+
+    // move types
+    public static final int DRAW_FACE_UP = 1;
+    public static final int DRAW_FACE_DOWN = 2;
+    public static final int DRAW_TASKS = 3;
+    public static final int KEEP_TASKS = 4;
+    public static final int CLAIM_ROUTE = 5;
+    public static final int PASS = 6; // only when no other move is possible
+
+    private static final int LOCO_BITS = 5;
+    private static final int COLOR_SHIFT = 5;
+    private static final int COLOR_BITS = 4;
+    private static final int INDEX_SHIFT = 9;
+    private static final int VALUE_SHIFT = 10;
+    private static final int VALUE_BITS = 14;
+    private static final int TYPE_SHIFT = 24;
+
+    // private constructor, only static methods
+    private Move() { }
+
+    /*--------------------------------- create moves ----------------------------------------------------------*/
+
+    public static int drawFaceUp(int index) { return DRAW_FACE_UP << TYPE_SHIFT | index << VALUE_SHIFT; }
+
+    public static int drawFaceDown() { return DRAW_FACE_DOWN << TYPE_SHIFT; }
+
+    public static int drawTasks() { return DRAW_TASKS << TYPE_SHIFT; }
+
+    /**
+     * @param keptIndices   a bit for every dealt task card, bit i is set if card i is kept
+     */
+    public static int keepTasks(int keptIndices) { return KEEP_TASKS << TYPE_SHIFT | keptIndices << VALUE_SHIFT; }
+
+    /**
+     * @param route     the route id
+     * @param index     0 or 1, which of the parallel routes is claimed
+     * @param color     the TrainColor ordinal of the non-locomotive cards, RAINBOW if only locomotives are played
+     * @param numOfLocos    the number of locomotive cards played
+     */
+    public static int claimRoute(int route, int index, int color, int numOfLocos) {
+        return CLAIM_ROUTE << TYPE_SHIFT | route << VALUE_SHIFT | index << INDEX_SHIFT | color << COLOR_SHIFT |
+                numOfLocos;
+    }
+
+    public static int pass() { return PASS << TYPE_SHIFT; }
+
+    /*--------------------------------- read moves ------------------------------------------------------------*/
+
+    public static int getType(int move) { return move >>> TYPE_SHIFT; }
+
+    public static int getFaceUpIndex(int move) { return getValue(move); }
+
+    public static int getKeptTasks(int move) { return getValue(move); }
+
+    public static int getRoute(int move) { return getValue(move); }
+
+    public static int getRouteIndex(int move) { return (move >>> INDEX_SHIFT) & 1; }
+
+    public static int getColor(int move) { return (move >>> COLOR_SHIFT) & ((1 << COLOR_BITS) - 1); }
+
+    public static int getNumOfLocos(int move) { return move & ((1 << LOCO_BITS) - 1); }
+
+    private static int getValue(int move) { return (move >>> VALUE_SHIFT) & ((1 << VALUE_BITS) - 1); }
+
+    /**
+     * describe a move, for logs and debugging
+     */
+    public static String toString(int move) {
+        switch (getType(move)) {
+            case DRAW_FACE_UP:
+                return "draw face-up " + getFaceUpIndex(move);
+            case DRAW_FACE_DOWN:
+                return "draw face-down";
+            case DRAW_TASKS:
+                return "draw tasks";
+            case KEEP_TASKS:
+                return "keep tasks " + Integer.toBinaryString(getKeptTasks(move));
+            case CLAIM_ROUTE:
+                return "claim route " + getRoute(move) + "/" + getRouteIndex(move) + " with " +
+                        getNumOfLocos(move) + " rainbow and " + TrainColor.get(getColor(move)).getName();
+            case PASS:
+                return "pass";
+            default:
+                return "unknown move " + move;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package game.state;
+
+import color.TrainColor;
+
+/**
+ * This class lists every legal move of the current player of a game state into an int array given by the caller,
+ * nothing is allocated, so it can be called millions of times in a simulation.
+ * A turn is either drawing two train cards (a face-up locomotive drawn first is the whole turn, and cannot be drawn
+ * second), drawing task cards and keeping at least one of them, or claiming a route with cards of one color and
+ * any number of locomotives.
+ */
+public final class MoveGenerator {
+
+    private static final int KEEP_MASKS = 1 << GameState.DEALT_TASK_NUM;
+    private static final int RAINBOW = TrainColor.RAINBOW.ordinal();
+    private static final int GREY = TrainColor.GREY.ordinal();
+
+    // private constructor, only static methods
+    private MoveGenerator() { }
+
+    /**
+     * get the size of a move array that is large enough for any state of a board
+     * @param board     the board of the game
+     * @return  the maximum number of legal moves
+     */
+    public static int getMaxMoves(Board board) {
+        int max = GameState.FACE_UP_NUM + 2 + KEEP_MASKS;
+        for (int route = 0; route < board.getNumOfRoutes(); route++) {
+            // every color with 0 to length - 1 locomotives, plus locomotives only
+            max += board.getNumOfParallelRoutes(route) * ((TrainColor.NUM_OF_CARD_COLORS - 1) * board.getRouteLength(route) + 1);
+        }
+        return max;
+    }
+
+    /**
+     * list the legal moves of the current player
+     * @param state     the game state
+     * @param moves     the array the moves are written to, at least getMaxMoves() long
+     * @return  the number of moves written, at least 1, PASS is the only move when nothing else is possible
+     */
+    public static int generate(GameState state, int[] moves) {
+        int num;
+        switch (state.getTurnPhase()) {
+            case GameState.SECOND_DRAW:
+                num = generateDraws(state, moves, 0, false);
+                break;
+            case GameState.KEEP_TASKS:
+                num = generateKeeps(state, moves);
+                break;
+            default:
+                num = generateDraws(state, moves, 0, true);
+                if (state.getTaskDeckSize() >= GameState.DEALT_TASK_NUM) {
+                    moves[num++] = Move.drawTasks();
+                }
+                num = generateClaims(state, moves, num);
+        }
+        if (num == 0) {
+            moves[num++] = Move.pass();
+        }
+        return num;
+    }
+
+    /**
+     * face-up spots holding a card, locomotives only as the first card, and the face-down deck if it or the
+     * discards deck has cards
+     */
+    private static int generateDraws(GameState state, int[] moves, int num, boolean firstCard) {
+        Board board = state.getBoard();
+        for (int i = 0; i < GameState.FACE_UP_NUM; i++) {
+            int card = state.getFaceUpCard(i);
+            if (card != GameState.NO_CARD && (firstCard || board.getTrainCardColor(card) != RAINBOW)) {
+                moves[num++] = Move.drawFaceUp(i);
+            }
+        }
+        if (state.getFaceDownSize() > 0 || state.getDiscardsSize() > 0) {
+            moves[num++] = Move.drawFaceDown();
+        }
+        return num;
+    }
+
+    /**
+     * every choice of at least 2 dealt cards the first time a player keeps tasks, at least 1 afterwards
+     */
+    private static int generateKeeps(GameState state, int[] moves) {
+        int dealt = 0;
+        for (int i = 0; i < GameState.DEALT_TASK_NUM; i++) {
+            if (state.getDealtTask(i) != GameState.NO_CARD) {
+                dealt |= 1 << i;
+            }
+        }
+        int min = state.hasTasks(state.getCurrentPlayer()) ? 1 : 2;
+        int num = 0;
+        for (int mask = 1; mask < KEEP_MASKS; mask++) {
+            if ((mask & ~dealt) == 0 && Integer.bitCount(mask) >= min) {
+                moves[num++] = Move.keepTasks(mask);
+            }
+        }
+        return num;
+    }
+
+    /**
+     * every free route the player has enough trains for, with every split of its cards between one color and
+     * locomotives, the second of two free parallel routes of the same color is skipped as it is the same move
+     */
+    private static int generateClaims(GameState state, int[] moves, int num) {
+        Board board = state.getBoard();
+        int player = state.getCurrentPlayer();
+        int trains = state.getTrainsLeft(player);
+        int locos = state.getNumOfCards(player, RAINBOW);
+
+        // the colors in hand and the most cards of one color, no route longer than that plus locomotives is claimable
+        int heldColors = 0;
+        int maxColorCards = 0;
+        for (int color = 0; color < TrainColor.NUM_OF_CARD_COLORS; color++) {
+            int colorCards = state.getNumOfCards(player, color);
+            if (colorCards > 0 && color != RAINBOW) {
+                heldColors |= 1 << color;
+                maxColorCards = Math.max(maxColorCards, colorCards);
+            }
+        }
+        int maxLength = Math.min(trains, Math.max(maxColorCards + locos, locos));
+
+        for (int route = 0; route < board.getNumOfRoutes(); route++) {
+            int length = board.getRouteLength(route);
+            if (length > maxLength || state.ownsRoute(player, route)) {
+                continue;
+            }
+            for (int index = 0; index < board.getNumOfParallelRoutes(route); index++) {
+                if (state.getRouteOwner(route, index) != GameState.NO_OWNER) {
+                    continue;
+                }
+                int routeColor = board.getRouteColor(route, index);
+                if (index == 1 && routeColor == board.getRouteColor(route, 0) &&
+                        state.getRouteOwner(route, 0) == GameState.NO_OWNER) {
+                    continue;
+                }
+                if (routeColor == GREY) {
+                    for (int colors = heldColors; colors != 0; colors &= colors - 1) {
+                        int color = Integer.numberOfTrailingZeros(colors);
+                        num = generateSplits(state, moves, num, route, index, color, length, locos);
+                    }
+                } else {
+                    num = generateSplits(state, moves, num, route, index, routeColor, length, locos);
+                }
+                if (locos >= length) {
+                    moves[num++] = Move.claimRoute(route, index, RAINBOW, length);
+                }
+            }
+        }
+        return num;
+    }
+
+    /**
+     * claims with at least one card of the color and the rest locomotives
+     */
+    private static int generateSplits(GameState state, int[] moves, int num, int route, int index, int color,
+                                      int length, int locos) {
+        int colorCards = state.getNumOfCards(state.getCurrentPlayer(), color);
+        if (colorCards == 0 || colorCards + locos < length) {
+            return num;
+        }
+        for (int numOfLocos = Math.max(0, length - colorCards); numOfLocos < length && numOfLocos <= locos;
+             numOfLocos++) {
+            moves[num++] = Move.claimRoute(route, index, color, numOfLocos);
+        }
+        return num;
+    }
+}
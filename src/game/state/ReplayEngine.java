@@ -0,0 +1,105 @@
+package game.state;
+
+import java.util.Arrays;
+
+/**
+ * This class rebuilds positions of a recorded game by applying the events of its ActionLog to a copy of the
+ * nearest snapshot. Player actions are applied as moves; reshuffles and locomotive wipes follow from them and the
+ * shuffle seed, so they are produced again rather than applied, and verify() checks they match the log.
+ */
+public final class ReplayEngine {
+
+    private final ActionLog log;
+
+    /**
+     * constructor
+     * @param log   the log of the game to replay
+     */
+    public ReplayEngine(ActionLog log) {
+        this.log = log;
+    }
+
+    /**
+     * rebuild the position at the start of a turn, from the latest snapshot at or before it
+     * @param turn  the turn count of the position
+     * @return  a new state, the first player is to play
+     * @throws IllegalArgumentException     when the log doesn't cover the turn
+     */
+    public GameState seek(int turn) {
+        int snapshot = log.findSnapshot(turn);
+        if (snapshot < 0) {
+            throw new IllegalArgumentException("The log starts after turn " + turn + ".");
+        }
+        GameState state = log.getSnapshot(snapshot);
+        int index = log.getSnapshotEventIndex(snapshot);
+        while (state.getTurnCount() < turn && index < log.size()) {
+            index = applyNext(state, index);
+        }
+        if (state.getTurnCount() != turn) {
+            throw new IllegalArgumentException("The log ends before turn " + turn + ".");
+        }
+        return state;
+    }
+
+    /**
+     * rebuild the position after a number of events, from the latest snapshot before it, the deck changes that
+     * follow a player action are part of it
+     * @param numOfEvents   the number of events applied, 0 to the size of the log
+     * @return  a new state
+     * @throws IllegalArgumentException     when the number is out of the log
+     */
+    public GameState replayTo(int numOfEvents) {
+        if (numOfEvents < 0 || numOfEvents > log.size()) {
+            throw new IllegalArgumentException("The log has no event " + numOfEvents + ".");
+        }
+        int snapshot = log.getNumOfSnapshots() - 1;
+        while (log.getSnapshotEventIndex(snapshot) > numOfEvents) {
+            snapshot--;
+        }
+        GameState state = log.getSnapshot(snapshot);
+        int index = log.getSnapshotEventIndex(snapshot);
+        while (index < numOfEvents) {
+            index = applyNext(state, index);
+        }
+        return state;
+    }
+
+    /**
+     * rebuild the last position of the log
+     */
+    public GameState replayAll() {
+        return replayTo(log.size());
+    }
+
+    /**
+     * replay the whole log from its start while recording the replay, and compare the two logs
+     * @return  true if the replay produces exactly the recorded events, false otherwise
+     */
+    public boolean verify() {
+        GameState state = log.getSnapshot(0);
+        ActionLog replayed = new ActionLog(state, log.getSnapshotInterval());
+        int index = 0;
+        while (index < log.size()) {
+            index = applyNext(state, index);
+        }
+        replayed.stop(state);
+        return Arrays.equals(replayed.getEvents(), log.getEvents());
+    }
+
+    /**
+     * apply the next player action of the log, the deck changes recorded before it are skipped as they are produced
+     * again by the previous action or by this one
+     * @return  the index of the event after the action
+     */
+    private int applyNext(GameState state, int index) {
+        long event = log.getEvent(index);
+        while (!GameEvent.isPlayerAction(event)) {
+            if (++index == log.size()) {
+                return index;
+            }
+            event = log.getEvent(index);
+        }
+        state.apply(GameEvent.toMove(event));
+        return index + 1;
+    }
+}
@@ -0,0 +1,107 @@
+package game.state;
+
+import java.util.Arrays;
+
+/**
+ * This class keeps the changes of a game state as reversible deltas: every change is the field and index written,
+ * the value before and the value after. The changes of one move form a delta, undoing a move writes the old values
+ * back in reverse order and redoing it writes the new values again, so both only touch what the move changed.
+ * Deltas after the current move are kept for redo until a new change is made.
+ */
+final class UndoHistory {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int FIELD_SHIFT = 24;
+    private static final int INDEX_MASK = (1 << FIELD_SHIFT) - 1;
+
+    // changes, the ones at and after size belong to moves that can be redone
+    private int[] locations; // field id << FIELD_SHIFT | index
+    private long[] oldValues;
+    private long[] newValues;
+    private int size;
+
+    // the end of the changes of every move, moves at and after numOfMoves can be redone
+    private int[] moveEnds;
+    private int numOfMoves;
+    private int numOfRedoMoves;
+
+    UndoHistory() {
+        locations = new int[INITIAL_CAPACITY];
+        oldValues = new long[INITIAL_CAPACITY];
+        newValues = new long[INITIAL_CAPACITY];
+        moveEnds = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * keep a change of the current move, the moves that could be redone are dropped
+     */
+    void add(int field, int index, long oldValue, long newValue) {
+        numOfRedoMoves = 0;
+        if (size == locations.length) {
+            locations = Arrays.copyOf(locations, size * 2);
+            oldValues = Arrays.copyOf(oldValues, size * 2);
+            newValues = Arrays.copyOf(newValues, size * 2);
+        }
+        locations[size] = field << FIELD_SHIFT | index;
+        oldValues[size] = oldValue;
+        newValues[size] = newValue;
+        size++;
+    }
+
+    /**
+     * close the current move, nothing happens if it has no change
+     */
+    void commit() {
+        if (size > getMoveStart(numOfMoves)) {
+            if (numOfMoves == moveEnds.length) {
+                moveEnds = Arrays.copyOf(moveEnds, numOfMoves * 2);
+            }
+            moveEnds[numOfMoves++] = size;
+            numOfRedoMoves = 0;
+        }
+    }
+
+    boolean canUndo() { return numOfMoves > 0 || size > 0; }
+
+    boolean canRedo() { return numOfRedoMoves > 0; }
+
+    /**
+     * take back the last move, changes not closed by a move yet are closed as a move first
+     */
+    void undo(GameState state) {
+        commit();
+        int start = getMoveStart(numOfMoves - 1);
+        for (int i = size - 1; i >= start; i--) {
+            state.restore(locations[i] >>> FIELD_SHIFT, locations[i] & INDEX_MASK, oldValues[i]);
+        }
+        size = start;
+        numOfMoves--;
+        numOfRedoMoves++;
+    }
+
+    /**
+     * play again the last move taken back
+     */
+    void redo(GameState state) {
+        int end = moveEnds[numOfMoves];
+        for (int i = size; i < end; i++) {
+            state.restore(locations[i] >>> FIELD_SHIFT, locations[i] & INDEX_MASK, newValues[i]);
+        }
+        size = end;
+        numOfMoves++;
+        numOfRedoMoves--;
+    }
+
+    /**
+     * forget every move
+     */
+    void clear() {
+        size = 0;
+        numOfMoves = 0;
+        numOfRedoMoves = 0;
+    }
+
+    private int getMoveStart(int move) {
+        return move == 0 ? 0 : moveEnds[move - 1];
+    }
+}
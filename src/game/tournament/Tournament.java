@@ -0,0 +1,144 @@
+package game.tournament;
+
+import game.GameEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class plays many games between computer players at the same time and collects their results. Games are split
+ * into batches on a work-stealing ForkJoinPool, every batch plays its games in its own GameEngine objects and
+ * accumulates its own TournamentStats, the stats are merged when the batches join.
+ * The seed of every game only depends on the tournament seed and the game number, so a tournament gives the same
+ * results no matter how many threads play it.
+ */
+public class Tournament {
+
+    private static final int BATCH_SIZE = 16; // a batch of this size or smaller is played without splitting
+
+    private int playerNum;
+    private int numOfGames;
+    private int parallelism;
+    private long seed;
+
+    /**
+     * constructor, play on all available cores
+     * @param playerNum     the number of computer players in every game, 2 - 5
+     * @param numOfGames    the number of games to play
+     */
+    public Tournament(int playerNum, int numOfGames) {
+        this(playerNum, numOfGames, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * constructor, with a random seed
+     * @param playerNum     the number of computer players in every game, 2 - 5
+     * @param numOfGames    the number of games to play
+     * @param parallelism   the number of threads playing games
+     * @throws  IllegalArgumentException    when the number of games is negative or parallelism is not positive
+     */
+    public Tournament(int playerNum, int numOfGames, int parallelism) {
+        this(playerNum, numOfGames, parallelism, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * constructor
+     * @param playerNum     the number of computer players in every game, 2 - 5
+     * @param numOfGames    the number of games to play
+     * @param parallelism   the number of threads playing games
+     * @param seed  the seed the seeds of all the games are made from
+     * @throws  IllegalArgumentException    when the number of games is negative or parallelism is not positive
+     */
+    public Tournament(int playerNum, int numOfGames, int parallelism, long seed) {
+        if (numOfGames < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative.");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism has to be a positive integer.");
+        }
+        this.playerNum = playerNum;
+        this.numOfGames = numOfGames;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    public long getSeed() { return seed; }
+
+    /**
+     * get the seed of a game of this tournament, used to replay a single game
+     * @param game  the game number, 0 to the number of games (exclusive)
+     * @return  the seed of that game
+     */
+    public long getGameSeed(int game) {
+        return new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /**
+     * play all the games of this tournament
+     * @return  the merged results of all the games, including the time spent on playing them
+     */
+    public TournamentStats run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            TournamentStats stats = pool.invoke(new GameBatch(0, numOfGames));
+            stats.setElapsedNanos(System.nanoTime() - start);
+            return stats;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * a range of games, split in halves until it is small enough to be played by one thread
+     */
+    private class GameBatch extends RecursiveTask<TournamentStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GameBatch(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (to - from <= BATCH_SIZE) {
+                TournamentStats stats = new TournamentStats(playerNum);
+                for (int i = from; i < to; i++) {
+                    GameEngine engine = new GameEngine(playerNum, getGameSeed(i));
+                    engine.play();
+                    stats.addGame(engine);
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            GameBatch left = new GameBatch(from, mid);
+            left.fork();
+            TournamentStats right = new GameBatch(mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * play the same number of games with 1, 2, 4 ... threads up to the number of cores and print games per second
+     * @param args  optional number of games (default 1000) and number of players (default 4)
+     */
+    public static void main(String[] args) {
+        int numOfGames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int playerNum = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // warm up before measuring
+        new Tournament(playerNum, Math.min(numOfGames, 200), cores).run();
+
+        for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads * 2, cores) : cores + 1) {
+            TournamentStats stats = new Tournament(playerNum, numOfGames, threads).run();
+            System.out.println(threads + " thread(s): " + stats);
+        }
+    }
+}
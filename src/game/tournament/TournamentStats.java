@@ -0,0 +1,133 @@
+package game.tournament;
+
+import game.GameEngine;
+import player.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class accumulates the results of the games played in a tournament. An object is filled by one thread only,
+ * objects filled by different threads are combined with merge(), so no locking is needed while games are played.
+ */
+public class TournamentStats {
+
+    private int playerNum;
+    private long games;
+    private long unfinishedGames; // games stopped by the turn limit instead of the last turn
+    private long turns;
+    private long totalPoints;
+    private int maxPoints;
+    private int minPoints;
+    private long completedTasks;
+    private long failedTasks;
+    private long[] winsBySeat;
+    private long elapsedNanos;
+
+    /**
+     * constructor
+     * @param playerNum     the number of players in every game of the tournament
+     */
+    public TournamentStats(int playerNum) {
+        this.playerNum = playerNum;
+        maxPoints = Integer.MIN_VALUE;
+        minPoints = Integer.MAX_VALUE;
+        winsBySeat = new long[playerNum];
+    }
+
+    /**
+     * add the result of a finished game
+     * @param engine    a game that has been played to the end
+     * @throws  IllegalArgumentException    when the game has a different number of players
+     */
+    public void addGame(GameEngine engine) {
+        List<Player> players = engine.getPlayers();
+        if (players.size() != playerNum) {
+            throw new IllegalArgumentException("The game should have " + playerNum + " players.");
+        }
+        games++;
+        if (!engine.isLastTurn()) {
+            unfinishedGames++;
+        }
+        turns += engine.getTurnCount();
+        for (Player p : players) {
+            totalPoints += p.getPoints();
+            maxPoints = Math.max(maxPoints, p.getPoints());
+            minPoints = Math.min(minPoints, p.getPoints());
+            completedTasks += p.getNumOfCompletedTaskCard();
+            failedTasks += p.getNumOfTaskCard() - p.getNumOfCompletedTaskCard();
+        }
+        winsBySeat[players.indexOf(engine.getWinner())]++;
+    }
+
+    /**
+     * combine the results accumulated by another object into this object
+     * @param other     results of other games of the same tournament
+     * @return  this object
+     */
+    public TournamentStats merge(TournamentStats other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        turns += other.turns;
+        totalPoints += other.totalPoints;
+        maxPoints = Math.max(maxPoints, other.maxPoints);
+        minPoints = Math.min(minPoints, other.minPoints);
+        completedTasks += other.completedTasks;
+        failedTasks += other.failedTasks;
+        for (int i = 0; i < playerNum; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        return this;
+    }
+
+    /**
+     * set the time spent on playing the games, used by Tournament
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public long getGames() { return games; }
+
+    public long getUnfinishedGames() { return unfinishedGames; }
+
+    public long getTurns() { return turns; }
+
+    public int getMaxPoints() { return maxPoints; }
+
+    public int getMinPoints() { return minPoints; }
+
+    public long getCompletedTasks() { return completedTasks; }
+
+    public long getFailedTasks() { return failedTasks; }
+
+    public long getWins(int seat) { return winsBySeat[seat]; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getAveragePoints() {
+        return games == 0 ? 0 : totalPoints * 1.0 / (games * playerNum);
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : turns * 1.0 / games;
+    }
+
+    /**
+     * get the number of games played per second
+     * @return  games per second, 0 if no time has been recorded
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (%d hit the turn limit), %.1f turns/game, points avg %.1f min %d max %d, " +
+                        "tasks completed %d failed %d, wins by seat %s, %.1f games/s",
+                games, unfinishedGames, getAverageTurns(), getAveragePoints(), minPoints, maxPoints,
+                completedTasks, failedTasks, Arrays.toString(winsBySeat), getGamesPerSecond());
+    }
+}
@@ -0,0 +1,138 @@
+package player;
+
+import color.TrainColor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class enumerates the combinations of train cards a hand can play to claim a route into a reusable int buffer,
+ * one packed int per combination: the ordinal of the card color, the number of cards of that color and the number of
+ * rainbow cards, 8 bits each. A combination of only rainbow cards has the color rainbow and no color cards.
+ * Enumerating allocates nothing once the buffer is large enough, the combinations are the ones, in the order, the
+ * maps of Player.getCardCombinationOnATargetRoute used to list.
+ * An instance holds the combinations of the last enumeration and isn't safe to use from several threads.
+ */
+public final class CardCombinations {
+
+    private static final int COUNT_BITS = 8;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] combinations = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * enumerate the combinations of cards of a hand that pay for a route, replacing the last ones: all rainbow cards,
+     * all cards of the route color, then from the most cards of the route color down to one, the cards of the route
+     * color and rainbow cards for the rest of the route, for grey routes the same for every color in the hand.
+     * As before, the mixed combinations are only listed with two or more cards of the color, and may ask for more
+     * rainbow cards than the hand has.
+     * @param hand  a hand packed by PackedHand
+     * @param routeColor    the color of the route
+     * @param numOfCars     the length of the route
+     * @return  the number of combinations
+     */
+    public int enumerate(long hand, TrainColor routeColor, int numOfCars) {
+        size = 0;
+        int rainbowNum = PackedHand.count(hand, TrainColor.RAINBOW);
+        if (rainbowNum >= numOfCars) {
+            add(TrainColor.RAINBOW, 0, numOfCars);
+        }
+        if (routeColor.isCardColor()) {
+            addColorCombinations(routeColor, PackedHand.count(hand, routeColor), rainbowNum, numOfCars);
+        } else { // grey route, every color in the hand but rainbow
+            int colors = PackedHand.getColors(hand) & ~(1 << TrainColor.RAINBOW.ordinal());
+            for (; colors != 0; colors &= colors - 1) {
+                TrainColor color = TrainColor.get(Integer.numberOfTrailingZeros(colors));
+                addColorCombinations(color, PackedHand.count(hand, color), rainbowNum, numOfCars);
+            }
+        }
+        return size;
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * get a combination of the last enumeration
+     * @param index     from 0 to size (exclusive)
+     * @return  the packed combination
+     * @throws IndexOutOfBoundsException    when the index is out of range
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return combinations[index];
+    }
+
+    /**
+     * get the card color of a combination, rainbow for a combination of only rainbow cards
+     */
+    public static TrainColor getColor(int combination) {
+        return TrainColor.get(combination >>> 2 * COUNT_BITS);
+    }
+
+    /**
+     * get the number of cards of the card color of a combination, 0 for a combination of only rainbow cards
+     */
+    public static int getNumOfColorCards(int combination) { return (combination >>> COUNT_BITS) & COUNT_MASK; }
+
+    /**
+     * get the number of rainbow cards of a combination
+     */
+    public static int getNumOfRainbowCards(int combination) { return combination & COUNT_MASK; }
+
+    /**
+     * get a combination as a map of color names to numbers of cards, the form Player lists combinations in
+     * @return  a new map
+     */
+    public static Map<String, Integer> toMap(int combination) {
+        Map<String, Integer> map = new HashMap<>();
+        if (getNumOfRainbowCards(combination) > 0) {
+            map.put(TrainColor.RAINBOW.getName(), getNumOfRainbowCards(combination));
+        }
+        if (getNumOfColorCards(combination) > 0) {
+            map.put(getColor(combination).getName(), getNumOfColorCards(combination));
+        }
+        return map;
+    }
+
+    /**
+     * add the combinations of cards of one color, alone or with rainbow cards
+     */
+    private void addColorCombinations(TrainColor color, int colorNum, int rainbowNum, int numOfCars) {
+        if (colorNum >= numOfCars) {
+            add(color, numOfCars, 0);
+        }
+        if (rainbowNum + colorNum >= numOfCars && colorNum < numOfCars && rainbowNum < numOfCars && colorNum > 1) {
+            for (int i = colorNum; i > 0; i--) {
+                add(color, i, numOfCars - i);
+            }
+        }
+    }
+
+    /**
+     * add a combination unless it was added before, cards of the color rainbow are counted as rainbow cards only,
+     * as a map that puts the color after rainbow keeps the number of color cards
+     */
+    private void add(TrainColor color, int colorNum, int rainbowNum) {
+        if (color == TrainColor.RAINBOW) {
+            rainbowNum = colorNum > 0 ? colorNum : rainbowNum;
+            colorNum = 0;
+        }
+        int combination = color.ordinal() << 2 * COUNT_BITS | colorNum << COUNT_BITS | rainbowNum;
+        for (int i = 0; i < size; i++) {
+            if (combinations[i] == combination) {
+                return;
+            }
+        }
+        if (size == combinations.length) {
+            combinations = Arrays.copyOf(combinations, 2 * size);
+        }
+        combinations[size++] = combination;
+    }
+}
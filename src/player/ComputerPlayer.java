@@ -2,10 +2,11 @@ package player;
 
 import card.TaskCard;
 import card.TrainCard;
-import carddeck.FaceDownDeck;
-import carddeck.FaceUpDeck;
-import carddeck.TaskCardDeck;
+import carddeck.DeckManager;
+import city.City;
+import route.Route;
 
+import java.io.PrintStream;
 import java.util.*;
 
 /**
@@ -21,20 +22,37 @@ public class ComputerPlayer extends Player {
 
     private int intelligenceLevel;
     private Random rand;
-    private long seed = 24; // randomly choose a seed
     private int counter;
+    private List<Route<City>> claimableRoutes; // routes of the game this player can try to claim
 
 
     /**
-     * constructor
+     * constructor, the computer player plays with the decks of the console game
      * @param playerName input userName
+     * @param rand  the random generator this player makes its decisions with, split from the game's generator
      */
-    public ComputerPlayer(String playerName, int intelligenceLevel) {
+    public ComputerPlayer(String playerName, int intelligenceLevel, Random rand) {
         super(playerName);
         this.intelligenceLevel = intelligenceLevel;
-        rand = new Random();
-        rand.setSeed(seed);
+        this.rand = rand;
         counter = 0;
+        claimableRoutes = List.of();
+    }
+
+    /**
+     * constructor, the computer player plays with the decks of the given deck manager
+     * @param playerName input userName
+     * @param manager   the deck manager of the game this player joins
+     * @param out   where messages of this player are printed
+     * @param rand  the random generator this player makes its decisions with, split from the game's generator
+     */
+    public ComputerPlayer(String playerName, int intelligenceLevel, DeckManager manager, PrintStream out,
+                          Random rand) {
+        super(playerName, manager, out);
+        this.intelligenceLevel = intelligenceLevel;
+        this.rand = rand;
+        counter = 0;
+        claimableRoutes = List.of();
     }
 
     /**
@@ -43,6 +61,14 @@ public class ComputerPlayer extends Player {
     @Override
     public boolean isHumanPlayer() { return false; }
 
+    /**
+     * set the routes of the game that this player can try to claim in a turn
+     * @param routes    all the routes of the game
+     */
+    public void setClaimableRoutes(List<Route<City>> routes) {
+        claimableRoutes = routes;
+    }
+
     /**
      * use random number to automatically generate card indices in drawing task cards
      * @return a set of card indices to be used in drawing face-up cards
@@ -78,31 +104,70 @@ public class ComputerPlayer extends Player {
      * decision making
      */
     public void play() {
+        boolean canDraw = getFaceUpDeck().getSize() + getFaceDownDeck().getSize() >= 2;
         // fewer than 10 cards, decks are not empty, draw cards
-        if (super.getNumOfTrainCard() < TRAIN_CARD_NUM_THRESHOLD &&
-                FaceUpDeck.getObjectInstance().getSize() + FaceDownDeck.getObjectInstance().getSize() >= 2) {
+        if (super.getNumOfTrainCard() < TRAIN_CARD_NUM_THRESHOLD && canDraw) {
             computerDrawTrainCard();
 
-            // fewer than 10 cards, decks are empty, claim routes
-        } else if (super.getNumOfTrainCard() < TRAIN_CARD_NUM_THRESHOLD &&
-                FaceUpDeck.getObjectInstance().getSize() + FaceDownDeck.getObjectInstance().getSize() < 2) {
-            computerClaimRoute();
+            // enough cards or decks are empty, claim routes, draw cards if no route can be claimed
+        } else if (!computerClaimRoute() && canDraw) {
+            computerDrawTrainCard();
             // TODO: decide when to draw task cards, this should be the least frequent option
         }
     }
 
     /**
-     * choose what routes to claim
+     * choose what routes to claim, start from a random route and claim the first route that this player has enough
+     * cards and trains for, using the first card combination
+     * @return  true if a route is claimed, false otherwise
      */
-    private void computerClaimRoute() {
+    private boolean computerClaimRoute() {
+        if (claimableRoutes.isEmpty()) {
+            return false;
+        }
+        int start = rand.nextInt(claimableRoutes.size());
+        for (int i = 0; i < claimableRoutes.size(); i++) {
+            Route<City> route = claimableRoutes.get((start + i) % claimableRoutes.size());
+            if (route.getNumOfCars() > getNumOfTrainLeft() || ownsRoute(route)) {
+                continue;
+            }
+            List<String> colors = route.getColors();
+            for (int j = 0; j < colors.size(); j++) {
+                String color = colors.get(j);
+                // parallel routes of the same color are tried once
+                if (colors.indexOf(color) < j) {
+                    continue;
+                }
+                CardCombinations combinations = findCardCombinations(route, color);
+                if (combinations != null && !combinations.isEmpty()) {
+                    chooseACombination(route, color, combinations.get(0));
+                    getOutput().println(getPlayerName() + " has claimed a route.");
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
+    /**
+     * check if this player has claimed a route or its parallel route
+     * @param route     the route being checked
+     * @return  true if one of the parallel routes is owned by this player, false otherwise
+     */
+    private boolean ownsRoute(Route<City> route) {
+        for (int i = 0; i < route.getColors().size(); i++) {
+            if (getPlayerId().equals(route.getOwnerId(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * draws 1 random task card each time
      */
     private void computerDrawTaskCard() {
-        if (!TaskCardDeck.getObjectInstance().isEmpty()) {
+        if (!getTaskCardDeck().isEmpty()) {
             List<TaskCard> taskCards = super.drawTaskCards();
             int taskIndex = rand.nextInt(taskCards.size());
             super.chooseTaskCards(taskCards, Set.of(taskIndex));
@@ -117,38 +182,32 @@ public class ComputerPlayer extends Player {
         TrainCard currCard = null;
 
         // choose to draw face-up cards
-        if (!FaceUpDeck.getObjectInstance().isEmpty()) {
-            // generate random index
-            int faceUpIndex = rand.nextInt(MAX_FACE_UP_NUM);
-
-            // regenerate index if the card it's pointing to is null
-            while (FaceUpDeck.getListInstance().get(faceUpIndex) == null) {
-                faceUpIndex = rand.nextInt(MAX_FACE_UP_NUM);
+        if (!getFaceUpDeck().isEmpty()) {
+            // collect the indices of the cards that can be drawn, skip empty spots,
+            // skip rainbow cards if a rainbow card is not allowed
+            List<Integer> faceUpIndices = new ArrayList<>();
+            for (int i = 0; i < getFaceUpDeck().getCards().size(); i++) {
+                String color = getFaceUpDeck().getColorAt(i);
+                if (color != null && (isAbleToDrawRainbowCard() || !color.equalsIgnoreCase("rainbow"))) {
+                    faceUpIndices.add(i);
+                }
             }
+            if (faceUpIndices.isEmpty()) {
+                setUnableToDrawTrainCard();
+                return null;
+            }
+
+            // generate random index
+            int faceUpIndex = faceUpIndices.get(rand.nextInt(faceUpIndices.size()));
 
             // check if the color is rainbow color
             // if so, get only one card
-            assert FaceUpDeck.getColorByIndex(faceUpIndex) != null;
-            while (FaceUpDeck.getColorByIndex(faceUpIndex)
-                    .equalsIgnoreCase("rainbow")) {
-                if (isAbleToDrawRainbowCard()) {
-                    currCard = super.drawAFaceUpCard(faceUpIndex);
-                    setUnableToDrawRainbowCard();
-                    setUnableToDrawTrainCard();
-                    counter++;
-                    break;
-                } else {
-                    // generate another index
-                    faceUpIndex = rand.nextInt(MAX_FACE_UP_NUM);
-                }
-            }
-            // if not, allow to draw a second card
-            if (!FaceUpDeck.getColorByIndex(faceUpIndex)
-                    .equalsIgnoreCase("rainbow") && isAbleToDrawTrainCard()) {
-                currCard = super.drawAFaceUpCard(faceUpIndex);
-                setUnableToDrawRainbowCard();
-                counter++;
+            if (getFaceUpDeck().getColorAt(faceUpIndex).equalsIgnoreCase("rainbow")) {
+                setUnableToDrawTrainCard();
             }
+            currCard = super.drawAFaceUpCard(faceUpIndex);
+            setUnableToDrawRainbowCard();
+            counter++;
         }
         return currCard;
     }
@@ -161,45 +220,38 @@ public class ComputerPlayer extends Player {
     public void computerDrawTrainCard() {
         setAbleToDrawTrainCard();
         setAbleToDrawRainbowCard();
-        TrainCard currCard;
         // counter to memorize count and stop drawing
         counter = 0;
-        if (FaceUpDeck.getObjectInstance().getSize() + FaceDownDeck.getObjectInstance().getSize() >= 2) {
+        if (getFaceUpDeck().getSize() + getFaceDownDeck().getSize() >= 2) {
             while (isAbleToDrawTrainCard() && counter < MAX_DRAW) {
                 // randomly generate decision to draw face-up or down cards
                 int upOrDownOption = rand.nextInt(2);
 
                 // choose to draw face-up cards
                 if (upOrDownOption == 0) {
-                    currCard = computerDrawFaceUp();
+                    computerDrawFaceUp();
                 } else {
-                    if (!FaceDownDeck.getObjectInstance().isEmpty()) {
-                        currCard = drawAFaceDownCard();
+                    if (!getFaceDownDeck().isEmpty()) {
+                        drawAFaceDownCard();
                         counter++;
                     } else {
-                        currCard = computerDrawFaceUp();
+                        computerDrawFaceUp();
                     }
                 }
                 // else do nothing
-
-                // TODO: testing, delete when finish
-                if (currCard != null) {
-                    System.out.print(upOrDownOption + ":   ");
-                    System.out.println(currCard.getColor());
-                }
             }
 
             setUnableToDrawTrainCard();
 
             // print out differently based on number of cards drawn
-            System.out.print(super.getPlayerName() + " has drawn " + counter + " train card");
+            getOutput().print(super.getPlayerName() + " has drawn " + counter + " train card");
             if (counter == 1) {
-                System.out.println(".");
+                getOutput().println(".");
             } else {
-                System.out.println("s.");
+                getOutput().println("s.");
             }
         } else {
-            System.out.println("No more cards in the deck, cannot draw.");
+            getOutput().println("No more cards in the deck, cannot draw.");
         }
     }
 
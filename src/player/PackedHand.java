@@ -0,0 +1,126 @@
+package player;
+
+import color.TrainColor;
+
+/**
+ * This class packs the train cards of a hand into one long, 7 bits of count for each of the nine card colors at bit
+ * 7 * ordinal of the color, so a hand is a primitive value that is copied, compared and updated without allocating.
+ * A color has at most 14 cards in the game, a 7 bit count holds up to 127.
+ * To compare every count with a number at once, the counts of even and odd ordinals are split into two longs where
+ * each count has 14 bits of room, the number is subtracted from all of them by adding 128 - number, and a count is
+ * large enough when bit 7 of its lane is set. No lane carries into the next one.
+ */
+public final class PackedHand {
+
+    public static final long EMPTY = 0L;
+    public static final int MAX_COUNT = 127;
+
+    private static final int BITS_PER_COLOR = 7;
+    private static final long COUNT_MASK = MAX_COUNT;
+    private static final long LANE_ONES = 1L | 1L << 14 | 1L << 28 | 1L << 42 | 1L << 56; // bit 0 of every lane
+    private static final long LANE_MASK = COUNT_MASK * LANE_ONES; // the counts of the even ordinals
+    private static final long LANE_HIGH_BITS = LANE_ONES << BITS_PER_COLOR;
+    private static final long RAINBOW_MASK = COUNT_MASK << shift(TrainColor.RAINBOW);
+
+    private PackedHand() {}
+
+    /**
+     * get the number of cards of a color in a hand
+     * @return  the number of cards, 0 for grey
+     */
+    public static int count(long hand, TrainColor color) {
+        if (!color.isCardColor()) {
+            return 0;
+        }
+        return (int) ((hand >>> shift(color)) & COUNT_MASK);
+    }
+
+    /**
+     * get the number of cards in a hand
+     */
+    public static int total(long hand) {
+        int total = 0;
+        for (; hand != 0; hand >>>= BITS_PER_COLOR) {
+            total += (int) (hand & COUNT_MASK);
+        }
+        return total;
+    }
+
+    /**
+     * get the colors a hand has cards of
+     * @return  a bit set, bit ordinal of a color is set if the hand has a card of it
+     */
+    public static int getColors(long hand) {
+        int colors = 0;
+        for (int ordinal = 0; hand != 0; ordinal++, hand >>>= BITS_PER_COLOR) {
+            if ((hand & COUNT_MASK) != 0) {
+                colors |= 1 << ordinal;
+            }
+        }
+        return colors;
+    }
+
+    /**
+     * add cards of a color to a hand
+     * @return  the new hand
+     * @throws IllegalArgumentException     when the color isn't a card color or the number is negative
+     * @throws IllegalStateException    when the hand would have more than MAX_COUNT cards of the color
+     */
+    public static long add(long hand, TrainColor color, int num) {
+        if (!color.isCardColor()) {
+            throw new IllegalArgumentException("Invalid color, cannot add this card.");
+        } else if (num < 0) {
+            throw new IllegalArgumentException("Number of cards cannot be negative.");
+        } else if (count(hand, color) + num > MAX_COUNT) {
+            throw new IllegalStateException("Too many cards of a color in a hand.");
+        }
+        return hand + ((long) num << shift(color));
+    }
+
+    /**
+     * remove cards of a color from a hand
+     * @return  the new hand
+     * @throws IllegalArgumentException     when the hand doesn't have enough cards of the color or the number is
+     * negative
+     */
+    public static long remove(long hand, TrainColor color, int num) {
+        if (num < 0 || count(hand, color) < num) {
+            throw new IllegalArgumentException("This player doesn't have any card or enough required cards.");
+        }
+        return hand - ((long) num << shift(color));
+    }
+
+    /**
+     * check if a hand can pay for a route of a color, with cards of the route color and rainbow cards, or for a grey
+     * route with cards of any one color and rainbow cards
+     * @param hand  a packed hand
+     * @param routeColor    the color of the route
+     * @param numOfCars     the length of the route
+     * @return  true if the hand has enough cards, false otherwise
+     */
+    public static boolean canPay(long hand, TrainColor routeColor, int numOfCars) {
+        int numOfColorCards = numOfCars - count(hand, TrainColor.RAINBOW);
+        if (numOfColorCards <= 0) {
+            return true;
+        } else if (routeColor.isCardColor()) {
+            return count(hand, routeColor) >= numOfColorCards;
+        }
+        return hasCountOfAtLeast(hand & ~RAINBOW_MASK, numOfColorCards);
+    }
+
+    /**
+     * check if any color of a hand has at least a number of cards
+     * @param num   a positive number
+     */
+    private static boolean hasCountOfAtLeast(long hand, int num) {
+        if (num > MAX_COUNT) {
+            return false;
+        }
+        long evenCounts = hand & LANE_MASK;
+        long oddCounts = (hand >>> BITS_PER_COLOR) & LANE_MASK;
+        long offsets = (128 - num) * LANE_ONES;
+        return (((evenCounts + offsets) | (oddCounts + offsets)) & LANE_HIGH_BITS) != 0;
+    }
+
+    private static int shift(TrainColor color) { return BITS_PER_COLOR * color.ordinal(); }
+}
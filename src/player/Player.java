@@ -2,14 +2,19 @@ package player;
 
 import card.TaskCard;
 import card.TrainCard;
+import carddeck.DeckManager;
+import carddeck.DiscardsDeck;
 import carddeck.FaceDownDeck;
 import carddeck.FaceUpDeck;
 import carddeck.TaskCardDeck;
 import city.City;
+import color.TrainColor;
 import game.Game;
-import route.graph.PathFinder;
+import route.graph.UnionFind;
+import route.longestpaths.LongestPathFinder;
 import route.Route;
 
+import java.io.PrintStream;
 import java.util.*;
 
 /**
@@ -20,49 +25,80 @@ import java.util.*;
 
 public class Player {
 
-    // class variables
-    private static FaceUpDeck faceUpDeck = FaceUpDeck.getObjectInstance();
-    private static FaceDownDeck faceDownDeck = FaceDownDeck.getObjectInstance();
-    private static TaskCardDeck taskCardDeck = TaskCardDeck.getObjectInstance();
-
     // constants
     private static final int TRAIN_NUM = 45;
     private static final Map<Integer, Integer> CARS_TO_POINTS = Map.of(
             1, 1, 2, 2, 3, 4, 4, 7, 5, 10, 6, 15);
-    private static final Set<String> COLORS = Set.of("purple", "blue", "red", "yellow", "rainbow",
-            "green", "black", "orange", "white");
     private static final int STARTING_HAND_NUM = 4;
 
+    // decks of the game this player plays in
+    private FaceUpDeck faceUpDeck;
+    private FaceDownDeck faceDownDeck;
+    private TaskCardDeck taskCardDeck;
+    private DiscardsDeck discardsDeck;
+    private PrintStream out;
+
     // player attributes
     private String playerName;
     private String playerId;
     private int points;
     private int numOfTrainsLeft;
     private int numOfTrainCards;
-    private Map<String, List<TrainCard>> ownedTrainCards; // map colors to number of cards in this color
+    private long hand; // the number of cards of every color, packed by PackedHand
+    private CardCombinations cardCombinations; // the combinations of the last route checked
+    private Map<TrainColor, Deque<TrainCard>> ownedTrainCards; // the cards of every color, in the order drawn
     protected Map<TaskCard, Boolean> ownedTaskCards; // map a task card to its completion status
     private Map<String, Set<Route<City>>> ownedRoutes;
+    private UnionFind connectedCities; // cities connected by the owned routes
+    private LongestPathFinder longestPath; // the longest continuous path of the owned routes
     private Scanner scanner;
     private boolean ableToDrawTrainCard;
     private boolean ableToDrawRainbowCard;
 
     /**
-     * constructor
+     * constructor, the player plays with the decks of the console game
      * @param playerName    input userName
      */
     public Player(String playerName) {
+        this(playerName, FaceUpDeck.getObjectInstance(), FaceDownDeck.getObjectInstance(),
+                TaskCardDeck.getObjectInstance(), DiscardsDeck.getObjectInstance(), System.out);
+    }
+
+    /**
+     * constructor, the player plays with the decks of the given deck manager
+     * @param playerName    input userName
+     * @param manager   the deck manager of the game this player joins
+     * @param out   where messages to this player are printed
+     */
+    public Player(String playerName, DeckManager manager, PrintStream out) {
+        this(playerName, manager.getFaceUpDeck(), manager.getFaceDownDeck(), manager.getTaskCardDeck(),
+                manager.getDiscardsDeck(), out);
+    }
+
+    private Player(String playerName, FaceUpDeck faceUpDeck, FaceDownDeck faceDownDeck, TaskCardDeck taskCardDeck,
+                   DiscardsDeck discardsDeck, PrintStream out) {
+        this.faceUpDeck = faceUpDeck;
+        this.faceDownDeck = faceDownDeck;
+        this.taskCardDeck = taskCardDeck;
+        this.discardsDeck = discardsDeck;
+        this.out = out;
         this.playerName = playerName;
         playerId = null;
         points = 0;
         numOfTrainsLeft = TRAIN_NUM;
         numOfTrainCards = 0;
-        ownedTrainCards = new HashMap<>();
-        for (String color : COLORS) {
-            ownedTrainCards.put(color, new LinkedList<>());
+        hand = PackedHand.EMPTY;
+        cardCombinations = new CardCombinations();
+        ownedTrainCards = new EnumMap<>(TrainColor.class);
+        for (TrainColor color : TrainColor.getCardColors()) {
+            ownedTrainCards.put(color, new ArrayDeque<>());
         }
-        ownedTaskCards = new HashMap<>();
-        ownedRoutes = new HashMap<>();
-        scanner = new Scanner(System.in);
+        // iterate in the order cards and routes were added, so a seeded game always plays the same way
+        ownedTaskCards = new LinkedHashMap<>();
+        ownedRoutes = new LinkedHashMap<>();
+        connectedCities = new UnionFind();
+        longestPath = new LongestPathFinder();
+        scanner = null; // only created when a human player is prompted
         ableToDrawTrainCard = true;
         ableToDrawRainbowCard = true;
     }
@@ -95,13 +131,66 @@ public class Player {
         return numOfTrainCards;
     }
 
+    /**
+     * get the number of train cards of a color in this player's hand
+     * @param color     a card color
+     * @return  the number of cards, 0 for grey
+     */
+    public int getNumOfTrainCard(TrainColor color) {
+        return PackedHand.count(hand, color);
+    }
+
+    /**
+     * get the number of train cards of every color in this player's hand, packed by PackedHand
+     */
+    public long getPackedHand() { return hand; }
+
     public int getNumOfTaskCard() { return ownedTaskCards.size(); }
 
+    public int getNumOfCompletedTaskCard() {
+        int num = 0;
+        for (boolean completed : ownedTaskCards.values()) {
+            if (completed) {
+                num++;
+            }
+        }
+        return num;
+    }
+
     public Map<String, Set<Route<City>>> getOwnedRoutes() { return ownedRoutes; }
 
+    /**
+     * get all the train cards in this player's hand
+     * @return  a new list of the owned train cards, grouped by color
+     */
+    public List<TrainCard> getTrainCards() {
+        List<TrainCard> cards = new ArrayList<>(numOfTrainCards);
+        for (Deque<TrainCard> colorCards : ownedTrainCards.values()) {
+            cards.addAll(colorCards);
+        }
+        return cards;
+    }
+
+    /**
+     * get the task cards of this player, read only
+     * @return  a map of task cards to their completion status
+     */
+    public Map<TaskCard, Boolean> getOwnedTaskCards() { return Collections.unmodifiableMap(ownedTaskCards); }
+
     public boolean isAbleToDrawTrainCard() { return ableToDrawTrainCard; }
 
     public boolean isAbleToDrawRainbowCard() { return ableToDrawRainbowCard; }
+
+    /**
+     * getter methods to get the decks and output of the game this player plays in
+     */
+    protected FaceUpDeck getFaceUpDeck() { return faceUpDeck; }
+
+    protected FaceDownDeck getFaceDownDeck() { return faceDownDeck; }
+
+    protected TaskCardDeck getTaskCardDeck() { return taskCardDeck; }
+
+    protected PrintStream getOutput() { return out; }
     /**
      * always returns true as the Player class represents the default behaviors of a human player
      */
@@ -153,29 +242,14 @@ public class Player {
      * @param route    the target route the player wants to claim
      * @param routeColor    the route color the player chooses
      * @return  true if the player has enough cards to claim the target route, false otherwise
+     * @throws IllegalArgumentException     when the route color is unknown
      */
-    private boolean hasEnoughCards(Route<City> route, String routeColor) {
+    public boolean hasEnoughCards(Route<City> route, String routeColor) {
         // not enough cards in total
         if (numOfTrainCards < route.getNumOfCars()) {
             return false;
         } else {
-            int rainbowNum = ownedTrainCards.get("rainbow").size();
-            int numOfCarsNeeded = route.getNumOfCars();
-            // grey routes, check every color
-            if (routeColor.equals("grey")) {
-                for (String colorKey : ownedTrainCards.keySet()) {
-                    int currColorNum = ownedTrainCards.get(colorKey).size();
-                    if (currColorNum >= route.getNumOfCars() ||
-                            currColorNum + rainbowNum >= numOfCarsNeeded) {
-                        return true;
-                    }
-                }
-                return false;
-            } else { // non-grey routes
-                int currColorNum = ownedTrainCards.get(routeColor).size();
-                return (currColorNum >= route.getNumOfCars() ||
-                        currColorNum + rainbowNum >= numOfCarsNeeded);
-            }
+            return PackedHand.canPay(hand, TrainColor.of(routeColor), route.getNumOfCars());
         }
     }
 
@@ -188,79 +262,75 @@ public class Player {
      * @return  a list of maps, the maps are usually contain one or two pairs of "color - number of cards"
      */
     private List<Map<String, Integer>> enumerateCombinations(Route<City> route, String routeColor) {
-        List<Map<String, Integer>> outerList = new ArrayList<>();
-        // non grey color route
-        if (!routeColor.equals("grey")) {
-            createCombinationMapOfAColor(route, routeColor, outerList);
-        } else { // grey color route, loop through every color
-            for (String color : COLORS) {
-                if (!color.equals("rainbow")) {
-                    createCombinationMapOfAColor(route, color, outerList);
-                }
-            }
+        int numOfCombinations = cardCombinations.enumerate(hand, TrainColor.of(routeColor), route.getNumOfCars());
+        List<Map<String, Integer>> outerList = new ArrayList<>(numOfCombinations);
+        for (int i = 0; i < numOfCombinations; i++) {
+            outerList.add(CardCombinations.toMap(cardCombinations.get(i)));
         }
         return outerList;
     }
 
     /**
-     * helper function to enumerateCombinations(), used to create combination map of rainbow cards and color cards
-     * player can play to claim route, double loop for grey color route
-     * @param route the target route the player want to claim
-     * @param ticketColor colors of the tickets player used to claim the target route
-     * @param outerList   a list of other train card combinations defined in enumerateCombination ()
+     * get the combinations of cards the player can play to claim a route, as getCardCombinationOnATargetRoute() but
+     * packed by CardCombinations into a buffer of this player that is reused by the next call
+     * @param route the route being chosen
+     * @param routeColor    the route color the player chooses
+     * @return  the combinations, null if the player doesn't have enough cards or the color is taken
      */
-    //TODO: check algorithm
-    private void createCombinationMapOfAColor(Route<City> route, String ticketColor, List<Map<String, Integer>> outerList) {
-        Map<String, Integer> innerMap;
-        int rainbowNum = ownedTrainCards.get("rainbow").size();
-        int currColorNum = ownedTrainCards.get(ticketColor).size();
-        int numOfCarsNeeded = route.getNumOfCars();
-
-        // more rainbow cards than needed
-        if (rainbowNum >= numOfCarsNeeded) {
-            innerMap = new HashMap<>();
-            innerMap.put("rainbow", numOfCarsNeeded);
-            if (!outerList.contains(innerMap)) {
-                outerList.add(innerMap);
-            }
-        }
-        // more color cards than needed
-        if (currColorNum >= numOfCarsNeeded) {
-            innerMap = new HashMap<>();
-            innerMap.put(ticketColor, numOfCarsNeeded);
-            if (!outerList.contains(innerMap)) {
-                outerList.add(innerMap);
-            }
-        }
-        // middle cases, mixed color and rainbow cards
-        if ((rainbowNum + currColorNum >= numOfCarsNeeded) && (currColorNum < numOfCarsNeeded) &&
-                (rainbowNum < numOfCarsNeeded) && (currColorNum > 1)) {
-            for (int i = currColorNum; i > 0; i--) {
-                innerMap = new HashMap<>();
-                innerMap.put("rainbow", Math.max(0, numOfCarsNeeded - i));
-                innerMap.put(ticketColor, i);
-                if (!outerList.contains(innerMap)) {
-                    outerList.add(innerMap);
-                }
-            }
+    public CardCombinations findCardCombinations(Route<City> route, String routeColor) {
+        if (hasEnoughCards(route, routeColor) && route.isColorAvailable(routeColor)) {
+            cardCombinations.enumerate(hand, TrainColor.of(routeColor), route.getNumOfCars());
+            return cardCombinations;
         }
+        return null;
     }
-        // if not enough colored cards, (rainbowNum + currColorNum - numOfCarsNeeded) kinds of combinations
 
     /**
      * a player chooses from the combination list of which combination he/she wants to play,
      * remove the cards of their choices from owned train card list, set route's owner id to the current player,
      * add points accordingly.
+     * @throws IllegalStateException    when the player doesn't have enough trains left for this route
      */
     public void chooseACombination(Route<City> route, String routeColor, List<Map<String, Integer>> combinationList,
                                    int index) {
+        if (numOfTrainsLeft < route.getNumOfCars()) {
+            throw new IllegalStateException("Not enough trains left to claim this route.");
+        }
         // choose combination by index
         Map<String, Integer> chosenMap = combinationList.get(index);
         // use cards
         removeTrainCards(chosenMap);
-        // claim the route
+        claimRoute(route, routeColor);
+    }
+
+    /**
+     * a player plays a combination packed by CardCombinations, remove its cards from owned train card list, set
+     * route's owner id to the current player, add points accordingly.
+     * @throws IllegalStateException    when the player doesn't have enough trains left for this route
+     * @throws IllegalArgumentException     when player doesn't have all the cards of the combination
+     */
+    public void chooseACombination(Route<City> route, String routeColor, int combination) {
+        if (numOfTrainsLeft < route.getNumOfCars()) {
+            throw new IllegalStateException("Not enough trains left to claim this route.");
+        }
+        TrainColor color = CardCombinations.getColor(combination);
+        int colorNum = CardCombinations.getNumOfColorCards(combination);
+        int rainbowNum = CardCombinations.getNumOfRainbowCards(combination);
+        if (getNumOfTrainCard(color) < colorNum || getNumOfTrainCard(TrainColor.RAINBOW) < rainbowNum) {
+            throw new IllegalArgumentException("This player doesn't have any card or enough required cards.");
+        }
+        removeTrainCards(color, colorNum);
+        removeTrainCards(TrainColor.RAINBOW, rainbowNum);
+        claimRoute(route, routeColor);
+    }
+
+    /**
+     * set route's owner id to the current player after the cards are played, add points, check the tasks
+     */
+    private void claimRoute(Route<City> route, String routeColor) {
         route.setOwner(playerId, routeColor);
         addToOwnedRoutes(route);
+        numOfTrainsLeft -= route.getNumOfCars();
         // add points
         addPoints(route.getNumOfCars());
         // try if this finishes a task
@@ -268,65 +338,58 @@ public class Player {
     }
 
     /**
-     * try every pair of cities on every taskCard, find a path if between two cities, if a path is found,
-     * then the task card can be set to complete
+     * check every unfinished task card against the cities connected by the owned routes, a route may finish
+     * several tasks at once, every finished task card is set to complete
      */
     private void finishATask() {
         // loop through task cards
         for (TaskCard taskCard : ownedTaskCards.keySet()) {
-            if (!taskCard.isCompleted()) {
-                PathFinder finder = new PathFinder(ownedRoutes, taskCard.getCity1().getCityName(),
-                        taskCard.getCity2().getCityName());
-                boolean res = finder.findPath();
-                if (res) {
-                    System.out.println("Congrats, you have finished a task");
-                    taskCard.setCompleted();
-                    addPoints(taskCard.getPoints());
-                    break;
-                }
+            if (!taskCard.isCompleted() && connectedCities.isConnected(taskCard.getCity1(), taskCard.getCity2())) {
+                out.println("Congrats, you have finished a task");
+                taskCard.setCompleted();
+                ownedTaskCards.put(taskCard, true);
+                this.points += taskCard.getPoints();
             }
         }
     }
 
     /**
-     * remove a list of train cards from the hash map after the player uses these cards to claim a route
+     * remove a list of train cards from the hash map after the player uses these cards to claim a route,
+     * the removed cards are put into the discards deck
      * @param colorNumMap: a map of cards, uses color string as key, and number of cards in that color as value
      *                   the cards being removed will be either: (1) all in same color,
      *                                                          (2) some same color + some rainbow color
      * @throws IllegalArgumentException     when player doesn't have all the cards being removed
-     * @throws IllegalStateException        when the player doesn't have any train card
      */
     private void removeTrainCards(Map<String, Integer> colorNumMap) {
-        if (ownedTrainCards.isEmpty()) {
-            throw new IllegalStateException("This player doesn't have any train cards, cannot remove.");
-        }
         // doesn't contain any cards in this color or doesn't contain enough cards
         for (String color : colorNumMap.keySet()) {
-            if (!ownedTrainCards.containsKey(color) ||
-                    ownedTrainCards.get(color).size() < colorNumMap.get(color)) {
+            TrainColor trainColor = TrainColor.find(color);
+            if (trainColor == null || getNumOfTrainCard(trainColor) < colorNumMap.get(color)) {
                 throw new IllegalArgumentException("This player doesn't have any card or enough required cards.");
             }
         }
 
-        int counter = 0;
-
-        // loop and remove from hash map
         for (String color : colorNumMap.keySet()) {
-            int num = colorNumMap.get(color);
-            if (num > 0) {
-                List<TrainCard> currColorCards = ownedTrainCards.get(color);
-                // uses iterator to loop through
-                Iterator<TrainCard> iterator = currColorCards.iterator();
-                // remove from the first position, order doesn't matter here
-                while (iterator.hasNext() && counter < num) {
-                    TrainCard card = iterator.next();
-                    card.clearOwnerId();
-                    iterator.remove();
-                    counter++;
-                }
+            removeTrainCards(TrainColor.of(color), colorNumMap.get(color));
+        }
+    }
+
+    /**
+     * remove train cards of a color, the cards drawn first, and put them into the discards deck, the player must
+     * have them
+     */
+    private void removeTrainCards(TrainColor color, int num) {
+        if (num > 0) {
+            Deque<TrainCard> currColorCards = ownedTrainCards.get(color);
+            for (int i = 0; i < num; i++) {
+                TrainCard card = currColorCards.removeFirst();
+                card.clearOwnerId();
+                discardsDeck.addToDeck(card);
             }
-            numOfTrainCards -= num;
+            hand = PackedHand.remove(hand, color, num);
         }
+        numOfTrainCards -= num;
     }
 
     /**
@@ -348,21 +411,29 @@ public class Player {
 
     /**
      * add a route and its reverse to the owned routes map which keys are starting cities,
-     * values are a set of routes which their city1 fields are the keys
+     * values are a set of routes which their city1 fields are the keys, and connect the two cities
      */
     private void addToOwnedRoutes(Route<City> route) {
         String fromCityName = route.getCity1().getCityName();
         String toCityName = route.getCity2().getCityName();
         if (!ownedRoutes.containsKey(fromCityName)) {
-            ownedRoutes.put(fromCityName, new HashSet<>());
+            ownedRoutes.put(fromCityName, new LinkedHashSet<>());
         }
         ownedRoutes.get(fromCityName).add(route);
         if (!ownedRoutes.containsKey(toCityName)) {
-            ownedRoutes.put(toCityName, new HashSet<>());
+            ownedRoutes.put(toCityName, new LinkedHashSet<>());
         }
-        ownedRoutes.get(fromCityName).add(route);
+        ownedRoutes.get(toCityName).add(route.reversed());
+        connectedCities.union(route.getCity1(), route.getCity2());
+        longestPath.addRoute(route);
     }
 
+    /**
+     * check if the owned routes connect two cities
+     * @return  true if so, or if both are the same city, false otherwise
+     */
+    public boolean isConnected(City city1, City city2) { return connectedCities.isConnected(city1, city2); }
+
     /**
      * deduct the task cards' points if task cards were not finish
      */
@@ -374,6 +445,33 @@ public class Player {
             }
         }
     }
+    /**
+     * get the number of cars of the longest continuous path of the owned routes
+     */
+    public int getLongestPathLength() { return longestPath.getLongestPathLength(); }
+
+    /**
+     * add the bonus points of the longest continuous path at the end of the game
+     */
+    public void addLongestPathBonus() { this.points += LongestPathFinder.LONGEST_PATH_BONUS; }
+
+    /**
+     * give the longest path bonus to the players with the longest continuous path, every tied player gets it
+     * @param players   the players of a finished game
+     */
+    public static void addLongestPathBonus(List<Player> players) {
+        int[] longestPaths = new int[players.size()];
+        for (int i = 0; i < longestPaths.length; i++) {
+            longestPaths[i] = players.get(i).getLongestPathLength();
+        }
+        boolean[] winners = LongestPathFinder.findBonusWinners(longestPaths);
+        for (int i = 0; i < winners.length; i++) {
+            if (winners[i]) {
+                players.get(i).addLongestPathBonus();
+            }
+        }
+    }
+
     /**
      * deduct points when the game is finished if some task cards were not finished
      */
@@ -381,6 +479,38 @@ public class Player {
         this.points = Math.max(0, this.points - points);
     }
 
+    /**
+     * put this player back into the position of a saved game, only allowed on a player who hasn't played yet,
+     * the cards and routes should not belong to any other player
+     * @param points    points of the saved player
+     * @param numOfTrainsLeft   trains the saved player has left
+     * @param trainCards    train cards in the saved player's hand
+     * @param taskCards     task cards of the saved player, mapped to their completion status
+     * @param routes    routes claimed by the saved player, their owner ids are already set
+     * @throws IllegalStateException    when this player has drawn cards or claimed routes
+     */
+    public void restore(int points, int numOfTrainsLeft, List<TrainCard> trainCards, Map<TaskCard, Boolean> taskCards,
+                        List<Route<City>> routes) {
+        if (numOfTrainCards > 0 || !ownedTaskCards.isEmpty() || !ownedRoutes.isEmpty()) {
+            throw new IllegalStateException("This player has started playing, cannot restore.");
+        }
+        this.points = points;
+        this.numOfTrainsLeft = numOfTrainsLeft;
+        for (TrainCard card : trainCards) {
+            addATrainCard(card);
+        }
+        for (TaskCard card : taskCards.keySet()) {
+            addATaskCard(card);
+            if (taskCards.get(card)) {
+                card.setCompleted();
+                ownedTaskCards.put(card, true);
+            }
+        }
+        for (Route<City> route : routes) {
+            addToOwnedRoutes(route);
+        }
+    }
+
     /* --------------------------------------------  draw a train card ------------------------------------------*/
 
     /**
@@ -416,20 +546,22 @@ public class Player {
 
 
     /**
-     * add a train card to the trainCards hash map after the player draws a train card
+     * add a train card to the hand after the player draws a train card, a card in the hand is owned by this player
+     * so a duplicate is found by its owner id without searching the hand
      * @param card:  a train card the player draws from the face-up or face-down deck
-     * @throws IllegalArgumentException     this train card already exists in the map
+     * @throws IllegalArgumentException     this train card is already in the hand, or its color isn't a card color
      */
     public void addATrainCard(TrainCard card) {
-        String color = card.getColor();
-        if (!ownedTrainCards.containsKey(color)) {
-            ownedTrainCards.put(color, new LinkedList<>());
+        TrainColor color = card.getTrainColor();
+        if (!color.isCardColor()) {
+            throw new IllegalArgumentException("Invalid color, cannot add this card.");
         }
-        if (ownedTrainCards.get(color).contains(card)) {
+        if (playerId != null && playerId.equals(card.getOwnerId())) {
             throw new IllegalArgumentException("Duplicated card, cannot add this card.");
         }
-        ownedTrainCards.get(color).add(card);
         card.setOwnerId(playerId);
+        ownedTrainCards.get(color).addLast(card);
+        hand = PackedHand.add(hand, color, 1);
         numOfTrainCards++;
     }
 
@@ -453,6 +585,10 @@ public class Player {
         int min_otherTurns = 1;
         int max = 3;
 
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+
         int numOfIndices;
         if (getNumOfTaskCard() == 0) {
             System.out.print("Select how many task cards (" + min_firstTurn  + "-" + max + ") you want to draw: ");
@@ -503,8 +639,8 @@ public class Player {
         } else if (!ownedTaskCards.isEmpty() && cardIndices.size() < 1) {
             throw new IllegalArgumentException("The player needs to choose at least 1 task card(s) in this turn.");
         }
-        // add chosen cards
-        for (int index : cardIndices) {
+        // add chosen cards, in the order of the indices
+        for (int index : new TreeSet<>(cardIndices)) {
             addATaskCard(cards, index);
 
         }
@@ -599,14 +735,14 @@ public class Player {
      * print out/ display all the train cards the player owns before drawing cards to better inform decisions
      */
     public void displayOwnedTrainCards() {
-        if (ownedTrainCards.isEmpty()) {
+        if (numOfTrainCards == 0) {
             System.out.println("You do not own any train card. ");
         } else {
             System.out.println("You own: ");
-            for (String color: ownedTrainCards.keySet()) {
-                int num = ownedTrainCards.get(color).size();
+            for (TrainColor color : TrainColor.getCardColors()) {
+                int num = PackedHand.count(hand, color);
                 if (num > 0) {
-                    System.out.print("    " + num + " " + color);
+                    System.out.print("    " + num + " " + color.getName());
                     if (num == 1) {
                         System.out.println(" card.");
                     } else {
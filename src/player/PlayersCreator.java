@@ -1,9 +1,13 @@
 package player;
 
+import carddeck.DeckManager;
+
+import java.io.PrintStream;
 import java.util.*;
 
 public class PlayersCreator {
 
+    // players of the console game
     private static List<Player> players = new ArrayList<>();
 
     private final List<String> COMP_PLAYER_NAMES = List.of("Albot", "Bobot", "Cheesebot", "Databot", "Elizabot", "Fulbot");
@@ -11,22 +15,28 @@ public class PlayersCreator {
     private int numOfPlayer;
     private Random rand;
     private Set<String> usedCompName;
+    private List<Player> createdPlayers;
 
     /**
      * private construcutor
      * @param numOfPlayer  the number of players in this game
-     * @param humanPlayerName   the player name input by human player
+     * @param humanPlayerName   the player name input by human player, null if all players are computer players
      * @param difficultyLevel   1 - 3, the higher the difficulty level, the more intelligent the robots are
+     * @param manager   the deck manager of the game, null to play with the decks of the console game
+     * @param out   where messages to the players are printed
+     * @param random    the random generator of the game, null for the console game
      */
-    private PlayersCreator(int numOfPlayer, String humanPlayerName, int difficultyLevel) {
+    private PlayersCreator(int numOfPlayer, String humanPlayerName, int difficultyLevel, DeckManager manager,
+                           PrintStream out, SplittableRandom random) {
         this.numOfPlayer = numOfPlayer;
         this.difficultyLevel = difficultyLevel;
         usedCompName = new HashSet<>();
+        createdPlayers = new ArrayList<>();
 
         // use a random number to see where the human player will be placed,
         // this order will remain the same in the game
-        rand = new Random();
-        int humanPos = rand.nextInt(numOfPlayer);
+        rand = random == null ? new Random() : new Random(random.nextLong());
+        int humanPos = humanPlayerName == null ? -1 : rand.nextInt(numOfPlayer);
 
         int compNamePos;
         Player currPlayer;
@@ -43,19 +53,46 @@ public class PlayersCreator {
                     compNamePos = rand.nextInt(COMP_PLAYER_NAMES.size());
                     compName = COMP_PLAYER_NAMES.get(compNamePos);
                 }
-                currPlayer = new ComputerPlayer(compName, difficultyLevel);
+                if (manager == null) {
+                    currPlayer = new ComputerPlayer(compName, difficultyLevel, new Random(rand.nextLong()));
+                } else {
+                    currPlayer = new ComputerPlayer(compName, difficultyLevel, manager, out,
+                            new Random(random.nextLong()));
+                }
                 usedCompName.add(compName);
             }
             // set player id
             currPlayer.setPlayerId("p" + i);
-            players.add(currPlayer);
+            createdPlayers.add(currPlayer);
         }
     }
 
     public static void createPlayers(int numOfPlayer, String humanPlayerName, int difficultyLevel) {
         if (players.isEmpty()) {
-            PlayersCreator creator = new PlayersCreator(numOfPlayer, humanPlayerName, difficultyLevel);
+            PlayersCreator creator = new PlayersCreator(numOfPlayer, humanPlayerName, difficultyLevel,
+                    null, System.out, null);
+            players.addAll(creator.createdPlayers);
+        }
+    }
+
+    /**
+     * create a new list of computer players that play with the decks of the given deck manager,
+     * the list is not shared with the console game or any other game
+     * @param numOfPlayer  the number of players in this game
+     * @param difficultyLevel   1 - 3, the higher the difficulty level, the more intelligent the robots are
+     * @param manager   the deck manager of the game
+     * @param out   where messages to the players are printed
+     * @param random    the random generator of the game, every player gets its own generator split from it
+     * @return  a list of computer players
+     */
+    public static List<Player> createComputerPlayers(int numOfPlayer, int difficultyLevel, DeckManager manager,
+                                                     PrintStream out, SplittableRandom random) {
+        if (numOfPlayer > 6) {
+            throw new IllegalArgumentException("There are not enough computer player names for " + numOfPlayer +
+                    " players.");
         }
+        PlayersCreator creator = new PlayersCreator(numOfPlayer, null, difficultyLevel, manager, out, random);
+        return creator.createdPlayers;
     }
 
     public static List<Player> getPlayers() {
@@ -8,6 +8,8 @@ import java.util.*;
  * This class can either a directed weighted route between two different cities or two parallel routes between two cities.
  * Whether the class represent one or more routes are noted by the field of "colors" which lists all the colors of this
  * route between two cities, the number of parallel routes can be up to two. Colors may be repeated.
+ * A route and its reversed route are two directions of the same route: they share the colors, the owners and the
+ * ownership listeners, so a route claimed in one direction is claimed in both.
  */
 public class Route<City> {
 
@@ -17,6 +19,8 @@ public class Route<City> {
     private String routeId;
     private List<String> colors;
     private Map<Integer, String> indexToOwnerIds;
+    private List<RouteOwnershipListener> listeners; // created with the first listener or the reversed route
+    private Route<City> reversed; // the other direction, created when first asked for
 
     /**
      * construct a new route given two cities, one or more colors, and length of the route represented by
@@ -45,7 +49,12 @@ public class Route<City> {
 
     public int getNumOfCars() { return numOfCars; }
 
-    public String getRouteId() { return routeId; }
+    /**
+     * get the route id, a reversed route has the id of the route it was reversed from
+     */
+    public String getRouteId() {
+        return routeId == null && reversed != null ? reversed.routeId : routeId;
+    }
 
     /**
      * get owner id of a given index of the colors list
@@ -78,8 +87,52 @@ public class Route<City> {
         }
         if (hasColorInIndex(color, 0) && isAvailableInIndex(0)) {
             indexToOwnerIds.put(0, ownerId);
+            notifyListeners(0, ownerId);
         } else if (colors.size() > 1 && hasColorInIndex(color, 1) && isAvailableInIndex(1)) {
             indexToOwnerIds.put(1, ownerId);
+            notifyListeners(1, ownerId);
+        }
+    }
+
+    /**
+     * set owner id of one of the parallel routes, used when a game is rebuilt from a saved state
+     * @param ownerId   the id of the player who claimed the route
+     * @param index     0 or 1, the index of the claimed color in the colors list
+     * @throws      IllegalStateException   when the route in that index is occupied
+     * @throws      IllegalArgumentException    when the owner id is null or the index is invalid
+     */
+    public void setOwner(String ownerId, int index) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("Invalid owner id.");
+        }
+        if (index < 0 || index >= colors.size()) {
+            throw new IllegalArgumentException("Invalid index.");
+        }
+        if (!isAvailableInIndex(index)) {
+            throw new IllegalStateException("The route is occupied, cannot set owner.");
+        }
+        indexToOwnerIds.put(index, ownerId);
+        notifyListeners(index, ownerId);
+    }
+
+    /**
+     * add a listener told every time this route gets an owner
+     * @param listener  a listener
+     */
+    public void addOwnershipListener(RouteOwnershipListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * remove a listener added by addOwnershipListener, nothing happens if it isn't there
+     * @param listener  a listener
+     */
+    public void removeOwnershipListener(RouteOwnershipListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
         }
     }
 
@@ -99,12 +152,39 @@ public class Route<City> {
 
 
     /**
-     * generate a new route of same colors and same length but in reversed direction
+     * get the route in reversed direction, the same route object every time, sharing the owners of this route
      */
     public Route<City> reversed() {
-        return new Route<>(this.city2, this.city1, this.colors, this.numOfCars);
+        if (reversed == null) {
+            if (listeners == null) {
+                listeners = new ArrayList<>(1);
+            }
+            reversed = new Route<>(this);
+        }
+        return reversed;
     }
 
+    /**
+     * construct the reversed direction of a route, sharing its state
+     */
+    private Route(Route<City> route) {
+        this.city1 = route.city2;
+        this.city2 = route.city1;
+        this.numOfCars = route.numOfCars;
+        this.colors = route.colors;
+        this.indexToOwnerIds = route.indexToOwnerIds;
+        this.listeners = route.listeners;
+        this.reversed = route;
+    }
+
+
+    private void notifyListeners(int index, String ownerId) {
+        if (listeners != null) {
+            for (RouteOwnershipListener listener : listeners) {
+                listener.ownerSet(this, index, ownerId);
+            }
+        }
+    }
 
     /**
      * check if the target color is located in the target index
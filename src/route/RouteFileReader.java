@@ -24,6 +24,7 @@ public class RouteFileReader {
     // instance variables
     private File routesFile;
     private Scanner fileScanner;
+    private List<String> routeLines;
 
 
     /**
@@ -34,6 +35,7 @@ public class RouteFileReader {
     private RouteFileReader(String fileName) throws FileNotFoundException {
         routesFile = new File(fileName);
         fileScanner = new Scanner(routesFile);
+        routeLines = new ArrayList<>();
     }
 
 
@@ -59,15 +61,35 @@ public class RouteFileReader {
     /**
      * read file line by line and convert a line of string to a route
      */
-    public void createAllRoutes() {
+    public synchronized void createAllRoutes() {
         if (routes.isEmpty()) {
-            int i = 0;
+            routes.addAll(createRoutes());
+        }
+    }
+
+    /**
+     * create a new list of all the routes in the file, in the order of the file, the routes are not shared with
+     * getRoutes() or any earlier call, so every game can claim its own routes
+     * @return  a list of newly created routes
+     */
+    public synchronized List<Route<City>> createRoutes() {
+        readLines();
+        List<Route<City>> newRoutes = new ArrayList<>(routeLines.size());
+        for (int i = 0; i < routeLines.size(); i++) {
+            Route<City> route = convertStringToRoute(routeLines.get(i));
+            setRouteId(route, i);
+            newRoutes.add(route);
+        }
+        return newRoutes;
+    }
+
+    /**
+     * read the file into lines of string, only read the file for the first time
+     */
+    private void readLines() {
+        if (routeLines.isEmpty()) {
             while (fileScanner.hasNextLine()) {
-                String line = fileScanner.nextLine();
-                Route<City> route = convertStringToRoute(line);
-                routes.add(route);
-                setRouteId(route, i);
-                i++;
+                routeLines.add(fileScanner.nextLine());
             }
             fileScanner.close();
         }
@@ -0,0 +1,16 @@
+package route;
+
+/**
+ * A listener told every time one of the parallel routes of a route gets an owner.
+ */
+@FunctionalInterface
+public interface RouteOwnershipListener {
+
+    /**
+     * called after a route got an owner
+     * @param route     the claimed route
+     * @param index     the index of the claimed color in the colors list of the route
+     * @param ownerId   the id of the new owner
+     */
+    void ownerSet(Route<?> route, int index, String ownerId);
+}
@@ -0,0 +1,196 @@
+package route.graph;
+
+import java.util.Arrays;
+
+/**
+ * This class is a compressed sparse row graph made of int arrays only: the arcs leaving vertex v are the positions
+ * offsets[v] to offsets[v + 1] (exclusive) of the targets and weights arrays. Vertices are dense ints, such as the
+ * cities of a Graph. Scanning the arcs of a vertex reads consecutive memory and allocates nothing, a graph of
+ * V vertices and A arcs takes about 4 * (V + 3A) bytes, plus an open addressing hash index of about 24A bytes that
+ * finds the arc between two vertices in O(1).
+ */
+public final class CsrGraph {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] arcIds; // the index of every arc in the arrays the graph was built from
+    private final int maxWeight;
+    private final long[] pairKeys; // source << 32 | target of the arc in the same slot, EMPTY for a free slot
+    private final int[] pairArcs;
+    private final int pairShift; // 64 - log2 of the number of slots
+
+    private static final long EMPTY = -1L;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * constructor, lay out directed arcs by their source vertex, keeping the order of the arcs of each vertex
+     * @param numOfVertices     vertices are 0 to numOfVertices (exclusive)
+     * @param sources   the source vertex of every arc
+     * @param targets   the target vertex of every arc
+     * @param weights   the weight of every arc
+     * @throws IllegalArgumentException     when the arrays have different lengths or a vertex is out of range
+     */
+    public CsrGraph(int numOfVertices, int[] sources, int[] targets, int[] weights) {
+        if (sources.length != targets.length || sources.length != weights.length) {
+            throw new IllegalArgumentException("Every arc needs a source, a target and a weight.");
+        }
+        offsets = new int[numOfVertices + 1];
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] < 0 || sources[i] >= numOfVertices || targets[i] < 0 || targets[i] >= numOfVertices) {
+                throw new IllegalArgumentException("Invalid vertex in arc " + i + ".");
+            }
+            offsets[sources[i] + 1]++;
+        }
+        for (int v = 0; v < numOfVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // counting sort of the arcs by source
+        this.targets = new int[sources.length];
+        this.weights = new int[sources.length];
+        arcIds = new int[sources.length];
+        int[] next = Arrays.copyOf(offsets, numOfVertices);
+        for (int i = 0; i < sources.length; i++) {
+            int arc = next[sources[i]]++;
+            this.targets[arc] = targets[i];
+            this.weights[arc] = weights[i];
+            arcIds[arc] = i;
+        }
+        int max = 0;
+        for (int weight : weights) {
+            max = Math.max(max, weight);
+        }
+        maxWeight = max;
+
+        int numOfSlots = Integer.highestOneBit(Math.max(1, 2 * sources.length - 1)) << 1; // at most half full
+        pairShift = 64 - Integer.numberOfTrailingZeros(numOfSlots);
+        pairKeys = new long[numOfSlots];
+        pairArcs = new int[numOfSlots];
+        Arrays.fill(pairKeys, EMPTY);
+        for (int v = 0; v < numOfVertices; v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                long key = getPairKey(v, this.targets[arc]);
+                int slot = findSlot(key);
+                if (pairKeys[slot] == EMPTY) { // the first of several arcs between the same vertices is kept
+                    pairKeys[slot] = key;
+                    pairArcs[slot] = arc;
+                }
+            }
+        }
+    }
+
+    /**
+     * build an undirected graph, every edge becomes two arcs, edge i is arc 2 * i from city1 to city2 and arc
+     * 2 * i + 1 back, so getArcId(arc) / 2 is the edge
+     * @param numOfVertices     vertices are 0 to numOfVertices (exclusive)
+     * @param cities1   one end of every edge
+     * @param cities2   the other end of every edge
+     * @param weights   the weight of every edge
+     * @return  a new graph
+     */
+    public static CsrGraph fromEdges(int numOfVertices, int[] cities1, int[] cities2, int[] weights) {
+        int numOfEdges = cities1.length;
+        int[] arcSources = new int[2 * numOfEdges];
+        int[] arcTargets = new int[2 * numOfEdges];
+        int[] arcWeights = new int[2 * numOfEdges];
+        for (int i = 0; i < numOfEdges; i++) {
+            arcSources[2 * i] = cities1[i];
+            arcTargets[2 * i] = cities2[i];
+            arcSources[2 * i + 1] = cities2[i];
+            arcTargets[2 * i + 1] = cities1[i];
+            arcWeights[2 * i] = weights[i];
+            arcWeights[2 * i + 1] = weights[i];
+        }
+        return new CsrGraph(numOfVertices, arcSources, arcTargets, arcWeights);
+    }
+
+    /*--------------------------------- getter methods --------------------------------------------------------*/
+
+    public int getNumOfVertices() { return offsets.length - 1; }
+
+    public int getNumOfArcs() { return targets.length; }
+
+    /**
+     * get the first arc leaving a vertex
+     */
+    public int getFirstArc(int vertex) { return offsets[vertex]; }
+
+    /**
+     * get the position after the last arc leaving a vertex
+     */
+    public int getEndArc(int vertex) { return offsets[vertex + 1]; }
+
+    public int getDegree(int vertex) { return offsets[vertex + 1] - offsets[vertex]; }
+
+    public int getTarget(int arc) { return targets[arc]; }
+
+    /**
+     * get the vertex an arc leaves from, by binary search on the offsets
+     */
+    public int getSource(int arc) {
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low < high) { // the last vertex whose first arc is at or before arc
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= arc) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    public int getWeight(int arc) { return weights[arc]; }
+
+    /**
+     * get the index of an arc in the arrays the graph was built from
+     */
+    public int getArcId(int arc) { return arcIds[arc]; }
+
+    /**
+     * get the arc from one vertex to another with the hash index
+     * @param source    a vertex
+     * @param target    a vertex
+     * @return  the first arc of source going to target, -1 if there is none or a vertex is out of range
+     */
+    public int getArc(int source, int target) {
+        if (source < 0 || source >= getNumOfVertices() || target < 0 || target >= getNumOfVertices()) {
+            return -1;
+        }
+        int slot = findSlot(getPairKey(source, target));
+        return pairKeys[slot] == EMPTY ? -1 : pairArcs[slot];
+    }
+
+    /**
+     * get the largest arc weight, 0 for a graph without arcs
+     */
+    public int getMaxWeight() { return maxWeight; }
+
+    /**
+     * get the memory taken by the arrays of this graph
+     * @return  the number of bytes, without object headers
+     */
+    public long getSizeInBytes() {
+        return 4L * (offsets.length + targets.length + weights.length + arcIds.length + pairArcs.length)
+                + 8L * pairKeys.length;
+    }
+
+    private static long getPairKey(int source, int target) {
+        return (long) source << 32 | target;
+    }
+
+    /**
+     * find the slot of a key by linear probing
+     * @return  the slot holding the key, or the free slot where it would go
+     */
+    private int findSlot(long key) {
+        int mask = pairKeys.length - 1;
+        int slot = (int) ((key * HASH_MULTIPLIER) >>> pairShift);
+        while (pairKeys[slot] != EMPTY && pairKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
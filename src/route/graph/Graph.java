@@ -1,12 +1,18 @@
 package route.graph;
 
 import city.City;
+import city.CityNames;
 import route.Route;
 
 import java.util.*;
 
 /**
- * This class is an adjacency list undirected graph of city and route
+ * This class is an adjacency list undirected graph of city and route, with a compressed sparse row view of the same
+ * routes for path finding, where every city is a vertex numbered from 0 in the order of its id in CityNames, so the
+ * view only spans the cities of this graph and every graph of the same map numbers them the same way, and every
+ * route is an arc id.
+ * Every route is stored once, the other direction is its reversed route which shares its owners, and the route
+ * between two cities is found in O(1) by the city pair index of the compressed sparse row view
  * @param <V>   a City object - vertex
  * @param <E>  a Route object - weighted edge
  */
@@ -14,6 +20,11 @@ public class Graph<V extends City, E extends Route<V>> {
 
     private List<E> allRoutes;
     protected Map<V, Set<E>> adjacencyList; // map a city object to the routes starting from there
+    private CsrGraph csr;
+    private List<E> arcRoutes; // the route of every arc of csr, reversed routes for arcs from city2 to city1
+    private int[] arcsById; // the arc of every arc id, arc ids 2 * i and 2 * i + 1 are the two directions of route i
+    private List<V> cities; // the city of every vertex
+    private int[] cityIds; // the city id of every vertex, ascending, so a city's vertex is found by binary search
 
     /**
      * construct a new graph with the given edges, edges are generated using RouteFileReader
@@ -24,9 +35,10 @@ public class Graph<V extends City, E extends Route<V>> {
     public Graph(Collection<E> routes) {
         this.allRoutes = new ArrayList<>();
         this.adjacencyList = new HashMap<>();
+        List<E> edgeRoutes = new ArrayList<>(2 * routes.size()); // route i is edge 2 * i, its reverse 2 * i + 1
 
-            // add route to its city1 key
         for (E r : routes) {
+            // add route to its city1 key
             if (!adjacencyList.containsKey(r.getCity1())) {
                 adjacencyList.put(r.getCity1(), new HashSet<>());
             }
@@ -38,10 +50,52 @@ public class Graph<V extends City, E extends Route<V>> {
             if (!adjacencyList.containsKey(r.getCity2())) {
                 adjacencyList.put(r.getCity2(), new HashSet<>());
             }
-            adjacencyList.get(r.getCity2()).add((E) r.reversed());
+            E reversed = (E) r.reversed();
+            adjacencyList.get(r.getCity2()).add(reversed);
+            edgeRoutes.add(r);
+            edgeRoutes.add(reversed);
+        }
+        buildCsr(edgeRoutes);
+    }
+
+    /**
+     * number the cities of this graph from 0 by their city ids and lay the routes out as a compressed sparse row
+     * graph on these vertices
+     */
+    private void buildCsr(List<E> edgeRoutes) {
+        cities = new ArrayList<>(adjacencyList.keySet());
+        cities.sort(Comparator.comparingInt(Graph::getInternedId));
+        int numOfCities = cities.size();
+        cityIds = new int[numOfCities];
+        for (int vertex = 0; vertex < numOfCities; vertex++) {
+            cityIds[vertex] = getInternedId(cities.get(vertex));
+        }
+
+        int numOfEdges = allRoutes.size();
+        int[] cities1 = new int[numOfEdges];
+        int[] cities2 = new int[numOfEdges];
+        int[] weights = new int[numOfEdges];
+        for (int i = 0; i < numOfEdges; i++) {
+            E r = allRoutes.get(i);
+            cities1[i] = Arrays.binarySearch(cityIds, getInternedId(r.getCity1()));
+            cities2[i] = Arrays.binarySearch(cityIds, getInternedId(r.getCity2()));
+            weights[i] = r.getNumOfCars();
+        }
+        csr = CsrGraph.fromEdges(numOfCities, cities1, cities2, weights);
+
+        arcRoutes = new ArrayList<>(csr.getNumOfArcs());
+        arcsById = new int[csr.getNumOfArcs()];
+        for (int arc = 0; arc < csr.getNumOfArcs(); arc++) {
+            arcRoutes.add(edgeRoutes.get(csr.getArcId(arc)));
+            arcsById[csr.getArcId(arc)] = arc;
         }
     }
 
+    private static int getInternedId(City city) {
+        int id = city.getCityId();
+        return id != City.NO_ID ? id : CityNames.getInstance().getCityId(city.getCityName());
+    }
+
     /**
      * get all outgoing routes from a specific city
      * @param city  a given city where the routes start from
@@ -65,5 +119,61 @@ public class Graph<V extends City, E extends Route<V>> {
      */
     public List<E> getAllRoutes() { return Collections.unmodifiableList(this.allRoutes); }
 
+    /**
+     * get the compressed sparse row view of this graph, vertex v is the city getCity(v) and arc a is the route
+     * getRoute(a)
+     */
+    public CsrGraph getCsr() { return csr; }
+
+    /**
+     * get the route of an arc of the compressed sparse row view
+     * @param arc   an arc of getCsr()
+     * @return  the route from the source of the arc to its target
+     */
+    public E getRoute(int arc) { return arcRoutes.get(arc); }
+
+    /**
+     * get the route of an arc in the other direction
+     * @param arc   an arc of getCsr()
+     * @return  the route from the target of the arc to its source
+     */
+    public E getReversedRoute(int arc) { return arcRoutes.get(arcsById[csr.getArcId(arc) ^ 1]); }
+
+    /**
+     * get the route between two cities, cities are matched by name
+     * @param city1     the city the route starts from
+     * @param city2     the city the route goes to
+     * @return  the route from city1 to city2, null if there is no such route
+     */
+    public E getRoute(City city1, City city2) {
+        int arc = csr.getArc(getVertex(city1), getVertex(city2));
+        return arc == -1 ? null : arcRoutes.get(arc);
+    }
+
+    /**
+     * get the city of a vertex
+     * @param vertex    a vertex of getCsr()
+     * @return  the city
+     */
+    public V getCity(int vertex) { return cities.get(vertex); }
+
+    /**
+     * get the vertex of a city in the compressed sparse row view, cities are matched by name
+     * @param city  a city
+     * @return  the vertex, City.NO_ID if the city is not in this graph
+     */
+    public int getVertex(City city) {
+        int id = city.getCityId();
+        if (id == City.NO_ID) {
+            CityNames cityNames = CityNames.getInstance();
+            if (!cityNames.exists(city.getCityName())) {
+                return City.NO_ID;
+            }
+            id = cityNames.getCityMap().get(city.getCityName()).getCityId();
+        }
+        int vertex = Arrays.binarySearch(cityIds, id);
+        return vertex >= 0 ? vertex : City.NO_ID;
+    }
+
 }
 
@@ -49,8 +49,8 @@ public class PathFinder {
             Set<Route<City>> routesOfCity = map.get(cityName);
             for (Route<City> route : routesOfCity) {
                 String routeToCityName = route.getCity2().getCityName();
-                if (!visited.contains(routeToCityName)) {
-                    return findPathHelper(routeToCityName);
+                if (!visited.contains(routeToCityName) && findPathHelper(routeToCityName)) {
+                    return true;
                 }
             }
         }
@@ -0,0 +1,113 @@
+package route.graph;
+
+import city.City;
+import city.CityNames;
+
+import java.util.Arrays;
+
+/**
+ * This class keeps which cities are connected by a set of routes that only grows, such as the routes claimed by a
+ * player. Cities are their dense ids from CityNames, the sets are trees in an int array merged by size with path
+ * halving, so adding a route and checking two cities both take nearly constant time.
+ */
+public class UnionFind {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] parents; // the parent of every city, a root is its own parent
+    private int[] sizes; // the number of cities in the tree of every root
+    private int numOfUnions;
+
+    public UnionFind() {
+        parents = new int[0];
+        sizes = new int[0];
+        ensureCapacity(INITIAL_CAPACITY);
+    }
+
+    /**
+     * connect the two cities of a route
+     * @return  true if the cities weren't connected before, false otherwise
+     */
+    public boolean union(City city1, City city2) {
+        return union(getId(city1), getId(city2));
+    }
+
+    /**
+     * connect two cities by their ids
+     * @return  true if the cities weren't connected before, false otherwise
+     */
+    public boolean union(int city1, int city2) {
+        ensureCapacity(Math.max(city1, city2) + 1);
+        int root1 = find(city1);
+        int root2 = find(city2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (sizes[root1] < sizes[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        parents[root2] = root1;
+        sizes[root1] += sizes[root2];
+        numOfUnions++;
+        return true;
+    }
+
+    /**
+     * check if the routes connect two cities, a city is always connected to itself
+     */
+    public boolean isConnected(City city1, City city2) {
+        return isConnected(getId(city1), getId(city2));
+    }
+
+    /**
+     * check if the routes connect two cities by their ids
+     */
+    public boolean isConnected(int city1, int city2) {
+        if (city1 == city2) {
+            return true;
+        }
+        if (city1 >= parents.length || city2 >= parents.length) {
+            return false;
+        }
+        return find(city1) == find(city2);
+    }
+
+    /**
+     * get the root of the tree of a city, halving the path on the way
+     */
+    public int find(int city) {
+        if (city >= parents.length) {
+            return city;
+        }
+        while (parents[city] != city) {
+            parents[city] = parents[parents[city]];
+            city = parents[city];
+        }
+        return city;
+    }
+
+    /**
+     * get the number of unions that connected two sets, each one merged two groups of cities
+     */
+    public int getNumOfUnions() { return numOfUnions; }
+
+    private static int getId(City city) {
+        int id = city.getCityId();
+        return id != City.NO_ID ? id : CityNames.getInstance().getCityId(city.getCityName());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > parents.length) {
+            int oldLength = parents.length;
+            int newLength = Math.max(capacity, oldLength * 2);
+            parents = Arrays.copyOf(parents, newLength);
+            sizes = Arrays.copyOf(sizes, newLength);
+            for (int i = oldLength; i < newLength; i++) {
+                parents[i] = i;
+                sizes[i] = 1;
+            }
+        }
+    }
+}
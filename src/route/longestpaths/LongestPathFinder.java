@@ -1,4 +1,244 @@
 package route.longestpaths;
 
+import city.City;
+import city.CityNames;
+import route.Route;
+import route.graph.UnionFind;
+
+import java.util.*;
+
+/**
+ * This class finds the longest continuous path in the routes of a player, the path may pass a city more than once
+ * but may use every route only once (a trail), its length is the number of cars of its routes.
+ * The search is an exact depth first search with branch and bound: a branch is cut when the routes left in the
+ * component can't make it longer than the best path found so far. Components of up to 63 routes also remember
+ * every (city, routes used) state already searched, the same state reached in another order is not searched twice.
+ * Routes are added one at a time, every connected component keeps its longest path and only the component a new
+ * route joins is searched again.
+ */
 public class LongestPathFinder {
+
+    public static final int LONGEST_PATH_BONUS = 10; // points for the longest continuous path at the end of a game
+
+    private static final int MAX_MEMO_ROUTES = 63;
+
+    // the routes added so far, by city id
+    private int[] cities1;
+    private int[] cities2;
+    private int[] lengths;
+    private int numOfRoutes;
+
+    private final UnionFind components;
+    private final Map<Integer, Integer> longestByComponent; // the root of every component to its longest path
+    private final Set<Integer> changedComponents; // roots of the components whose longest path is out of date
+
+    public LongestPathFinder() {
+        cities1 = new int[16];
+        cities2 = new int[16];
+        lengths = new int[16];
+        components = new UnionFind();
+        longestByComponent = new HashMap<>();
+        changedComponents = new LinkedHashSet<>();
+    }
+
+    /**
+     * add a route of the player
+     * @param route     a claimed route
+     */
+    public void addRoute(Route<City> route) {
+        addRoute(getId(route.getCity1()), getId(route.getCity2()), route.getNumOfCars());
+    }
+
+    /**
+     * add a route of the player by city ids
+     * @param city1     the id of a city of the route
+     * @param city2     the id of the other city
+     * @param length    the number of cars of the route
+     * @throws IllegalArgumentException     when the length is not positive
+     */
+    public void addRoute(int city1, int city2, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Number of cars have to be positive integers.");
+        }
+        if (numOfRoutes == lengths.length) {
+            cities1 = Arrays.copyOf(cities1, numOfRoutes * 2);
+            cities2 = Arrays.copyOf(cities2, numOfRoutes * 2);
+            lengths = Arrays.copyOf(lengths, numOfRoutes * 2);
+        }
+        cities1[numOfRoutes] = city1;
+        cities2[numOfRoutes] = city2;
+        lengths[numOfRoutes] = length;
+        numOfRoutes++;
+
+        // the components joined by the route are out of date, and are merged into one
+        longestByComponent.remove(components.find(city1));
+        longestByComponent.remove(components.find(city2));
+        changedComponents.remove(components.find(city1));
+        changedComponents.remove(components.find(city2));
+        components.union(city1, city2);
+        changedComponents.add(components.find(city1));
+    }
+
+    /**
+     * get the length of the longest continuous path of the routes added so far, only the components changed since
+     * the last call are searched
+     * @return  the number of cars of the longest path, 0 without routes
+     */
+    public int getLongestPathLength() {
+        for (int root : changedComponents) {
+            longestByComponent.put(root, searchComponent(root));
+        }
+        changedComponents.clear();
+        int longest = 0;
+        for (int length : longestByComponent.values()) {
+            longest = Math.max(longest, length);
+        }
+        return longest;
+    }
+
+    public int getNumOfRoutes() { return numOfRoutes; }
+
+    /**
+     * find the length of the longest trail of a graph in one call
+     * @param cities1   one city of every route
+     * @param cities2   the other city of every route
+     * @param lengths   the number of cars of every route
+     * @return  the number of cars of the longest path, 0 without routes
+     */
+    public static int findLongestPath(int[] cities1, int[] cities2, int[] lengths) {
+        LongestPathFinder finder = new LongestPathFinder();
+        for (int i = 0; i < lengths.length; i++) {
+            finder.addRoute(cities1[i], cities2[i], lengths[i]);
+        }
+        return finder.getLongestPathLength();
+    }
+
+    /**
+     * find the players that get the longest path bonus at the end of a game, every player tied for the longest path
+     * gets it, nobody does when no player has a route
+     * @param longestPaths  the number of cars of the longest path of every player
+     * @return  true for every player that gets the bonus
+     */
+    public static boolean[] findBonusWinners(int[] longestPaths) {
+        int longest = 0;
+        for (int length : longestPaths) {
+            longest = Math.max(longest, length);
+        }
+        boolean[] winners = new boolean[longestPaths.length];
+        for (int player = 0; player < longestPaths.length; player++) {
+            winners[player] = longest > 0 && longestPaths[player] == longest;
+        }
+        return winners;
+    }
+
+    /*--------------------------------- search ----------------------------------------------------------------*/
+
+    private int searchComponent(int root) {
+        // the routes of the component, cities renumbered from 0
+        Map<Integer, Integer> localIds = new HashMap<>();
+        List<Integer> routes = new ArrayList<>();
+        for (int i = 0; i < numOfRoutes; i++) {
+            if (components.find(cities1[i]) == root) {
+                routes.add(i);
+                localIds.putIfAbsent(cities1[i], localIds.size());
+                localIds.putIfAbsent(cities2[i], localIds.size());
+            }
+        }
+        Search search = new Search(localIds.size(), routes.size());
+        for (int i = 0; i < routes.size(); i++) {
+            int route = routes.get(i);
+            search.setRoute(i, localIds.get(cities1[route]), localIds.get(cities2[route]), lengths[route]);
+        }
+        return search.run();
+    }
+
+    private static int getId(City city) {
+        int id = city.getCityId();
+        return id != City.NO_ID ? id : CityNames.getInstance().getCityId(city.getCityName());
+    }
+
+    /**
+     * One depth first search over a connected component, the routes of every city are kept as compressed rows.
+     */
+    private static final class Search {
+
+        private final int numOfCities;
+        private final int[] cities1;
+        private final int[] cities2;
+        private final int[] lengths;
+        private final boolean[] used;
+        private int[] offsets;
+        private int[] cityRoutes;
+
+        private int best;
+        private int remaining; // the cars of the routes not used by the current path
+        private long usedMask; // the used routes, when there are at most MAX_MEMO_ROUTES
+        private final Map<Long, Long> searched; // a used mask to the cities already searched with it, or null
+
+        Search(int numOfCities, int numOfRoutes) {
+            this.numOfCities = numOfCities;
+            cities1 = new int[numOfRoutes];
+            cities2 = new int[numOfRoutes];
+            lengths = new int[numOfRoutes];
+            used = new boolean[numOfRoutes];
+            searched = numOfRoutes <= MAX_MEMO_ROUTES && numOfCities <= Long.SIZE ? new HashMap<>() : null;
+        }
+
+        void setRoute(int route, int city1, int city2, int length) {
+            cities1[route] = city1;
+            cities2[route] = city2;
+            lengths[route] = length;
+            remaining += length;
+        }
+
+        int run() {
+            offsets = new int[numOfCities + 1];
+            for (int i = 0; i < lengths.length; i++) {
+                offsets[cities1[i] + 1]++;
+                offsets[cities2[i] + 1]++;
+            }
+            for (int city = 0; city < numOfCities; city++) {
+                offsets[city + 1] += offsets[city];
+            }
+            cityRoutes = new int[2 * lengths.length];
+            int[] next = Arrays.copyOf(offsets, numOfCities);
+            for (int i = 0; i < lengths.length; i++) {
+                cityRoutes[next[cities1[i]]++] = i;
+                cityRoutes[next[cities2[i]]++] = i;
+            }
+
+            int total = remaining;
+            for (int city = 0; city < numOfCities && best < total; city++) {
+                search(city, 0);
+            }
+            return best;
+        }
+
+        private void search(int city, int length) {
+            best = Math.max(best, length);
+            if (length + remaining <= best) {
+                return;
+            }
+            if (searched != null) {
+                long cities = searched.getOrDefault(usedMask, 0L);
+                if ((cities & 1L << city) != 0) {
+                    return;
+                }
+                searched.put(usedMask, cities | 1L << city);
+            }
+            for (int i = offsets[city]; i < offsets[city + 1]; i++) {
+                int route = cityRoutes[i];
+                if (!used[route]) {
+                    used[route] = true;
+                    usedMask ^= 1L << route;
+                    remaining -= lengths[route];
+                    int other = cities1[route] == city ? cities2[route] : cities1[route];
+                    search(other, length + lengths[route]);
+                    remaining += lengths[route];
+                    usedMask ^= 1L << route;
+                    used[route] = false;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package route.shortestpaths;
+
+import city.City;
+import route.Route;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * This class is a table of the shortest distance and the next city on a shortest path between every two cities of a
+ * map, computed once with one shortest path search per source city, run in parallel. The table only depends on the
+ * cities and the lengths of the routes, so every graph built from the same map shares one read-only table, which
+ * is safe to read from concurrent games. A table lives as long as a graph of its map does.
+ */
+public final class AllPairsShortestPaths {
+
+    public static final int NO_PATH = -1; // the distance and the next city between two cities that aren't connected
+    static final int MAX_WEIGHT = 0xFFFF; // the longest route of a map with a table, the weight has 16 bits of a key
+
+    private static final Map<Graph<?, ?>, AllPairsShortestPaths> TABLES_BY_GRAPH =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    // the tables of the maps are only weakly held, the graphs of a map keep its table alive
+    private static final Map<MapKey, TableReference> TABLES_BY_MAP = new HashMap<>();
+    private static final ReferenceQueue<AllPairsShortestPaths> COLLECTED_TABLES = new ReferenceQueue<>();
+
+    private final int numOfCities;
+    private final int[] distances; // distances[from * numOfCities + to]
+    private final int[] nextCities; // the city after from on a shortest path to to
+
+    private AllPairsShortestPaths(CsrGraph csr) {
+        numOfCities = csr.getNumOfVertices();
+        distances = new int[numOfCities * numOfCities];
+        nextCities = new int[numOfCities * numOfCities];
+        IntStream.range(0, numOfCities).parallel().forEach(source -> searchFrom(csr, source));
+    }
+
+    /**
+     * get the table of the map of a graph, computing it the first time the map is seen
+     * @param graph     a graph
+     * @return  the table shared by all graphs of the same map
+     * @throws IllegalArgumentException     when the map is too large or a route too long for a table, see
+     * ShortestPathFinder.isAnsweredByTable
+     */
+    public static AllPairsShortestPaths of(Graph<?, ?> graph) {
+        AllPairsShortestPaths table = TABLES_BY_GRAPH.get(graph);
+        if (table == null) {
+            if (!ShortestPathFinder.isAnsweredByTable(graph)) {
+                throw new IllegalArgumentException("The map is too large for a distance table.");
+            }
+            table = ofMap(new MapKey(graph));
+            TABLES_BY_GRAPH.put(graph, table);
+        }
+        return table;
+    }
+
+    /**
+     * get the table of a map, computing it if no graph of the map holds it any more
+     */
+    private static AllPairsShortestPaths ofMap(MapKey key) {
+        synchronized (TABLES_BY_MAP) {
+            for (TableReference collected = (TableReference) COLLECTED_TABLES.poll(); collected != null;
+                 collected = (TableReference) COLLECTED_TABLES.poll()) {
+                TABLES_BY_MAP.remove(collected.key, collected);
+            }
+            TableReference reference = TABLES_BY_MAP.get(key);
+            AllPairsShortestPaths table = reference == null ? null : reference.get();
+            if (table == null) {
+                table = new AllPairsShortestPaths(key.toCsr());
+                TABLES_BY_MAP.put(key, new TableReference(key, table));
+            }
+            return table;
+        }
+    }
+
+    /**
+     * get the length of a shortest path between two cities
+     * @param city1     the vertex of the start city
+     * @param city2     the vertex of the end city
+     * @return  the total number of cars, NO_PATH if the cities aren't connected
+     */
+    public int getDistance(int city1, int city2) {
+        return distances[city1 * numOfCities + city2];
+    }
+
+    /**
+     * get the city after city1 on a shortest path from city1 to city2
+     * @param city1     the vertex of the start city
+     * @param city2     the vertex of the end city
+     * @return  the vertex of the next city, city2 itself if the cities are neighbours, NO_PATH if they are the same
+     *          city or aren't connected
+     */
+    public int getNextCity(int city1, int city2) {
+        return nextCities[city1 * numOfCities + city2];
+    }
+
+    public int getNumOfCities() { return numOfCities; }
+
+    /**
+     * get the routes of a shortest path between two cities, routes are taken from the given graph
+     * @param graph     a graph of the map of this table
+     * @param city1     the vertex of the start city
+     * @param city2     the vertex of the end city
+     * @return  the routes from city1 to city2 in order, empty if the cities are the same or aren't connected
+     */
+    public <V extends City, E extends Route<V>> List<E> getPath(Graph<V, E> graph, int city1, int city2) {
+        List<E> path = new ArrayList<>();
+        CsrGraph csr = graph.getCsr();
+        for (int from = city1; from != city2 && getNextCity(from, city2) != NO_PATH; ) {
+            int to = getNextCity(from, city2);
+            int bestArc = -1;
+            for (int arc = csr.getFirstArc(from), end = csr.getEndArc(from); arc < end; arc++) {
+                if (csr.getTarget(arc) == to && (bestArc == -1 || csr.getWeight(arc) < csr.getWeight(bestArc))) {
+                    bestArc = arc;
+                }
+            }
+            path.add(graph.getRoute(bestArc));
+            from = to;
+        }
+        return path;
+    }
+
+    /**
+     * fill the row of a source city, the next city of every target is taken from its predecessor, which is
+     * settled before it
+     */
+    private void searchFrom(CsrGraph csr, int source) {
+        int[] distancesToV = new int[numOfCities];
+        int[] predecessorToV = new int[numOfCities];
+        int[] order = new int[numOfCities];
+        int numOfSettled = ShortestPathFinder.search(csr, source, NO_PATH, distancesToV, predecessorToV, order);
+
+        int row = source * numOfCities;
+        Arrays.fill(distances, row, row + numOfCities, NO_PATH);
+        Arrays.fill(nextCities, row, row + numOfCities, NO_PATH);
+        distances[row + source] = 0;
+        for (int i = 1; i < numOfSettled; i++) { // order[0] is the source
+            int to = order[i];
+            int from = csr.getSource(predecessorToV[to]);
+            distances[row + to] = distancesToV[to];
+            nextCities[row + to] = from == source ? to : nextCities[row + from];
+        }
+    }
+
+    /**
+     * a weak reference to the table of a map, which knows the key to remove once the table is collected
+     */
+    private static final class TableReference extends WeakReference<AllPairsShortestPaths> {
+
+        private final MapKey key;
+
+        TableReference(MapKey key, AllPairsShortestPaths table) {
+            super(table, COLLECTED_TABLES);
+            this.key = key;
+        }
+    }
+
+    /**
+     * The cities and route lengths of a map, independent of the order of the routes, so the table is also the same
+     * whatever graph of the map computes it. Every city of a graph is on a route, so the edges are the whole key.
+     */
+    private static final class MapKey {
+
+        private final int numOfCities; // follows from the edges, not part of the key
+        private final long[] edges; // sorted smaller vertex << 40 | larger vertex << 16 | number of cars (MAX_WEIGHT)
+
+        MapKey(Graph<?, ?> graph) {
+            CsrGraph csr = graph.getCsr();
+            numOfCities = csr.getNumOfVertices();
+            edges = new long[csr.getNumOfArcs() / 2];
+            int size = 0;
+            for (int from = 0; from < numOfCities; from++) {
+                for (int arc = csr.getFirstArc(from), end = csr.getEndArc(from); arc < end; arc++) {
+                    int to = csr.getTarget(arc);
+                    // every edge has two arcs, keep the one from the smaller id (or the first of a loop's two)
+                    if (from < to || (from == to && csr.getArcId(arc) % 2 == 0)) {
+                        edges[size++] = (long) from << 40 | (long) to << 16 | csr.getWeight(arc);
+                    }
+                }
+            }
+            Arrays.sort(edges);
+        }
+
+        CsrGraph toCsr() {
+            int[] cities1 = new int[edges.length];
+            int[] cities2 = new int[edges.length];
+            int[] weights = new int[edges.length];
+            for (int i = 0; i < edges.length; i++) {
+                cities1[i] = (int) (edges[i] >>> 40);
+                cities2[i] = (int) (edges[i] >>> 16) & 0xFFFFFF;
+                weights[i] = (int) edges[i] & 0xFFFF;
+            }
+            return CsrGraph.fromEdges(numOfCities, cities1, cities2, weights);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MapKey mapKey = (MapKey) o;
+            return Arrays.equals(edges, mapKey.edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package route.shortestpaths;
+
+import route.graph.CsrGraph;
+
+import java.util.Arrays;
+
+/**
+ * This class is a bidirectional A* search with ALT potentials (A*, Landmarks, Triangle inequality) for point to point
+ * queries on large undirected graphs. One search grows from the source and one from the target, both guided by the
+ * average potential p(v) = (lower bound of d(v, target) - lower bound of d(source, v)) / 2 from the Landmarks, so they
+ * head for each other and settle a small part of the graph. The potentials are consistent: a reduced arc weight is
+ * between 0 and twice the weight, so doubled keys are integers and each side is a Dial's bucket queue as in
+ * DialSearch. The search stops once the smallest keys of both sides add up to twice the best path found.
+ * The arrays of an instance are kept between searches and only the vertices a search reached are cleared, so a
+ * search takes time in the part of the graph it settles, not in the size of the graph.
+ * An instance answers one query at a time and isn't safe to use from several threads.
+ */
+final class AltSearch {
+
+    private static final int NONE = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final CsrGraph csr;
+    private final Landmarks landmarks;
+    private final Side forward;
+    private final Side backward;
+    private final int[] potentials; // twice the potential of every vertex, computed when first reached
+    private final boolean[] hasPotential;
+    private final int[] withPotential; // the vertices whose potential was computed by the last search
+    private int numWithPotential;
+    private int source;
+    private int target;
+    private int meetingVertex;
+    private int numOfSettled;
+
+    /**
+     * constructor
+     * @param csr   an undirected graph, every arc has a reversed arc of the same weight
+     * @param landmarks     the landmarks of the graph
+     */
+    AltSearch(CsrGraph csr, Landmarks landmarks) {
+        this.csr = csr;
+        this.landmarks = landmarks;
+        int numOfVertices = csr.getNumOfVertices();
+        int numOfBuckets = 4 * csr.getMaxWeight() + 1; // the largest doubled reduced weight, plus one
+        forward = new Side(numOfVertices, numOfBuckets, 1);
+        backward = new Side(numOfVertices, numOfBuckets, -1);
+        potentials = new int[numOfVertices];
+        hasPotential = new boolean[numOfVertices];
+        withPotential = new int[numOfVertices];
+    }
+
+    /**
+     * search a shortest path between two vertices
+     * @return  the distance, Integer.MAX_VALUE if the vertices aren't connected
+     */
+    int search(int source, int target) {
+        this.source = source;
+        this.target = target;
+        meetingVertex = NONE;
+        numOfSettled = 0;
+        for (int i = 0; i < numWithPotential; i++) {
+            hasPotential[withPotential[i]] = false;
+        }
+        numWithPotential = 0;
+        forward.reset();
+        backward.reset();
+        if (source == target) {
+            meetingVertex = source;
+            return 0;
+        }
+        if (landmarks.getLowerBound(source, target) == UNREACHED) {
+            return UNREACHED;
+        }
+
+        forward.start(source, getPotential(source));
+        backward.start(target, -getPotential(target));
+        long best = UNREACHED;
+        while (!forward.isEmpty() && !backward.isEmpty()) {
+            if ((long) forward.peekKey() + backward.peekKey() >= 2 * best) {
+                break;
+            }
+            Side side = forward.numOfQueued <= backward.numOfQueued ? forward : backward;
+            Side other = side == forward ? backward : forward;
+            int from = side.removeMin();
+            numOfSettled++;
+            for (int arc = csr.getFirstArc(from), end = csr.getEndArc(from); arc < end; arc++) {
+                int to = csr.getTarget(arc);
+                int newDistance = side.distances[from] + csr.getWeight(arc);
+                if (!side.visited[to] && newDistance < side.distances[to]) {
+                    side.decreaseKey(to, newDistance, arc, 2 * newDistance + side.sign * getPotential(to));
+                    if (other.distances[to] != UNREACHED && newDistance + (long) other.distances[to] < best) {
+                        best = newDistance + (long) other.distances[to];
+                        meetingVertex = to;
+                    }
+                }
+            }
+        }
+        return (int) best;
+    }
+
+    /**
+     * check if this search is of a graph
+     */
+    boolean isOf(CsrGraph csr) { return this.csr == csr; }
+
+    /**
+     * get the vertex where the paths of both sides meet on the shortest path of the last search
+     * @return  the vertex, NONE if there is no path
+     */
+    int getMeetingVertex() { return meetingVertex; }
+
+    /**
+     * get the arc reaching a vertex on the side of the source, from its source side neighbour
+     * @return  the arc, NONE for the source and vertices not reached
+     */
+    int getForwardPredecessor(int vertex) { return forward.predecessors[vertex]; }
+
+    /**
+     * get the arc reaching a vertex on the side of the target, the path to the target follows it backwards
+     * @return  the arc from the target side neighbour to the vertex, NONE for the target and vertices not reached
+     */
+    int getBackwardPredecessor(int vertex) { return backward.predecessors[vertex]; }
+
+    /**
+     * get the number of vertices settled by both sides in the last search
+     */
+    int getNumOfSettled() { return numOfSettled; }
+
+    /**
+     * get twice the potential of a vertex: the bound of its distance to the target minus the bound of its distance
+     * from the source
+     */
+    private int getPotential(int vertex) {
+        if (!hasPotential[vertex]) {
+            potentials[vertex] = landmarks.getLowerBound(vertex, target) - landmarks.getLowerBound(source, vertex);
+            hasPotential[vertex] = true;
+            withPotential[numWithPotential++] = vertex;
+        }
+        return potentials[vertex];
+    }
+
+    /**
+     * One side of the search, a vertex with distance d waits in the bucket of its key 2 * d + sign * potential, keys
+     * of the queued vertices are within the bucket count of the smallest one.
+     */
+    private static final class Side {
+
+        private final int sign;
+        private final int[] distances;
+        private final int[] predecessors;
+        private final int[] keys;
+        private final boolean[] visited;
+        private final int[] heads;
+        private final int[] next;
+        private final int[] prev;
+        private final int[] reached; // the vertices with a distance, to be cleared by reset
+        private int numOfReached;
+        private int numOfQueued;
+        private int minKey;
+
+        Side(int numOfVertices, int numOfBuckets, int sign) {
+            this.sign = sign;
+            distances = new int[numOfVertices];
+            predecessors = new int[numOfVertices];
+            keys = new int[numOfVertices];
+            visited = new boolean[numOfVertices];
+            heads = new int[numOfBuckets];
+            next = new int[numOfVertices];
+            prev = new int[numOfVertices];
+            reached = new int[numOfVertices];
+            Arrays.fill(distances, UNREACHED);
+            Arrays.fill(predecessors, NONE);
+        }
+
+        void reset() {
+            for (int i = 0; i < numOfReached; i++) {
+                int vertex = reached[i];
+                distances[vertex] = UNREACHED;
+                predecessors[vertex] = NONE;
+                visited[vertex] = false;
+            }
+            numOfReached = 0;
+            Arrays.fill(heads, NONE);
+            numOfQueued = 0;
+        }
+
+        void start(int vertex, int key) {
+            decreaseKey(vertex, 0, NONE, key);
+            minKey = key;
+        }
+
+        boolean isEmpty() { return numOfQueued == 0; }
+
+        /**
+         * get the smallest key of the queued vertices, the queue must not be empty
+         */
+        int peekKey() {
+            while (heads[Math.floorMod(minKey, heads.length)] == NONE) {
+                minKey++;
+            }
+            return minKey;
+        }
+
+        int removeMin() {
+            int vertex = heads[Math.floorMod(peekKey(), heads.length)];
+            remove(vertex);
+            numOfQueued--;
+            visited[vertex] = true;
+            return vertex;
+        }
+
+        void decreaseKey(int vertex, int distance, int arc, int key) {
+            if (distances[vertex] == UNREACHED) {
+                reached[numOfReached++] = vertex;
+                numOfQueued++;
+            } else {
+                remove(vertex);
+            }
+            distances[vertex] = distance;
+            predecessors[vertex] = arc;
+            keys[vertex] = key;
+            insert(vertex);
+        }
+
+        private void insert(int vertex) {
+            int bucket = Math.floorMod(keys[vertex], heads.length);
+            next[vertex] = heads[bucket];
+            prev[vertex] = NONE;
+            if (heads[bucket] != NONE) {
+                prev[heads[bucket]] = vertex;
+            }
+            heads[bucket] = vertex;
+        }
+
+        private void remove(int vertex) {
+            if (prev[vertex] == NONE) {
+                heads[Math.floorMod(keys[vertex], heads.length)] = next[vertex];
+            } else {
+                next[prev[vertex]] = next[vertex];
+            }
+            if (next[vertex] != NONE) {
+                prev[next[vertex]] = prev[vertex];
+            }
+        }
+    }
+}
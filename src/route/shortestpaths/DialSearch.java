@@ -0,0 +1,137 @@
+package route.shortestpaths;
+
+import route.graph.CsrGraph;
+
+import java.util.Arrays;
+
+/**
+ * This class is Dial's algorithm, Dijkstra's search with a bucket queue, for graphs with small integer weights such
+ * as route lengths. A vertex at distance d waits in bucket d % (maxWeight + 1); all queued vertices are within
+ * maxWeight of the one being settled, so the buckets never mix two distances. Buckets are doubly linked lists kept in
+ * int arrays, a decrease of distance moves a vertex between buckets in constant time and nothing is boxed.
+ */
+final class DialSearch {
+
+    private static final int NONE = -1;
+
+    private DialSearch() {}
+
+    /**
+     * search the shortest paths from a source, arrays are indexed by vertex
+     * @param csr   a graph with weights from 0 to maxWeight
+     * @param maxWeight     the largest weight of the graph
+     * @param source    the start vertex
+     * @param target    the vertex to stop at once settled, NONE to settle every reachable vertex
+     * @param distances     filled with the distances, Integer.MAX_VALUE for vertices not reached
+     * @param predecessors  filled with the arc reaching every vertex, NONE for the source and vertices not reached
+     * @param order     if not null, filled with the settled vertices in the order of their distance
+     * @return  the number of settled vertices
+     */
+    static int search(CsrGraph csr, int maxWeight, int source, int target,
+                      int[] distances, int[] predecessors, int[] order) {
+        return search(csr, null, maxWeight, source, target, distances, predecessors, order);
+    }
+
+    /**
+     * search the shortest paths from a source with weights other than the ones of the graph
+     * @param arcWeights    the weight of every arc, from 0 to maxWeight, negative for an arc that can't be used,
+     *                      null for the weights of the graph
+     * @see #search(CsrGraph, int, int, int, int[], int[], int[])
+     */
+    static int search(CsrGraph csr, int[] arcWeights, int maxWeight, int source, int target,
+                      int[] distances, int[] predecessors, int[] order) {
+        return search(csr, arcWeights, maxWeight, new int[]{source}, 1, target, null, distances, predecessors, order);
+    }
+
+    /**
+     * search the shortest paths from a set of sources to the nearest of a set of targets, every source starts at 0
+     * @param sources   the start vertices, the first numOfSources are used
+     * @param targets   the vertices to stop at, the first one settled is the nearest
+     * @return  the nearest target, NONE if no target can be reached
+     * @see #search(CsrGraph, int[], int, int, int, int[], int[], int[])
+     */
+    static int searchNearest(CsrGraph csr, int[] arcWeights, int maxWeight, int[] sources, int numOfSources,
+                             boolean[] targets, int[] distances, int[] predecessors) {
+        int[] order = new int[csr.getNumOfVertices()];
+        int numOfSettled = search(csr, arcWeights, maxWeight, sources, numOfSources, NONE, targets,
+                distances, predecessors, order);
+        return numOfSettled > 0 && targets[order[numOfSettled - 1]] ? order[numOfSettled - 1] : NONE;
+    }
+
+    private static int search(CsrGraph csr, int[] arcWeights, int maxWeight, int[] sources, int numOfSources,
+                              int target, boolean[] targets, int[] distances, int[] predecessors, int[] order) {
+        int numOfVertices = csr.getNumOfVertices();
+        int numOfBuckets = maxWeight + 1;
+        int[] heads = new int[numOfBuckets];
+        int[] next = new int[numOfVertices];
+        int[] prev = new int[numOfVertices];
+        boolean[] visited = new boolean[numOfVertices];
+        Arrays.fill(heads, NONE);
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, NONE);
+
+        int numOfQueued = 0;
+        for (int i = 0; i < numOfSources; i++) {
+            if (distances[sources[i]] != 0) {
+                distances[sources[i]] = 0;
+                insert(heads, next, prev, sources[i], 0);
+                numOfQueued++;
+            }
+        }
+        int numOfSettled = 0;
+        int bucket = 0;
+        while (numOfQueued > 0) {
+            while (heads[bucket] == NONE) {
+                bucket = bucket + 1 == numOfBuckets ? 0 : bucket + 1;
+            }
+            int from = heads[bucket];
+            remove(heads, next, prev, from, bucket);
+            numOfQueued--;
+            visited[from] = true;
+            if (order != null) {
+                order[numOfSettled] = from;
+            }
+            numOfSettled++;
+            if (from == target || (targets != null && targets[from])) {
+                break;
+            }
+
+            for (int arc = csr.getFirstArc(from), end = csr.getEndArc(from); arc < end; arc++) {
+                int weight = arcWeights == null ? csr.getWeight(arc) : arcWeights[arc];
+                int to = csr.getTarget(arc);
+                int newDistance = distances[from] + weight;
+                if (weight >= 0 && !visited[to] && newDistance < distances[to]) {
+                    if (distances[to] == Integer.MAX_VALUE) {
+                        numOfQueued++;
+                    } else {
+                        remove(heads, next, prev, to, distances[to] % numOfBuckets);
+                    }
+                    distances[to] = newDistance;
+                    predecessors[to] = arc;
+                    insert(heads, next, prev, to, newDistance % numOfBuckets);
+                }
+            }
+        }
+        return numOfSettled;
+    }
+
+    private static void insert(int[] heads, int[] next, int[] prev, int vertex, int bucket) {
+        next[vertex] = heads[bucket];
+        prev[vertex] = NONE;
+        if (heads[bucket] != NONE) {
+            prev[heads[bucket]] = vertex;
+        }
+        heads[bucket] = vertex;
+    }
+
+    private static void remove(int[] heads, int[] next, int[] prev, int vertex, int bucket) {
+        if (prev[vertex] == NONE) {
+            heads[bucket] = next[vertex];
+        } else {
+            next[prev[vertex]] = next[vertex];
+        }
+        if (next[vertex] != NONE) {
+            prev[next[vertex]] = prev[vertex];
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package route.shortestpaths;
+
+import route.graph.CsrGraph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This class builds synthetic maps for the tests and benchmarks of the searches: a size x size grid of cities, every
+ * city joined to its right and lower neighbour by a route of 1 to 6 cars, as on the board.
+ */
+final class GridGraphs {
+
+    private GridGraphs() {}
+
+    /**
+     * create a grid
+     * @param size  the number of cities of a row and of a column
+     * @param density   the probability of keeping every route, 1 keeps all of them
+     * @param random    the random generator of the lengths and of the routes kept
+     * @return  the grid, city row * size + col is the vertex of a row and a column
+     */
+    static CsrGraph create(int size, double density, SplittableRandom random) {
+        int maxNumOfEdges = 2 * size * (size - 1);
+        int[] cities1 = new int[maxNumOfEdges];
+        int[] cities2 = new int[maxNumOfEdges];
+        int[] weights = new int[maxNumOfEdges];
+        int edge = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int vertex = row * size + col;
+                if (col + 1 < size && isKept(density, random)) {
+                    cities1[edge] = vertex;
+                    cities2[edge] = vertex + 1;
+                    weights[edge++] = random.nextInt(1, 7);
+                }
+                if (row + 1 < size && isKept(density, random)) {
+                    cities1[edge] = vertex;
+                    cities2[edge] = vertex + size;
+                    weights[edge++] = random.nextInt(1, 7);
+                }
+            }
+        }
+        if (edge < maxNumOfEdges) {
+            cities1 = Arrays.copyOf(cities1, edge);
+            cities2 = Arrays.copyOf(cities2, edge);
+            weights = Arrays.copyOf(weights, edge);
+        }
+        return CsrGraph.fromEdges(size * size, cities1, cities2, weights);
+    }
+
+    private static boolean isKept(double density, SplittableRandom random) {
+        return density >= 1 || random.nextDouble() < density;
+    }
+}
@@ -0,0 +1,154 @@
+package route.shortestpaths;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class is an indexed 4-ary min heap of int items from 0 to capacity (exclusive) with int priorities, the
+ * priority queue of Dijkstra's search. The heap is two int arrays, items and their priorities side by side, and the
+ * position of every item in the heap is kept in a third array, so contains and decreasePriority are constant time
+ * lookups and no operation boxes or allocates. Four children per node make the heap half as deep as a binary heap
+ * and the children of a node are next to each other in memory.
+ */
+final class IndexedMinHeap {
+
+    private static final int ARITY = 4;
+    private static final int ABSENT = -1;
+
+    private final int[] items;
+    private final int[] priorities; // the priority of the item at the same position
+    private final int[] positions; // the position of every item in the heap, ABSENT if it isn't in the heap
+    private int size;
+
+    /**
+     * constructor
+     * @param capacity  items are 0 to capacity (exclusive)
+     */
+    IndexedMinHeap(int capacity) {
+        items = new int[capacity];
+        priorities = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+
+    boolean contains(int item) { return positions[item] != ABSENT; }
+
+    /**
+     * get the priority of an item in the heap
+     * @throws NoSuchElementException   when the item isn't in the heap
+     */
+    int getPriority(int item) {
+        if (!contains(item)) {
+            throw new NoSuchElementException();
+        }
+        return priorities[positions[item]];
+    }
+
+    /**
+     * add an item
+     * @throws IllegalArgumentException     when the item is already in the heap
+     */
+    void add(int item, int priority) {
+        if (contains(item)) {
+            throw new IllegalArgumentException("The item is already in the heap.");
+        }
+        siftUp(size++, item, priority);
+    }
+
+    /**
+     * lower the priority of an item in the heap
+     * @throws NoSuchElementException   when the item isn't in the heap
+     * @throws IllegalArgumentException     when the priority is higher than the current one
+     */
+    void decreasePriority(int item, int priority) {
+        if (priority > getPriority(item)) {
+            throw new IllegalArgumentException("The priority can only be decreased.");
+        }
+        siftUp(positions[item], item, priority);
+    }
+
+    /**
+     * get the item of the smallest priority
+     * @throws NoSuchElementException   when the heap is empty
+     */
+    int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return items[0];
+    }
+
+    /**
+     * remove the item of the smallest priority
+     * @return  the item
+     * @throws NoSuchElementException   when the heap is empty
+     */
+    int removeMin() {
+        int min = peekMin();
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(0, items[size], priorities[size]);
+        }
+        return min;
+    }
+
+    /**
+     * remove every item
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[items[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    /**
+     * move the parents of a smaller priority down from a position until the item fits, then put it there
+     */
+    private void siftUp(int position, int item, int priority) {
+        while (position > 0) {
+            int parent = (position - 1) / ARITY;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            place(position, items[parent], priorities[parent]);
+            position = parent;
+        }
+        place(position, item, priority);
+    }
+
+    /**
+     * move the smallest children up from a position until the item fits, then put it there
+     */
+    private void siftDown(int position, int item, int priority) {
+        while (true) {
+            int firstChild = ARITY * position + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int smallest = firstChild;
+            for (int child = firstChild + 1, end = Math.min(firstChild + ARITY, size); child < end; child++) {
+                if (priorities[child] < priorities[smallest]) {
+                    smallest = child;
+                }
+            }
+            if (priorities[smallest] >= priority) {
+                break;
+            }
+            place(position, items[smallest], priorities[smallest]);
+            position = smallest;
+        }
+        place(position, item, priority);
+    }
+
+    private void place(int position, int item, int priority) {
+        items[position] = item;
+        priorities[position] = priority;
+        positions[item] = position;
+    }
+}
@@ -0,0 +1,280 @@
+package route.shortestpaths;
+
+import city.City;
+import route.Route;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.*;
+
+/**
+ * This class finds the K shortest loopless paths between two cities, the shortest path first, so a player can rank
+ * backup plans when a route of the best one is taken.
+ * Algorithm implemented: Yen's. Every path found so far is branched at each of its cities (the spur), keeping the
+ * part before the spur and searching a new way from the spur that avoids the branches already taken there.
+ * The shortest path tree towards the end city is computed once and reused by every spur search: when the tree path
+ * from the spur is still allowed it is the answer without any search, otherwise its distances guide the search
+ * (A* with reduced route weights, still searched with Dial's buckets).
+ */
+public class KShortestPathFinder<V extends City, E extends Route<V>> {
+
+    private static final int NONE = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final Graph<V, E> graph;
+    private final CsrGraph csr;
+    private final V city1;
+    private final V city2;
+    private final int[] costs; // the weight of every arc, negative for arcs that can't be used
+
+    /**
+     * constructor, paths are weighted by the number of cars of their routes
+     */
+    public KShortestPathFinder(Graph<V, E> graph, V city1, V city2) {
+        this(graph, city1, city2, null);
+    }
+
+    /**
+     * constructor, paths are weighted by the cars a player still needs, routes the player owns cost nothing and
+     * routes owned by others are avoided
+     * @param distances     the distances of the player on this graph
+     * @throws IllegalArgumentException     when the distances are of another graph
+     */
+    public KShortestPathFinder(Graph<V, E> graph, OccupancyShortestPaths distances, V city1, V city2) {
+        this(graph, city1, city2, distances);
+        if (distances.getGraph() != graph) {
+            throw new IllegalArgumentException("The distances are of another graph.");
+        }
+    }
+
+    private KShortestPathFinder(Graph<V, E> graph, V city1, V city2, OccupancyShortestPaths distances) {
+        this.graph = graph;
+        this.csr = graph.getCsr();
+        this.city1 = city1;
+        this.city2 = city2;
+        costs = new int[csr.getNumOfArcs()];
+        for (int arc = 0; arc < costs.length; arc++) {
+            costs[arc] = distances == null ? csr.getWeight(arc) : distances.getArcCosts()[arc];
+        }
+    }
+
+    /**
+     * find up to k shortest loopless paths, in the order of their weight
+     * @param k     the number of paths wanted
+     * @return  the paths, fewer than k if there aren't that many, empty if the cities aren't connected, a single
+     *          vertex path if both cities are the same
+     * @throws IllegalArgumentException     when k is not positive
+     */
+    public List<ShortestPath<V, E>> findShortestPaths(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("The number of paths has to be positive.");
+        }
+        if (Objects.equals(city1, city2)) {
+            return List.of(new ShortestPath.SingleVertex<>(city1));
+        }
+        int source = graph.getVertex(city1);
+        int target = graph.getVertex(city2);
+        if (source == City.NO_ID || target == City.NO_ID) {
+            return List.of();
+        }
+
+        // the shortest path tree towards the target, the graph is undirected so it is searched from the target
+        int numOfVertices = csr.getNumOfVertices();
+        int[] reverseArcs = getReverseArcs();
+        int[] toTarget = new int[numOfVertices];
+        int[] treeArcs = new int[numOfVertices];
+        DialSearch.search(csr, costs, csr.getMaxWeight(), target, NONE, toTarget, treeArcs, null);
+        if (toTarget[source] == UNREACHED) {
+            return List.of();
+        }
+        for (int v = 0; v < numOfVertices; v++) { // the arc from v towards the target
+            treeArcs[v] = treeArcs[v] == NONE ? NONE : reverseArcs[treeArcs[v]];
+        }
+        int[] reducedCosts = getReducedCosts(toTarget);
+
+        List<Path> paths = new ArrayList<>();
+        PriorityQueue<Path> candidates = new PriorityQueue<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        Path first = new Path(followTree(source, treeArcs, new boolean[numOfVertices], Set.of()), toTarget[source]);
+        paths.add(first);
+        seen.add(first.getKey());
+
+        boolean[] rootVertices = new boolean[numOfVertices];
+        int[] spurCosts = new int[reducedCosts.length];
+        int[] distances = new int[numOfVertices];
+        int[] predecessors = new int[numOfVertices];
+        while (paths.size() < k) {
+            Path previous = paths.get(paths.size() - 1);
+            Arrays.fill(rootVertices, false);
+            int rootCost = 0;
+            int spur = source;
+            for (int i = 0; i < previous.arcs.length; i++) {
+                // the arcs leaving the spur already taken by paths with the same root
+                Set<Integer> blockedArcs = new HashSet<>();
+                for (Path path : paths) {
+                    if (path.arcs.length > i && path.hasRoot(previous, i)) {
+                        blockedArcs.add(path.arcs[i]);
+                    }
+                }
+
+                int[] spurArcs = followTree(spur, treeArcs, rootVertices, blockedArcs);
+                int spurCost = toTarget[spur];
+                if (spurArcs == null) {
+                    spurArcs = search(spur, target, reducedCosts, spurCosts, reverseArcs, rootVertices,
+                            blockedArcs, distances, predecessors);
+                    spurCost = spurArcs == null ? 0 : distances[target] + toTarget[spur];
+                }
+                if (spurArcs != null) {
+                    int[] arcs = Arrays.copyOf(previous.arcs, i + spurArcs.length);
+                    System.arraycopy(spurArcs, 0, arcs, i, spurArcs.length);
+                    Path candidate = new Path(arcs, rootCost + spurCost);
+                    if (seen.add(candidate.getKey())) {
+                        candidates.add(candidate);
+                    }
+                }
+
+                rootVertices[spur] = true;
+                rootCost += costs[previous.arcs[i]];
+                spur = csr.getTarget(previous.arcs[i]);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            paths.add(candidates.poll());
+        }
+
+        List<ShortestPath<V, E>> result = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            List<E> edges = new ArrayList<>(path.arcs.length);
+            for (int arc : path.arcs) {
+                edges.add(graph.getRoute(arc));
+            }
+            result.add(new ShortestPath.Success<>(edges, path.cost));
+        }
+        return result;
+    }
+
+    /**
+     * follow the shortest path tree from a vertex to the target
+     * @return  the arcs, null if the tree path passes a root vertex or starts with a blocked arc
+     */
+    private int[] followTree(int from, int[] treeArcs, boolean[] rootVertices, Set<Integer> blockedArcs) {
+        if (blockedArcs.contains(treeArcs[from])) {
+            return null;
+        }
+        int length = 0;
+        for (int v = from; treeArcs[v] != NONE; v = csr.getTarget(treeArcs[v])) {
+            if (rootVertices[v]) {
+                return null;
+            }
+            length++;
+        }
+        int[] arcs = new int[length];
+        int v = from;
+        for (int i = 0; i < length; i++) {
+            arcs[i] = treeArcs[v];
+            v = csr.getTarget(arcs[i]);
+        }
+        return arcs;
+    }
+
+    /**
+     * search a path from the spur to the target avoiding the root vertices and the blocked arcs, with the reduced
+     * costs, so distances[target] is the cost of the path minus the distance from the spur to the target
+     * @return  the arcs, null if there is no such path
+     */
+    private int[] search(int spur, int target, int[] reducedCosts, int[] spurCosts, int[] reverseArcs,
+                         boolean[] rootVertices, Set<Integer> blockedArcs, int[] distances, int[] predecessors) {
+        System.arraycopy(reducedCosts, 0, spurCosts, 0, reducedCosts.length);
+        for (int v = 0; v < rootVertices.length; v++) {
+            if (rootVertices[v]) {
+                for (int arc = csr.getFirstArc(v), end = csr.getEndArc(v); arc < end; arc++) {
+                    spurCosts[reverseArcs[arc]] = NONE; // the arcs into a root vertex
+                }
+            }
+        }
+        for (int arc : blockedArcs) {
+            spurCosts[arc] = NONE;
+        }
+        DialSearch.search(csr, spurCosts, 2 * csr.getMaxWeight(), spur, target, distances, predecessors, null);
+        if (distances[target] == UNREACHED) {
+            return null;
+        }
+        int length = 0;
+        for (int arc = predecessors[target]; arc != NONE; arc = predecessors[csr.getSource(arc)]) {
+            length++;
+        }
+        int[] arcs = new int[length];
+        for (int arc = predecessors[target]; arc != NONE; arc = predecessors[csr.getSource(arc)]) {
+            arcs[--length] = arc;
+        }
+        return arcs;
+    }
+
+    /**
+     * the cost of every arc minus the fall of the distance to the target along it, never negative, and at most twice
+     * the cost, arcs that can't reach the target are left out
+     */
+    private int[] getReducedCosts(int[] toTarget) {
+        int[] reducedCosts = new int[costs.length];
+        for (int arc = 0; arc < costs.length; arc++) {
+            int from = toTarget[csr.getSource(arc)];
+            int to = toTarget[csr.getTarget(arc)];
+            reducedCosts[arc] = costs[arc] < 0 || from == UNREACHED || to == UNREACHED ? NONE
+                    : costs[arc] + to - from;
+        }
+        return reducedCosts;
+    }
+
+    private int[] getReverseArcs() {
+        int[] arcsById = new int[csr.getNumOfArcs()];
+        for (int arc = 0; arc < arcsById.length; arc++) {
+            arcsById[csr.getArcId(arc)] = arc;
+        }
+        int[] reverseArcs = new int[arcsById.length];
+        for (int arc = 0; arc < arcsById.length; arc++) {
+            reverseArcs[arc] = arcsById[csr.getArcId(arc) ^ 1];
+        }
+        return reverseArcs;
+    }
+
+    /**
+     * A path as arcs of the graph, ordered by cost, then by number of routes, then by arcs.
+     */
+    private static final class Path implements Comparable<Path> {
+
+        private final int[] arcs;
+        private final int cost;
+
+        Path(int[] arcs, int cost) {
+            this.arcs = arcs;
+            this.cost = cost;
+        }
+
+        /**
+         * check if the first length arcs of both paths are the same
+         */
+        boolean hasRoot(Path other, int length) {
+            return Arrays.equals(arcs, 0, length, other.arcs, 0, length);
+        }
+
+        List<Integer> getKey() {
+            List<Integer> key = new ArrayList<>(arcs.length);
+            for (int arc : arcs) {
+                key.add(arc);
+            }
+            return key;
+        }
+
+        @Override
+        public int compareTo(Path other) {
+            if (cost != other.cost) {
+                return Integer.compare(cost, other.cost);
+            }
+            if (arcs.length != other.arcs.length) {
+                return Integer.compare(arcs.length, other.arcs.length);
+            }
+            return Arrays.compare(arcs, other.arcs);
+        }
+    }
+}
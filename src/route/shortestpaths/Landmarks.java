@@ -0,0 +1,120 @@
+package route.shortestpaths;
+
+import route.graph.CsrGraph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * This class is the distances from a few landmark cities to every city of an undirected graph, for the ALT lower
+ * bounds of AltSearch: by the triangle inequality d(v, w) >= |d(L, v) - d(L, w)| for every landmark L. Landmarks are
+ * picked one after the other as the city farthest from the landmarks already picked, so they end up on the borders
+ * of the map where the bounds are tight. The distances are computed once per graph and shared, read-only.
+ */
+final class Landmarks {
+
+    static final int MAX_LANDMARKS = 8; // 4 * 8 bytes per city
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final Map<CsrGraph, Landmarks> LANDMARKS_BY_GRAPH = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int numOfLandmarks;
+    private final int[] landmarks;
+    private final int[] distances; // distances[vertex * numOfLandmarks + i], from landmark i to the vertex
+
+    /**
+     * constructor, pick the landmarks and search the distances from each of them
+     * @param csr   an undirected graph, every arc has a reversed arc of the same weight
+     * @param maxLandmarks  the number of landmarks, fewer if the graph has fewer vertices
+     */
+    Landmarks(CsrGraph csr, int maxLandmarks) {
+        int numOfVertices = csr.getNumOfVertices();
+        numOfLandmarks = Math.min(maxLandmarks, numOfVertices);
+        landmarks = new int[numOfLandmarks];
+        distances = new int[numOfVertices * numOfLandmarks];
+
+        int[] fromLandmark = new int[numOfVertices];
+        int[] predecessors = new int[numOfVertices];
+        long[] nearest = new long[numOfVertices]; // the distance to the nearest landmark, past any int if unreached
+        Arrays.fill(nearest, Long.MAX_VALUE);
+        if (numOfLandmarks == 0) {
+            return;
+        }
+        ShortestPathFinder.search(csr, 0, -1, fromLandmark, predecessors, null);
+        int next = farthest(fromLandmark, nearest, false); // start away from an arbitrary city
+        for (int i = 0; i < numOfLandmarks; i++) {
+            landmarks[i] = next;
+            ShortestPathFinder.search(csr, next, -1, fromLandmark, predecessors, null);
+            for (int v = 0; v < numOfVertices; v++) {
+                distances[v * numOfLandmarks + i] = fromLandmark[v];
+            }
+            next = farthest(fromLandmark, nearest, true);
+        }
+    }
+
+    /**
+     * get the landmarks of a graph, computing them the first time the graph is seen
+     * @param csr   an undirected graph
+     * @return  the landmarks shared by every search of the graph
+     */
+    static Landmarks of(CsrGraph csr) {
+        Landmarks landmarks = LANDMARKS_BY_GRAPH.get(csr);
+        if (landmarks == null) {
+            landmarks = new Landmarks(csr, MAX_LANDMARKS);
+            LANDMARKS_BY_GRAPH.put(csr, landmarks);
+        }
+        return landmarks;
+    }
+
+    int getNumOfLandmarks() { return numOfLandmarks; }
+
+    int getLandmark(int i) { return landmarks[i]; }
+
+    /**
+     * get a lower bound of the distance between two vertices
+     * @return  the bound, 0 if no landmark tells anything, Integer.MAX_VALUE if a landmark shows that the vertices
+     *          aren't connected
+     */
+    int getLowerBound(int vertex1, int vertex2) {
+        int bound = 0;
+        int row1 = vertex1 * numOfLandmarks;
+        int row2 = vertex2 * numOfLandmarks;
+        for (int i = 0; i < numOfLandmarks; i++) {
+            int distance1 = distances[row1 + i];
+            int distance2 = distances[row2 + i];
+            if (distance1 == UNREACHED || distance2 == UNREACHED) {
+                if (distance1 != distance2) {
+                    return UNREACHED;
+                }
+            } else {
+                bound = Math.max(bound, Math.abs(distance1 - distance2));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * find the vertex farthest from the landmarks, unreached vertices first, after taking in the distances from the
+     * last landmark
+     * @param isLandmark    false if the distances aren't from a landmark, then only the farthest vertex from them is
+     *                      found and nearest is left as it is
+     */
+    private static int farthest(int[] fromLandmark, long[] nearest, boolean isLandmark) {
+        int farthest = 0;
+        long farthestDistance = -1;
+        for (int v = 0; v < fromLandmark.length; v++) {
+            long distance = fromLandmark[v] == UNREACHED ? Long.MAX_VALUE - 1 : fromLandmark[v];
+            if (isLandmark) {
+                nearest[v] = Math.min(nearest[v], distance);
+                distance = nearest[v];
+            }
+            if (distance > farthestDistance) {
+                farthest = v;
+                farthestDistance = distance;
+            }
+        }
+        return farthest;
+    }
+}
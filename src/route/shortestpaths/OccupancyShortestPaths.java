@@ -0,0 +1,262 @@
+package route.shortestpaths;
+
+import card.TaskCard;
+import city.City;
+import route.Route;
+import route.RouteOwnershipListener;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps the shortest distance between every two cities as seen by one player: routes the player owns cost
+ * nothing, routes whose parallel routes are all owned by others can't be used, and the other routes cost their
+ * number of cars. So a distance is the number of cars the player still needs to connect two cities.
+ * The distances follow the game by listening to the routes of the graph. A route the player claims can only shorten
+ * paths, which is applied to every pair in O(n^2); a route lost to others is only searched again from the cities
+ * whose shortest paths may have used it.
+ * An instance belongs to one player of one game and isn't safe to use from several threads.
+ */
+public final class OccupancyShortestPaths {
+
+    private static final int BLOCKED = -1; // the cost of a route that can't be used
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final Graph<?, ?> graph;
+    private final CsrGraph csr;
+    private final String playerId;
+    private final int numOfCities;
+
+    private final int[] costs; // the cost of every arc for the player
+    private final int[] arcsById; // edge i is arcs arcsById[2 * i] and arcsById[2 * i + 1]
+    private final int[] numOfClaimedSlots; // the number of parallel routes of every edge with an owner
+    private final boolean[] claimedSlots; // edge * 2 + index, whether the parallel route has an owner
+    private final boolean[] ownedEdges; // whether the player owns a parallel route of every edge
+    private final int[] distances; // distances[from * numOfCities + to]
+    private final int[] searchRow; // the distances of the search from one source, reused by every search
+    private final int[] searchPredecessors;
+    private final List<Route<?>> listenedRoutes;
+    private final List<RouteOwnershipListener> listeners;
+    private int numOfSearches;
+
+    /**
+     * constructor, the distances are computed from the owners the routes already have, then kept up to date until
+     * detach is called
+     * @param graph     the graph of a game, every route is listened to
+     * @param playerId  the id of the player
+     * @throws IllegalArgumentException     when the player id is null or the map is too large for a distance table
+     */
+    public OccupancyShortestPaths(Graph<?, ?> graph, String playerId) {
+        if (playerId == null) {
+            throw new IllegalArgumentException("The player id cannot be null.");
+        }
+        this.graph = graph;
+        this.csr = graph.getCsr();
+        this.playerId = playerId;
+        this.numOfCities = graph.getAllCities().size();
+        if (!ShortestPathFinder.isAnsweredByTable(graph)) {
+            throw new IllegalArgumentException("The map is too large for a distance table.");
+        }
+
+        int numOfEdges = csr.getNumOfArcs() / 2;
+        costs = new int[csr.getNumOfArcs()];
+        arcsById = new int[csr.getNumOfArcs()];
+        numOfClaimedSlots = new int[numOfEdges];
+        claimedSlots = new boolean[2 * numOfEdges];
+        ownedEdges = new boolean[numOfEdges];
+        distances = new int[numOfCities * numOfCities];
+        searchRow = new int[numOfCities];
+        searchPredecessors = new int[numOfCities];
+        listenedRoutes = new ArrayList<>(numOfEdges);
+        listeners = new ArrayList<>(numOfEdges);
+
+        for (int arc = 0; arc < csr.getNumOfArcs(); arc++) {
+            arcsById[csr.getArcId(arc)] = arc;
+            Route<?> route = graph.getRoute(arc);
+            int edge = csr.getArcId(arc) / 2;
+            for (int i = 0; i < route.getColors().size(); i++) {
+                if (route.getOwnerId(i) != null) {
+                    claimSlot(edge, i, route.getOwnerId(i));
+                }
+            }
+            if (csr.getArcId(arc) % 2 == 0) { // both directions share their listeners
+                RouteOwnershipListener listener = (r, index, ownerId) -> onOwnerSet(edge, index, ownerId);
+                route.addOwnershipListener(listener);
+                listenedRoutes.add(route);
+                listeners.add(listener);
+            }
+        }
+        for (int arc = 0; arc < csr.getNumOfArcs(); arc++) {
+            costs[arc] = getCost(arc);
+        }
+        for (int source = 0; source < numOfCities; source++) {
+            searchFrom(source);
+        }
+    }
+
+    /**
+     * get the number of cars the player still needs to connect two cities
+     * @param city1     the id of a city
+     * @param city2     the id of a city
+     * @return  the number of cars, 0 if the player has connected them, AllPairsShortestPaths.NO_PATH if they can't
+     *          be connected anymore
+     */
+    public int getDistance(int city1, int city2) {
+        int distance = distances[city1 * numOfCities + city2];
+        return distance == UNREACHED ? AllPairsShortestPaths.NO_PATH : distance;
+    }
+
+    /**
+     * get the number of cars the player still needs to connect two cities
+     * @return  the number of cars, AllPairsShortestPaths.NO_PATH if they can't be connected or aren't on the map
+     * @see #getDistance(int, int)
+     */
+    public int getDistance(City city1, City city2) {
+        int id1 = graph.getVertex(city1);
+        int id2 = graph.getVertex(city2);
+        if (id1 == City.NO_ID || id2 == City.NO_ID) {
+            return AllPairsShortestPaths.NO_PATH;
+        }
+        return getDistance(id1, id2);
+    }
+
+    /**
+     * get the number of cars the player still needs to finish a task
+     * @see #getDistance(City, City)
+     */
+    public int getCarsNeeded(TaskCard taskCard) {
+        return getDistance(taskCard.getCity1(), taskCard.getCity2());
+    }
+
+    public String getPlayerId() { return playerId; }
+
+    /**
+     * stop following the routes, the distances stay as they are
+     */
+    public void detach() {
+        for (int i = 0; i < listenedRoutes.size(); i++) {
+            listenedRoutes.get(i).removeOwnershipListener(listeners.get(i));
+        }
+        listenedRoutes.clear();
+        listeners.clear();
+    }
+
+    Graph<?, ?> getGraph() { return graph; }
+
+    /**
+     * get the cost of every arc of the graph for the player, 0 if the player owns the route, negative if it can't be
+     * used, the array is kept up to date and must not be changed
+     */
+    int[] getArcCosts() { return costs; }
+
+    /**
+     * get the number of single source searches run so far, the cities of the map are searched once at first
+     */
+    int getNumOfSearches() { return numOfSearches; }
+
+    /*--------------------------------- updates ---------------------------------------------------------------*/
+
+    /**
+     * update the distances after a parallel route of an edge got an owner, in either direction
+     */
+    private void onOwnerSet(int edge, int index, String ownerId) {
+        int arc = arcsById[2 * edge];
+        int oldCost = costs[arc];
+        if (!claimSlot(edge, index, ownerId)) {
+            return;
+        }
+        int newCost = getCost(arc);
+        if (newCost == oldCost) {
+            return;
+        }
+        int reverseArc = arcsById[2 * edge + 1];
+        costs[arc] = newCost;
+        costs[reverseArc] = newCost;
+        int city1 = csr.getTarget(reverseArc);
+        int city2 = csr.getTarget(arc);
+        if (newCost != BLOCKED && (oldCost == BLOCKED || newCost < oldCost)) {
+            decreaseCost(city1, city2, newCost);
+        } else {
+            increaseCost(city1, city2, oldCost);
+        }
+    }
+
+    /**
+     * mark a parallel route as claimed, a claim already known from the other direction is ignored
+     * @return  true if the route wasn't known to be claimed
+     */
+    private boolean claimSlot(int edge, int index, String ownerId) {
+        if (claimedSlots[2 * edge + index]) {
+            return false;
+        }
+        claimedSlots[2 * edge + index] = true;
+        numOfClaimedSlots[edge]++;
+        if (playerId.equals(ownerId)) {
+            ownedEdges[edge] = true;
+        }
+        return true;
+    }
+
+    private int getCost(int arc) {
+        int edge = csr.getArcId(arc) / 2;
+        if (ownedEdges[edge]) {
+            return 0;
+        }
+        if (numOfClaimedSlots[edge] == graph.getRoute(arc).getColors().size()) {
+            return BLOCKED;
+        }
+        return csr.getWeight(arc);
+    }
+
+    /**
+     * a cheaper edge can only shorten paths through it, the distances already found stay valid paths while the
+     * table is updated in place
+     */
+    private void decreaseCost(int city1, int city2, int cost) {
+        for (int s = 0; s < numOfCities; s++) {
+            int row = s * numOfCities;
+            int toCity1 = distances[row + city1];
+            int toCity2 = distances[row + city2];
+            if (toCity1 == UNREACHED && toCity2 == UNREACHED) {
+                continue;
+            }
+            for (int t = 0; t < numOfCities; t++) {
+                int viaCity1 = add(toCity1, cost, distances[city2 * numOfCities + t]);
+                int viaCity2 = add(toCity2, cost, distances[city1 * numOfCities + t]);
+                distances[row + t] = Math.min(distances[row + t], Math.min(viaCity1, viaCity2));
+            }
+        }
+    }
+
+    /**
+     * an edge that became dearer or blocked is only on a shortest path from a source if it is on the shortest path
+     * to one of its ends, only those sources are searched again
+     */
+    private void increaseCost(int city1, int city2, int oldCost) {
+        for (int s = 0; s < numOfCities; s++) {
+            int toCity1 = distances[s * numOfCities + city1];
+            int toCity2 = distances[s * numOfCities + city2];
+            if (toCity1 != UNREACHED && (add(toCity1, oldCost, 0) == toCity2 || add(toCity2, oldCost, 0) == toCity1)) {
+                searchFrom(s);
+            }
+        }
+    }
+
+    private void searchFrom(int source) {
+        DialSearch.search(csr, costs, csr.getMaxWeight(), source, -1, searchRow, searchPredecessors, null);
+        System.arraycopy(searchRow, 0, distances, source * numOfCities, numOfCities);
+        numOfSearches++;
+    }
+
+    /**
+     * add distances, UNREACHED if any is UNREACHED
+     */
+    private static int add(int distance1, int distance2, int distance3) {
+        if (distance1 == UNREACHED || distance3 == UNREACHED) {
+            return UNREACHED;
+        }
+        return distance1 + distance2 + distance3;
+    }
+}
@@ -41,16 +41,27 @@ public interface ShortestPath<V extends City, E extends Route<V>> {
 
     class Success<V extends City, E extends Route<V>> implements ShortestPath<V, E> {
         private final List<E> edges;
+        private final double totalWeight; // NaN for the sum of the number of cars
 
         /**
          * @param edges The list of edges in this shortest path.
          * @throws IllegalArgumentException if edges is empty or null
          */
         public Success(List<E> edges) {
+            this(edges, Double.NaN);
+        }
+
+        /**
+         * @param edges The list of edges in this shortest path.
+         * @param totalWeight The weight of the path when edges aren't weighted by their number of cars.
+         * @throws IllegalArgumentException if edges is empty or null
+         */
+        public Success(List<E> edges, double totalWeight) {
             if (edges == null || edges.isEmpty()) {
                 throw new IllegalArgumentException("Input edges must not be null or empty.");
             }
             this.edges = edges;
+            this.totalWeight = totalWeight;
         }
 
         @Override
@@ -70,6 +81,11 @@ public interface ShortestPath<V extends City, E extends Route<V>> {
                     this.edges.stream().map(E::getCity2)
             ).collect(Collectors.toList());
         }
+
+        @Override
+        public double totalWeight() {
+            return Double.isNaN(totalWeight) ? ShortestPath.super.totalWeight() : totalWeight;
+        }
     }
 
     /**
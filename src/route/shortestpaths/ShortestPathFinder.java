@@ -2,7 +2,7 @@ package route.shortestpaths;
 
 import card.TaskCard;
 import city.City;
-import city.CityNames;
+import route.graph.CsrGraph;
 import route.graph.Graph;
 import route.Route;
 
@@ -11,14 +11,24 @@ import java.util.*;
 /**
  * This class finds the shortest route between two cities, usually used to aid computer decision, especially in
  * finding the shortest/quickest way to finish a task.
- * Algorithm implemented: Dijkstra's.
+ * Algorithm implemented: Dijkstra's, on the compressed sparse row view of the graph, so the distances and
+ * predecessors are int arrays indexed by city id instead of maps of cities. Graphs of a map the size of a game board
+ * are answered from the shared AllPairsShortestPaths table of the map instead, distances in constant time and paths
+ * in the time of their length. Graphs whose routes are all at most MAX_BUCKET_WEIGHT cars long, as on every board,
+ * are searched with Dial's bucket queue, see DialSearch. Larger maps with such routes are searched from both cities
+ * at once with the landmark bounds of the map, see AltSearch.
  */
 public class ShortestPathFinder<G extends Graph<V, E>, V extends City, E extends Route<V>> {
 
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NO_ARC = -1;
+    static final int MAX_TABLE_CITIES = 1024; // larger maps are searched every time, the table takes 8 * n^2 bytes
+    static final int MAX_BUCKET_WEIGHT = 64; // graphs with larger weights are searched with a heap
+    private static final ThreadLocal<AltSearch> ALT_SEARCHES = new ThreadLocal<>(); // the last one of every thread
+
     private Graph<V, E> graph;
     private V city1;
     private V city2;
-    private CityNames cityNames = CityNames.getInstance();
 
     // two constructors
     public ShortestPathFinder(Graph<V, E> graph, TaskCard taskCard) {
@@ -32,98 +42,180 @@ public class ShortestPathFinder<G extends Graph<V, E>, V extends City, E extends
     }
 
     public ShortestPath<V, E> findShortestPath() {
-        // the graph is empty
-
         // start = end case
         if (Objects.equals(city1, city2)) {
             return new ShortestPath.SingleVertex<>(city1);
         }
 
-        Set<V> visited = new HashSet<>();
-        HeapMinPQ<V> priorityQueue = new HeapMinPQ<>();
-        Map<V, Double> distancesToV = new HashMap<>();
-        Map<V, E> predecessorToV = new HashMap<>();
+        // a city not on the map can't be reached
+        int source = graph.getVertex(city1);
+        int target = graph.getVertex(city2);
+        if (source == City.NO_ID || target == City.NO_ID) {
+            return new ShortestPath.Failure<>();
+        }
 
-        // get the exact city object instance from the map
-        V transformed_city1 = (V) cityNames.getCityByName(city1.getCityName());
-        V transformed_city2 = (V) cityNames.getCityByName(city2.getCityName());
+        if (isAnsweredByTable(graph)) {
+            List<E> path = AllPairsShortestPaths.of(graph).getPath(graph, source, target);
+            return path.isEmpty() ? new ShortestPath.Failure<>() : new ShortestPath.Success<>(path);
+        }
+        if (graph.getCsr().getMaxWeight() <= MAX_BUCKET_WEIGHT) {
+            return findByAlt(source, target);
+        }
+        return findByDijkstra(source, target);
+    }
 
-        // mark source distance and priority as 0,
-        distancesToV.put(transformed_city1, 0.0);
-        priorityQueue.add(transformed_city1, 0.0);
-
-        // there are still unvisited vertices
-        while (!visited.contains(transformed_city2) && !priorityQueue.isEmpty()) {
-            //
-            // get the node with the smallest priority, and get its outgoing edges
-            V from = priorityQueue.removeMin();
-            V transformed_from = (V) cityNames.getCityByName(from.getCityName());
-            if (!from.equals(transformed_city2)) {
-                Set<E> outgoingRoutes = graph.outgoingRoutesFrom(transformed_from); //TODO: error here
-                for (E edge : outgoingRoutes) {
-                    updateMapsAndPQ(edge, visited, priorityQueue, predecessorToV, distancesToV);
-                }
-            }
-            visited.add(transformed_from); // mark node as processed
+    /**
+     * get the length of the shortest path between the two cities
+     * @return  the total number of cars, 0 for the same city, AllPairsShortestPaths.NO_PATH if there is no path
+     */
+    public int getDistance() {
+        if (Objects.equals(city1, city2)) {
+            return 0;
+        }
+        int source = graph.getVertex(city1);
+        int target = graph.getVertex(city2);
+        if (source == City.NO_ID || target == City.NO_ID) {
+            return AllPairsShortestPaths.NO_PATH;
+        }
+        if (isAnsweredByTable(graph)) {
+            return AllPairsShortestPaths.of(graph).getDistance(source, target);
         }
+        if (graph.getCsr().getMaxWeight() <= MAX_BUCKET_WEIGHT) {
+            int distance = getAltSearch(graph.getCsr()).search(source, target);
+            return distance == UNREACHED ? AllPairsShortestPaths.NO_PATH : distance;
+        }
+        ShortestPath<V, E> path = findByDijkstra(source, target);
+        return path.exists() ? (int) path.totalWeight() : AllPairsShortestPaths.NO_PATH;
+    }
+
+    /**
+     * check if the paths of a graph are taken from the AllPairsShortestPaths table of its map, which is the case for
+     * maps of at most MAX_TABLE_CITIES cities whose routes are at most AllPairsShortestPaths.MAX_WEIGHT cars long
+     */
+    static boolean isAnsweredByTable(Graph<?, ?> graph) {
+        return graph.getAllCities().size() <= MAX_TABLE_CITIES
+                && graph.getCsr().getMaxWeight() <= AllPairsShortestPaths.MAX_WEIGHT;
+    }
 
-        List<E> shortestPath = addToPath(transformed_city1, transformed_city2, predecessorToV);
+    /**
+     * search the shortest path from the source, stopping once the target is reached
+     */
+    private ShortestPath<V, E> findByDijkstra(int source, int target) {
+        CsrGraph csr = graph.getCsr();
+        int[] distancesToV = new int[csr.getNumOfVertices()];
+        int[] predecessorToV = new int[csr.getNumOfVertices()]; // the arc reaching every vertex
+        search(csr, source, target, distancesToV, predecessorToV, null);
 
-        if (shortestPath.size() > 0) {
-            return new ShortestPath.Success<>(shortestPath);
-        } else {
+        if (predecessorToV[target] == NO_ARC) {    // path can't get to end, failure
             return new ShortestPath.Failure<>();
         }
+        return new ShortestPath.Success<>(addToPath(csr, target, predecessorToV));
     }
 
     /**
-     * updates distancesToV, priorityQueue, and predecessorToV
-     * when appearing a new edge OR the new distance is smaller than the old one
+     * search the shortest path from both cities with the landmarks of the graph
      */
-    private void updateMapsAndPQ(E route, Set<V> visited, HeapMinPQ<V> priorityQueue,
-                                 Map<V, E> predecessorToV, Map<V, Double> distancesToV) {
-        V from = route.getCity1();
-        V to = route.getCity2();
-        double weight = route.getNumOfCars();
-
-        // update when introduces new vertices
-        double newDistance = distancesToV.get(from) + weight;
-
-        if (!visited.contains(to)) {                            // to node can't be explored
-            if (!distancesToV.containsKey(to)) {                // haven't seen this before
-                priorityQueue.add(to, newDistance);            // update priorityQueue
-                distancesToV.put(to, newDistance);             // update distancesToV
-                predecessorToV.put(to, route);                  // update predecessorToV
-            } else {                                           //  seen this vertex before
-                if (distancesToV.get(to) > newDistance) {       // new smaller distance
-                    priorityQueue.changePriority(to, newDistance); // update priorityQueue
-                    distancesToV.put(to, newDistance);             // update distancesToV
-                    predecessorToV.put(to, route);                  // update predecessorToV
-                }
-            }
+    private ShortestPath<V, E> findByAlt(int source, int target) {
+        AltSearch altSearch = getAltSearch(graph.getCsr());
+        if (altSearch.search(source, target) == UNREACHED) {
+            return new ShortestPath.Failure<>();
+        }
+        CsrGraph csr = graph.getCsr();
+        int meetingVertex = altSearch.getMeetingVertex();
+        List<E> shortestPath = new ArrayList<>();
+        for (int arc = altSearch.getForwardPredecessor(meetingVertex); arc != NO_ARC;
+             arc = altSearch.getForwardPredecessor(csr.getSource(arc))) {
+            shortestPath.add(graph.getRoute(arc));
+        }
+        Collections.reverse(shortestPath);
+        for (int arc = altSearch.getBackwardPredecessor(meetingVertex); arc != NO_ARC;
+             arc = altSearch.getBackwardPredecessor(csr.getSource(arc))) {
+            shortestPath.add(graph.getReversedRoute(arc));
+        }
+        return new ShortestPath.Success<>(shortestPath);
+    }
+
+    /**
+     * get the ALT search of this thread for a graph, a thread keeps the search of the last graph it searched
+     */
+    static AltSearch getAltSearch(CsrGraph csr) {
+        AltSearch altSearch = ALT_SEARCHES.get();
+        if (altSearch == null || !altSearch.isOf(csr)) {
+            altSearch = new AltSearch(csr, Landmarks.of(csr));
+            ALT_SEARCHES.set(altSearch);
         }
+        return altSearch;
     }
 
     /**
-     * convert paths to the original sequence, from start to end
+     * search the shortest paths from a source, with Dial's bucket queue when the weights are small integers, with a
+     * binary heap otherwise
+     * @param csr   a graph
+     * @param source    the start vertex
+     * @param target    the vertex to stop at once settled, -1 to settle every reachable vertex
+     * @param distancesToV  filled with the distances, Integer.MAX_VALUE for vertices not reached
+     * @param predecessorToV    filled with the arc reaching every vertex, -1 for the source and vertices not reached
+     * @param order     if not null, filled with the settled vertices in the order of their distance
+     * @return  the number of settled vertices
      */
-    private List<E> addToPath(V start, V end, Map<V, E> predecessorToV) {
-        Stack<E> stack = new Stack<>();        // reverse order
-        if (!predecessorToV.containsKey(end)) {    // path can't get to end, failure
-            return new ArrayList<>();
-        } else { // path gets to end point, there is a path
-            List<E> shortestPaths = new ArrayList<>();
-            V curr = end;
-            while (predecessorToV.containsKey(curr)) {
-                stack.push(predecessorToV.get(curr));
-                curr = predecessorToV.get(curr).getCity1();
+    static int search(CsrGraph csr, int source, int target, int[] distancesToV, int[] predecessorToV, int[] order) {
+        if (csr.getMaxWeight() <= MAX_BUCKET_WEIGHT) {
+            return DialSearch.search(csr, csr.getMaxWeight(), source, target, distancesToV, predecessorToV, order);
+        }
+        return heapSearch(csr, source, target, distancesToV, predecessorToV, order);
+    }
+
+    /**
+     * Dijkstra's search with the IndexedMinHeap, the arguments are the ones of search
+     */
+    static int heapSearch(CsrGraph csr, int source, int target,
+                          int[] distancesToV, int[] predecessorToV, int[] order) {
+        Arrays.fill(distancesToV, UNREACHED);
+        Arrays.fill(predecessorToV, NO_ARC);
+        IndexedMinHeap priorityQueue = new IndexedMinHeap(csr.getNumOfVertices());
+
+        // mark source distance and priority as 0,
+        distancesToV[source] = 0;
+        priorityQueue.add(source, 0);
+        int numOfSettled = 0;
+
+        // there are still unvisited vertices, a vertex is settled once it leaves the queue
+        while (!priorityQueue.isEmpty()) {
+            // get the node with the smallest priority, and relax its outgoing arcs
+            int from = priorityQueue.removeMin();
+            if (order != null) {
+                order[numOfSettled] = from;
+            }
+            numOfSettled++;
+            if (from == target) {
+                break;
             }
-            while (!stack.isEmpty()) {
-                shortestPaths.add(stack.pop());
+            for (int arc = csr.getFirstArc(from), end = csr.getEndArc(from); arc < end; arc++) {
+                int to = csr.getTarget(arc);
+                int newDistance = distancesToV[from] + csr.getWeight(arc);
+                if (newDistance < distancesToV[to]) {   // a settled vertex is never closer than this
+                    if (distancesToV[to] == UNREACHED) {             // haven't seen this before
+                        priorityQueue.add(to, newDistance);
+                    } else {                                        // new smaller distance
+                        priorityQueue.decreasePriority(to, newDistance);
+                    }
+                    distancesToV[to] = newDistance;
+                    predecessorToV[to] = arc;
+                }
             }
-            return shortestPaths;
         }
+        return numOfSettled;
     }
 
-
+    /**
+     * convert the predecessor arcs to the routes of the path, from start to end
+     */
+    private List<E> addToPath(CsrGraph csr, int end, int[] predecessorToV) {
+        List<E> shortestPath = new ArrayList<>();
+        for (int arc = predecessorToV[end]; arc != NO_ARC; arc = predecessorToV[csr.getSource(arc)]) {
+            shortestPath.add(graph.getRoute(arc));
+        }
+        Collections.reverse(shortestPath);
+        return shortestPath;
+    }
 }
@@ -0,0 +1,42 @@
+package route.shortestpaths;
+
+import route.Route;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A result object returned by a {@link SteinerPlanner}: the routes of a tree connecting the cities of some tasks.
+ */
+public class SteinerPlan<E extends Route<?>> {
+
+    private final List<E> routes;
+    private final int numOfCars;
+    private final boolean complete;
+
+    SteinerPlan(List<E> routes, int numOfCars, boolean complete) {
+        this.routes = Collections.unmodifiableList(routes);
+        this.numOfCars = numOfCars;
+        this.complete = complete;
+    }
+
+    /**
+     * get the routes of the tree, including the ones the player already owns
+     */
+    public List<E> getRoutes() { return routes; }
+
+    /**
+     * get the number of cars the player still needs to claim the routes of the tree
+     */
+    public int getNumOfCars() { return numOfCars; }
+
+    /**
+     * check if the tree connects every city of the tasks, cities cut off by the routes of others are left out
+     */
+    public boolean isComplete() { return complete; }
+
+    @Override
+    public String toString() {
+        return "SteinerPlan{" + "numOfCars=" + numOfCars + ", complete=" + complete + ", routes=" + routes + '}';
+    }
+}
@@ -0,0 +1,106 @@
+package route.shortestpaths;
+
+import card.TaskCard;
+import city.City;
+import route.Route;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This class plans the cheapest routes a player needs to finish several tasks at once: a tree that connects the
+ * cities of every task, which is a Steiner tree, not the union of the shortest path of every task.
+ * Algorithm implemented: the shortest path heuristic, the tree starts at one city and the city of a task nearest to
+ * the tree is joined by its shortest path until every city is in the tree, the tree costs at most twice the optimum.
+ * Every step is one Dial's search from all the cities of the tree at once, stopping at the nearest task city.
+ * Route costs come from the OccupancyShortestPaths of the player, so routes the player owns cost nothing and routes
+ * owned by others are avoided.
+ */
+public class SteinerPlanner<V extends City, E extends Route<V>> {
+
+    private final Graph<V, E> graph;
+    private final OccupancyShortestPaths distances;
+
+    /**
+     * constructor, plans with the distances of a player that are already kept up to date, the caller shares one
+     * instance per player and detaches it when the game is over
+     * @param graph     the graph of the game
+     * @param distances     the distances of the player on this graph
+     * @throws IllegalArgumentException     when the distances are of another graph
+     */
+    public SteinerPlanner(Graph<V, E> graph, OccupancyShortestPaths distances) {
+        if (distances.getGraph() != graph) {
+            throw new IllegalArgumentException("The distances are of another graph.");
+        }
+        this.graph = graph;
+        this.distances = distances;
+    }
+
+    /**
+     * plan the routes connecting the cities of every task
+     * @param taskCards     the tasks to finish
+     * @return  the routes of the tree and the cars still needed, the tree is empty without tasks
+     */
+    public SteinerPlan<E> plan(Collection<TaskCard> taskCards) {
+        List<City> cities = new ArrayList<>();
+        for (TaskCard taskCard : taskCards) {
+            cities.add(taskCard.getCity1());
+            cities.add(taskCard.getCity2());
+        }
+        return planCities(cities);
+    }
+
+    /**
+     * plan the routes connecting some cities
+     * @param cities    the cities to connect
+     * @return  the routes of the tree and the cars still needed, cities that aren't on the map are left out
+     */
+    public SteinerPlan<E> planCities(Collection<City> cities) {
+        CsrGraph csr = graph.getCsr();
+        int[] costs = distances.getArcCosts();
+        boolean[] terminals = new boolean[csr.getNumOfVertices()]; // the cities left to join
+        int numOfTerminals = 0;
+        int first = City.NO_ID;
+        boolean complete = true;
+        for (City city : cities) {
+            int vertex = graph.getVertex(city);
+            if (vertex == City.NO_ID) {
+                complete = false;
+            } else if (first == City.NO_ID) {
+                first = vertex;
+            } else if (vertex != first && !terminals[vertex]) {
+                terminals[vertex] = true;
+                numOfTerminals++;
+            }
+        }
+
+        List<E> routes = new ArrayList<>();
+        int numOfCars = 0;
+        int[] tree = new int[csr.getNumOfVertices()]; // the cities of the tree
+        int treeSize = 0;
+        int[] distancesToV = new int[csr.getNumOfVertices()];
+        int[] predecessorToV = new int[csr.getNumOfVertices()];
+        if (first != City.NO_ID) {
+            tree[treeSize++] = first;
+        }
+        for (; numOfTerminals > 0; numOfTerminals--) {
+            // the terminal nearest to the tree, joined by its shortest path
+            int terminal = DialSearch.searchNearest(csr, costs, csr.getMaxWeight(), tree, treeSize, terminals,
+                    distancesToV, predecessorToV);
+            if (terminal == -1) { // the terminals left are cut off from the tree
+                complete = false;
+                break;
+            }
+            terminals[terminal] = false;
+            numOfCars += distancesToV[terminal];
+            for (int arc = predecessorToV[terminal]; arc != -1; arc = predecessorToV[csr.getSource(arc)]) {
+                tree[treeSize++] = csr.getTarget(arc);
+                routes.add(graph.getRoute(arc));
+            }
+        }
+        return new SteinerPlan<>(routes, numOfCars, complete);
+    }
+}
@@ -0,0 +1,77 @@
+package carddeck;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardRingTest {
+
+    @Test
+    void addAndRemove_randomOperations_matchesArrayList() {
+        SplittableRandom random = new SplittableRandom(25);
+        CardRing<Integer> ring = new CardRing<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int round = 0; round < 20000; round++) {
+            int operation = random.nextInt(6);
+            if (operation < 2 || expected.isEmpty()) { // bury at the bottom, sometimes at the top or in between
+                int index = random.nextBoolean() ? expected.size() : random.nextInt(expected.size() + 1);
+                ring.add(index, round);
+                expected.add(index, round);
+            } else if (operation < 4) { // draw from the top, sometimes elsewhere
+                int index = random.nextBoolean() ? 0 : random.nextInt(expected.size());
+                assertEquals(expected.remove(index), ring.remove(index));
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -round), ring.set(index, -round));
+            } else if (random.nextInt(100) == 0) {
+                ring.clear();
+                expected.clear();
+            }
+            assertEquals(expected.size(), ring.size());
+        }
+        assertEquals(expected, ring);
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.get(expected.size()));
+    }
+
+    @Test
+    void shuffle_wrappedRing_matchesCollectionsShuffle() {
+        CardRing<Integer> ring = new CardRing<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ring.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 30; i++) { // move the top card around the end of the array
+            ring.add(ring.remove(0));
+            expected.add(expected.remove(0));
+        }
+        ring.shuffle(new Random(25));
+        Collections.shuffle(expected, new Random(25));
+        assertEquals(expected, ring);
+    }
+
+    @Test
+    void moveAllFrom_discards_buriesThemInOrderAndEmptiesDiscards() {
+        CardRing<String> deck = new CardRing<>();
+        CardRing<String> discards = new CardRing<>();
+        deck.add("top");
+        for (int i = 0; i < 20; i++) {
+            discards.add("card" + i);
+        }
+        List<String> expected = new ArrayList<>(deck);
+        expected.addAll(discards);
+
+        deck.moveAllFrom(discards);
+
+        assertEquals(expected, deck);
+        assertTrue(discards.isEmpty());
+        discards.add("again");
+        assertEquals(List.of("again"), discards);
+    }
+}
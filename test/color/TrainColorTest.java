@@ -0,0 +1,39 @@
+package color;
+
+import card.ICardCreator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrainColorTest {
+
+    @Test
+    void getCardColors_returnsCardColorsInCreatorOrder() {
+        List<String> names = new ArrayList<>();
+        for (TrainColor color : TrainColor.getCardColors()) {
+            assertTrue(color.isCardColor());
+            assertEquals(color, TrainColor.get(color.ordinal()));
+            names.add(color.getName());
+        }
+        assertEquals(new ArrayList<>(ICardCreator.COLORS), names);
+        assertEquals(TrainColor.NUM_OF_CARD_COLORS, names.size());
+        assertFalse(TrainColor.GREY.isCardColor());
+    }
+
+    @Test
+    void of_colorNames_returnsColors() {
+        assertEquals(TrainColor.RAINBOW, TrainColor.of("rainbow"));
+        assertEquals(TrainColor.GREY, TrainColor.of("grey"));
+        assertTrue(TrainColor.contains("grey"));
+        assertFalse(TrainColor.contains("Grey"));
+        assertNull(TrainColor.find("pink"));
+    }
+
+    @Test
+    void of_unknownName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TrainColor.of("pink"));
+    }
+}
@@ -0,0 +1,72 @@
+package game;
+
+import org.junit.jupiter.api.Assertions;
+import player.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    @Test
+    void constructor_1Player_throwsIllegalArgumentException() {
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> new GameEngine(1));
+        assertEquals("Number of players should be between 2 and 5.", t.getMessage());
+    }
+
+    @Test
+    void getPlayers_3Players_returnsSize3() {
+        GameEngine engine = new GameEngine(3);
+        assertEquals(3, engine.getPlayers().size());
+    }
+
+    @Test
+    void getDeckManager_twoEngines_returnsDifferentDecks() {
+        GameEngine engine1 = new GameEngine(2);
+        GameEngine engine2 = new GameEngine(2);
+        assertNotSame(engine1.getDeckManager().getFaceDownDeck(), engine2.getDeckManager().getFaceDownDeck());
+        assertNotSame(engine1.getDeckManager().getTaskCardDeck(), engine2.getDeckManager().getTaskCardDeck());
+    }
+
+    @Test
+    void getAllRoutes_twoEngines_returnsDifferentRouteObjects() {
+        GameEngine engine1 = new GameEngine(2);
+        GameEngine engine2 = new GameEngine(2);
+        assertEquals(engine1.getAllRoutes().size(), engine2.getAllRoutes().size());
+        assertNotSame(engine1.getAllRoutes().get(0), engine2.getAllRoutes().get(0));
+    }
+
+    @Test
+    void setUp_eachPlayerGets4TrainCardsAndTaskCards() {
+        GameEngine engine = new GameEngine(4);
+        engine.setUp();
+        engine.getPlayers().forEach(p -> {
+            assertEquals(4, p.getNumOfTrainCard());
+            assertTrue(p.getNumOfTaskCard() >= 2);
+        });
+    }
+
+    @Test
+    void play_returnsAfterGameIsOver() {
+        GameEngine engine = new GameEngine(3);
+        engine.play();
+        assertTrue(engine.isOver());
+    }
+
+    @Test
+    void play_sameSeed_playsSameGame() {
+        GameEngine engine1 = new GameEngine(4, 42L);
+        GameEngine engine2 = new GameEngine(4, 42L);
+        engine1.play();
+        engine2.play();
+        assertEquals(engine1.getTurnCount(), engine2.getTurnCount());
+        for (int i = 0; i < 4; i++) {
+            Player p1 = engine1.getPlayers().get(i);
+            Player p2 = engine2.getPlayers().get(i);
+            assertEquals(p1.getPlayerName(), p2.getPlayerName());
+            assertEquals(p1.getPoints(), p2.getPoints());
+            assertEquals(p1.getNumOfTrainLeft(), p2.getNumOfTrainLeft());
+            assertEquals(p1.getNumOfTrainCard(), p2.getNumOfTrainCard());
+        }
+    }
+}
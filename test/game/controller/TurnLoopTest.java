@@ -0,0 +1,88 @@
+package game.controller;
+
+import game.GameEngine;
+import game.state.GameState;
+import game.state.Move;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnLoopTest {
+
+    private GameState state;
+
+    @BeforeEach
+    void setUp() {
+        GameEngine engine = new GameEngine(3, 9L);
+        engine.setUp();
+        state = engine.captureState();
+    }
+
+    @Test
+    void play_randomControllers_playsUntilGameIsOver() {
+        TurnLoop loop = new TurnLoop(state, List.of(new RandomController(new Random(1)),
+                new RandomController(new Random(2)), new RandomController(new Random(3))), 1000);
+        assertTrue(loop.play().isOver());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, loop.getNumOfDefaults(i));
+        }
+    }
+
+    @Test
+    void playATurn_controllerNeverAnswers_playsDefaultMove() {
+        PlayerController silent = (s, moves) -> new CompletableFuture<>();
+        TurnLoop loop = new TurnLoop(state, List.of(silent, new RandomController(new Random(2)),
+                new RandomController(new Random(3))), 10);
+        int cards = state.getNumOfCards(0);
+        loop.playATurn();
+        assertEquals(1, state.getTurnCount());
+        assertEquals(2, loop.getNumOfDefaults(0));
+        assertEquals(cards + 2, state.getNumOfCards(0));
+    }
+
+    @Test
+    void playAMove_illegalOrFailedDecision_playsDefaultMove() {
+        PlayerController illegal = (s, moves) -> CompletableFuture.completedFuture(Move.keepTasks(0b111));
+        PlayerController failed = (s, moves) -> CompletableFuture.failedFuture(new IllegalStateException());
+        PlayerController broken = (s, moves) -> { throw new IllegalStateException(); };
+        TurnLoop loop = new TurnLoop(state, List.of(illegal, failed, broken), 1000);
+        loop.playATurn();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, loop.getNumOfDefaults(i));
+        }
+    }
+
+    @Test
+    void playAsync_randomControllers_completesWithFinalState() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TurnLoop loop = new TurnLoop(state, List.of(new RandomController(new Random(1)),
+                    new RandomController(new Random(2)), new RandomController(new Random(3))), 1000);
+            assertSame(state, loop.playAsync(executor).join());
+            assertTrue(state.isOver());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getDefaultMove_keepPhase_keepsEveryCard() {
+        int[] moves = {Move.keepTasks(0b011), Move.keepTasks(0b111), Move.keepTasks(0b101)};
+        assertEquals(Move.keepTasks(0b111), TurnLoop.getDefaultMove(moves));
+    }
+
+    @Test
+    void constructor_wrongNumberOfControllers_throwsIllegalArgumentException() {
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new TurnLoop(state, List.of(new RandomController(new Random(1))), 1000));
+        assertEquals("Every player needs exactly one controller.", t.getMessage());
+    }
+}
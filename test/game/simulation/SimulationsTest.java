@@ -0,0 +1,66 @@
+package game.simulation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationsTest {
+
+    private final SimulationConfig config = new SimulationConfig(3, 1);
+
+    @Test
+    void run_4Seeds_returns4ResultsInSeedOrder() {
+        List<GameResult> results = Simulations.run(config, 10L, 11L, 12L, 13L).collect(Collectors.toList());
+        assertEquals(4, results.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(10L + i, results.get(i).getSeed());
+            assertEquals(3, results.get(i).getNumOfPlayers());
+        }
+    }
+
+    @Test
+    void run_parallelStream_sameResultsAsSequential() {
+        List<GameResult> sequential = Simulations.run(config, LongStream.range(0, 8)).collect(Collectors.toList());
+        List<GameResult> parallel = Simulations.run(config, LongStream.range(0, 8).parallel())
+                .collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void run_infiniteSeedsWithLimit_playsOnlyNeededGames() {
+        AtomicInteger played = new AtomicInteger();
+        LongStream seeds = LongStream.iterate(0, seed -> seed + 1).peek(seed -> played.incrementAndGet());
+        assertEquals(2, Simulations.run(config, seeds).limit(2).collect(Collectors.toList()).size());
+        assertEquals(2, played.get());
+    }
+
+    @Test
+    void play_finishedGame_tasksAreCompletedOrFailedOnce() {
+        GameResult result = Simulations.play(config, 5L);
+        BitSet seen = new BitSet();
+        for (int i = 0; i < result.getNumOfPlayers(); i++) {
+            BitSet completed = result.getCompletedTasks(i);
+            BitSet failed = result.getFailedTasks(i);
+            assertFalse(completed.intersects(failed));
+            assertFalse(seen.intersects(completed) || seen.intersects(failed));
+            seen.or(completed);
+            seen.or(failed);
+            assertTrue(result.getPoints(i) >= 0);
+            assertTrue(result.getPoints(i) <= result.getPoints(result.getWinner()));
+        }
+        assertTrue(seen.cardinality() >= 2 * result.getNumOfPlayers());
+    }
+
+    @Test
+    void constructor_1Player_throwsIllegalArgumentException() {
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, 1));
+        assertEquals("Number of players should be between 2 and 5.", t.getMessage());
+    }
+}
@@ -0,0 +1,233 @@
+package game.state;
+
+import color.TrainColor;
+import game.GameEngine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(3);
+        engine.setUp();
+    }
+
+    @Test
+    void capture_afterSetUp_matchesPlayers() {
+        GameState state = engine.captureState();
+        assertEquals(3, state.getNumOfPlayers());
+        for (int i = 0; i < 3; i++) {
+            Player p = engine.getPlayers().get(i);
+            assertEquals(p.getNumOfTrainCard(), state.getNumOfCards(i));
+            assertEquals(p.getNumOfTrainLeft(), state.getTrainsLeft(i));
+            assertEquals(p.getPoints(), state.getPoints(i));
+        }
+        assertEquals(engine.getDeckManager().getFaceDownDeck().getSize(), state.getFaceDownSize());
+    }
+
+    @Test
+    void copy_drawFromCopy_originalUnchanged() {
+        GameState state = engine.captureState();
+        GameState copy = state.copy();
+        assertEquals(state, copy);
+
+        copy.drawFaceDownCard();
+        assertNotEquals(state, copy);
+        assertEquals(4, state.getNumOfCards(0));
+        assertEquals(5, copy.getNumOfCards(0));
+    }
+
+    @Test
+    void copyFrom_afterMoves_equalsSavedState() {
+        GameState state = engine.captureState();
+        GameState saved = state.copy();
+        state.drawFaceUpCard(0);
+        state.drawFaceDownCard();
+        state.manageDecks();
+        state.endTurn();
+
+        state.copyFrom(saved);
+        assertEquals(saved, state);
+        assertEquals(saved.hashCode(), state.hashCode());
+    }
+
+    @Test
+    void fromState_capturedState_rebuildsSamePosition() {
+        for (int i = 0; i < 5; i++) {
+            engine.playATurn();
+        }
+        GameState state = engine.captureState();
+        GameEngine rebuilt = GameEngine.fromState(state);
+        assertEquals(state, rebuilt.captureState());
+        assertNotSame(engine.getDeckManager(), rebuilt.getDeckManager());
+    }
+
+    @Test
+    void fromState_rebuiltGame_canBePlayedToTheEnd() {
+        GameEngine rebuilt = GameEngine.fromState(engine.captureState());
+        while (!rebuilt.isOver()) {
+            rebuilt.playATurn();
+        }
+        assertTrue(rebuilt.isOver());
+    }
+
+    @Test
+    void getLongestPathLength_playedGame_matchesPlayers() {
+        for (int i = 0; i < 15 && !engine.isOver(); i++) {
+            engine.playATurn();
+        }
+        GameState state = engine.captureState();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(engine.getPlayers().get(i).getLongestPathLength(), state.getLongestPathLength(i));
+        }
+    }
+
+    @Test
+    void fromState_midTurnState_throwsIllegalArgumentException() {
+        GameState state = engine.captureState();
+        state.endTurn();
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> GameEngine.fromState(state));
+        assertEquals("Only a state between two turns can be rebuilt.", t.getMessage());
+    }
+
+    @Test
+    void claimRoute_notEnoughCards_throwsIllegalArgumentException() {
+        GameState state = engine.captureState();
+        int route = 0;
+        while (state.getBoard().getRouteLength(route) <= state.getNumOfCards(0)) {
+            route++;
+        }
+        int color = state.getBoard().getRouteColor(route, 0);
+        int finalRoute = route;
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                state.claimRoute(finalRoute, 0, color == TrainColor.GREY.ordinal() ? 0 : color, 0));
+    }
+
+    @Test
+    void keepTasks_1CardFirstTime_throwsIllegalArgumentException() {
+        GameState state = new GameEngine(2).captureState();
+        state.dealTasks();
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> state.keepTasks(0b001));
+        assertEquals("The player needs to choose at least 2 task cards in this turn.", t.getMessage());
+    }
+
+    @Test
+    void keepTasks_2Cards_putsThirdAtBottom() {
+        GameState state = new GameEngine(2).captureState();
+        state.dealTasks();
+        int kept = state.getDealtTask(0);
+        int unselected = state.getDealtTask(2);
+        state.keepTasks(0b011);
+        assertEquals(0, state.getTaskOwner(kept));
+        assertEquals(GameState.NO_OWNER, state.getTaskOwner(unselected));
+        assertEquals(unselected, state.getTaskDeckCard(state.getTaskDeckSize() - 1));
+        assertEquals(GameState.NO_CARD, state.getDealtTask(0));
+    }
+
+    @Test
+    void undo_randomGame_restoresEveryEarlierState() {
+        GameState state = engine.captureState();
+        state.enableUndo();
+        int[] moves = new int[MoveGenerator.getMaxMoves(state.getBoard())];
+        Random rand = new Random(5);
+        List<GameState> saved = new ArrayList<>();
+        while (!state.isOver()) {
+            saved.add(state.copy());
+            state.apply(moves[rand.nextInt(MoveGenerator.generate(state, moves))]);
+        }
+        GameState end = state.copy();
+
+        for (int i = saved.size() - 1; i >= 0; i--) {
+            state.undo();
+            assertEquals(saved.get(i), state);
+        }
+        assertFalse(state.canUndo());
+        while (state.canRedo()) {
+            state.redo();
+        }
+        assertEquals(end, state);
+    }
+
+    @Test
+    void apply_afterUndo_dropsMovesToRedo() {
+        GameState state = engine.captureState();
+        state.enableUndo();
+        state.apply(Move.drawFaceDown());
+        state.undo();
+        assertTrue(state.canRedo());
+        state.apply(Move.drawTasks());
+        assertFalse(state.canRedo());
+        state.undo();
+        assertEquals(engine.captureState(), state);
+    }
+
+    @Test
+    void undo_changesOutsideApply_undoneAsOneMove() {
+        GameState state = engine.captureState();
+        GameState saved = state.copy();
+        state.enableUndo();
+        state.drawFaceUpCard(0);
+        state.drawFaceDownCard();
+        state.undo();
+        assertEquals(saved, state);
+    }
+
+    @Test
+    void undo_notEnabled_throwsIllegalStateException() {
+        GameState state = engine.captureState();
+        state.apply(Move.drawFaceDown());
+        Throwable t = Assertions.assertThrows(IllegalStateException.class, state::undo);
+        assertEquals("No move to undo.", t.getMessage());
+    }
+
+    @Test
+    void apply_randomMoves_completesTasksOfConnectedCities() {
+        GameState state = engine.captureState();
+        int[] moves = new int[MoveGenerator.getMaxMoves(state.getBoard())];
+        Random rand = new Random(5);
+        while (!state.isOver()) {
+            state.apply(moves[rand.nextInt(MoveGenerator.generate(state, moves))]);
+            GameState copy = state.copy();
+            for (int task = 0; task < state.getBoard().getNumOfTaskCards(); task++) {
+                int owner = state.getTaskOwner(task);
+                if (owner != GameState.NO_OWNER) {
+                    assertEquals(isConnected(state, owner, task), state.isTaskCompleted(task));
+                    assertEquals(state.isTaskCompleted(task), copy.isTaskCompleted(task));
+                }
+            }
+        }
+    }
+
+    private static boolean isConnected(GameState state, int player, int task) {
+        Board board = state.getBoard();
+        if (board.getTaskCity1(task) == Board.NO_CITY || board.getTaskCity2(task) == Board.NO_CITY) {
+            return false;
+        }
+        boolean[] visited = new boolean[board.getNumOfCities()];
+        List<Integer> toVisit = new ArrayList<>(List.of(board.getTaskCity1(task)));
+        visited[board.getTaskCity1(task)] = true;
+        while (!toVisit.isEmpty()) {
+            int city = toVisit.remove(toVisit.size() - 1);
+            for (int i = 0; i < board.getNumOfCityRoutes(city); i++) {
+                int route = board.getCityRoute(city, i);
+                int next = board.getOtherCity(route, city);
+                if (state.ownsRoute(player, route) && !visited[next]) {
+                    visited[next] = true;
+                    toVisit.add(next);
+                }
+            }
+        }
+        return visited[board.getTaskCity2(task)];
+    }
+}
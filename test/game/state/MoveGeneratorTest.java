@@ -0,0 +1,104 @@
+package game.state;
+
+import color.TrainColor;
+import game.GameEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private GameState state;
+    private int[] moves;
+
+    @BeforeEach
+    void setUp() {
+        GameEngine engine = new GameEngine(3, 11L);
+        engine.setUp();
+        state = engine.captureState();
+        moves = new int[MoveGenerator.getMaxMoves(state.getBoard())];
+    }
+
+    private int count(int num, int type) {
+        int count = 0;
+        for (int i = 0; i < num; i++) {
+            if (Move.getType(moves[i]) == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void move_claimRoute_decodesSameFields() {
+        int move = Move.claimRoute(76, 1, 7, 3);
+        assertEquals(Move.CLAIM_ROUTE, Move.getType(move));
+        assertEquals(76, Move.getRoute(move));
+        assertEquals(1, Move.getRouteIndex(move));
+        assertEquals(7, Move.getColor(move));
+        assertEquals(3, Move.getNumOfLocos(move));
+    }
+
+    @Test
+    void generate_startOfTurn_returnsEveryFaceUpSpotFaceDownAndTasks() {
+        int num = MoveGenerator.generate(state, moves);
+        assertEquals(GameState.FACE_UP_NUM, count(num, Move.DRAW_FACE_UP));
+        assertEquals(1, count(num, Move.DRAW_FACE_DOWN));
+        assertEquals(1, count(num, Move.DRAW_TASKS));
+    }
+
+    @Test
+    void generate_secondDraw_returnsNoLocomotiveOrClaim() {
+        state.apply(Move.drawFaceDown());
+        assertEquals(GameState.SECOND_DRAW, state.getTurnPhase());
+        int num = MoveGenerator.generate(state, moves);
+        assertEquals(0, count(num, Move.DRAW_TASKS) + count(num, Move.CLAIM_ROUTE));
+        for (int i = 0; i < num; i++) {
+            if (Move.getType(moves[i]) == Move.DRAW_FACE_UP) {
+                int card = state.getFaceUpCard(Move.getFaceUpIndex(moves[i]));
+                assertNotEquals(TrainColor.RAINBOW.ordinal(), state.getBoard().getTrainCardColor(card));
+            }
+        }
+    }
+
+    @Test
+    void generate_afterDrawingTasks_returns7Keeps() {
+        state.apply(Move.drawTasks());
+        int num = MoveGenerator.generate(state, moves);
+        assertEquals(7, num);
+        assertEquals(7, count(num, Move.KEEP_TASKS));
+    }
+
+    @Test
+    void generate_claimMoves_useCardsOfTheCurrentPlayer() {
+        int num = MoveGenerator.generate(state, moves);
+        int player = state.getCurrentPlayer();
+        for (int i = 0; i < num; i++) {
+            int move = moves[i];
+            if (Move.getType(move) == Move.CLAIM_ROUTE) {
+                int length = state.getBoard().getRouteLength(Move.getRoute(move));
+                int locos = Move.getNumOfLocos(move);
+                assertTrue(locos <= state.getNumOfCards(player, TrainColor.RAINBOW.ordinal()));
+                if (locos < length) {
+                    assertTrue(length - locos <= state.getNumOfCards(player, Move.getColor(move)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void apply_randomMoves_playsUntilGameIsOver() {
+        Random rand = new Random(3);
+        int applied = 0;
+        while (!state.isOver()) {
+            int num = MoveGenerator.generate(state, moves);
+            assertTrue(num > 0);
+            state.apply(moves[rand.nextInt(num)]);
+            applied++;
+        }
+        assertTrue(applied > 0);
+    }
+}
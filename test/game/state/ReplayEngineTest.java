@@ -0,0 +1,84 @@
+package game.state;
+
+import game.GameEngine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+
+    private GameState state;
+    private ActionLog log;
+    private List<GameState> turnStarts;
+
+    @BeforeEach
+    void setUp() {
+        GameEngine engine = new GameEngine(3, 5L);
+        engine.setUp();
+        state = engine.captureState();
+        log = new ActionLog(state, 4);
+
+        // play random moves to the end, keeping a copy of the state at the start of every turn
+        turnStarts = new ArrayList<>();
+        turnStarts.add(state.copy());
+        int[] moves = new int[MoveGenerator.getMaxMoves(state.getBoard())];
+        Random rand = new Random(7);
+        while (!state.isOver()) {
+            int turn = state.getTurnCount();
+            int num = MoveGenerator.generate(state, moves);
+            state.apply(moves[rand.nextInt(num)]);
+            if (state.getTurnCount() != turn) {
+                turnStarts.add(state.copy());
+            }
+        }
+    }
+
+    @Test
+    void record_randomGame_logsEveryTurnAndSnapshots() {
+        assertTrue(log.size() > 0);
+        assertEquals(state.getTurnCount() / 4 + 1, log.getNumOfSnapshots());
+        assertEquals(GameEvent.DRAW_FACE_UP, GameEvent.getType(GameEvent.drawFaceUp(2, 4, 97)));
+        assertEquals(97, GameEvent.getId(GameEvent.drawFaceUp(2, 4, 97), 1));
+        assertEquals(2, GameEvent.getPlayer(GameEvent.drawFaceUp(2, 4, 97)));
+    }
+
+    @Test
+    void seek_everyTurn_equalsRecordedState() {
+        ReplayEngine replay = new ReplayEngine(log);
+        for (int turn = 0; turn < turnStarts.size(); turn++) {
+            assertEquals(turnStarts.get(turn), replay.seek(turn));
+        }
+    }
+
+    @Test
+    void replayAll_randomGame_equalsFinalState() {
+        assertEquals(state, new ReplayEngine(log).replayAll());
+    }
+
+    @Test
+    void verify_randomGame_returnsTrue() {
+        assertTrue(new ReplayEngine(log).verify());
+    }
+
+    @Test
+    void copy_recordedState_isNotRecorded() {
+        int size = log.size();
+        GameState copy = turnStarts.get(0).copy();
+        copy.apply(Move.drawFaceDown());
+        assertEquals(size, log.size());
+    }
+
+    @Test
+    void seek_afterTheEnd_throwsIllegalArgumentException() {
+        ReplayEngine replay = new ReplayEngine(log);
+        int turn = turnStarts.size();
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> replay.seek(turn));
+        assertEquals("The log ends before turn " + turn + ".", t.getMessage());
+    }
+}
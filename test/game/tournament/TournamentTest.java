@@ -0,0 +1,47 @@
+package game.tournament;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    @Test
+    void constructor_0Threads_throwsIllegalArgumentException() {
+        Throwable t = Assertions.assertThrows(IllegalArgumentException.class, () -> new Tournament(2, 10, 0));
+        assertEquals("Parallelism has to be a positive integer.", t.getMessage());
+    }
+
+    @Test
+    void run_40Games2Threads_returns40Games() {
+        TournamentStats stats = new Tournament(3, 40, 2).run();
+        assertEquals(40, stats.getGames());
+        assertEquals(40, stats.getWins(0) + stats.getWins(1) + stats.getWins(2));
+        assertTrue(stats.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void run_0Games_returnsEmptyStats() {
+        TournamentStats stats = new Tournament(2, 0, 1).run();
+        assertEquals(0, stats.getGames());
+        assertEquals(0, stats.getAveragePoints());
+    }
+
+    @Test
+    void merge_twoStats_addsGames() {
+        TournamentStats stats1 = new Tournament(2, 3, 1).run();
+        TournamentStats stats2 = new Tournament(2, 5, 1).run();
+        assertEquals(8, stats1.merge(stats2).getGames());
+    }
+
+    @Test
+    void run_sameSeedDifferentThreads_returnsSameResults() {
+        TournamentStats stats1 = new Tournament(3, 40, 1, 7L).run();
+        TournamentStats stats2 = new Tournament(3, 40, 2, 7L).run();
+        assertEquals(stats1.getTurns(), stats2.getTurns());
+        assertEquals(stats1.getAveragePoints(), stats2.getAveragePoints());
+        assertEquals(stats1.getCompletedTasks(), stats2.getCompletedTasks());
+        assertEquals(stats1.getWins(0), stats2.getWins(0));
+    }
+}
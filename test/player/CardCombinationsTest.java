@@ -0,0 +1,99 @@
+package player;
+
+import color.TrainColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCombinationsTest {
+
+    @Test
+    void enumerate_purpleRoute_listsMixedCombinationsFromMostColorCards() {
+        long hand = PackedHand.add(PackedHand.add(PackedHand.EMPTY, TrainColor.PURPLE, 3), TrainColor.RAINBOW, 2);
+        CardCombinations combinations = new CardCombinations();
+
+        assertEquals(3, combinations.enumerate(hand, TrainColor.PURPLE, 4));
+        assertEquals(Map.of("purple", 3, "rainbow", 1), CardCombinations.toMap(combinations.get(0)));
+        int combination = combinations.get(1);
+        assertEquals(TrainColor.PURPLE, CardCombinations.getColor(combination));
+        assertEquals(2, CardCombinations.getNumOfColorCards(combination));
+        assertEquals(2, CardCombinations.getNumOfRainbowCards(combination));
+        assertEquals(Map.of("purple", 1, "rainbow", 3), CardCombinations.toMap(combinations.get(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> combinations.get(3));
+
+        assertEquals(2, combinations.enumerate(hand, TrainColor.GREY, 2));
+        assertEquals(Map.of("rainbow", 2), CardCombinations.toMap(combinations.get(0)));
+        assertEquals(Map.of("purple", 2), CardCombinations.toMap(combinations.get(1)));
+    }
+
+    @Test
+    void enumerate_randomHands_matchesCombinationMaps() {
+        SplittableRandom random = new SplittableRandom(24);
+        CardCombinations combinations = new CardCombinations();
+        TrainColor[] routeColors = TrainColor.values();
+        for (int round = 0; round < 5000; round++) {
+            long hand = PackedHand.EMPTY;
+            for (TrainColor color : TrainColor.getCardColors()) {
+                hand = PackedHand.add(hand, color, random.nextInt(random.nextBoolean() ? 3 : 8));
+            }
+            TrainColor routeColor = routeColors[random.nextInt(routeColors.length)];
+            int numOfCars = random.nextInt(1, 7);
+
+            List<Map<String, Integer>> actual = new ArrayList<>();
+            for (int i = 0, size = combinations.enumerate(hand, routeColor, numOfCars); i < size; i++) {
+                actual.add(CardCombinations.toMap(combinations.get(i)));
+            }
+            assertEquals(enumerateMaps(hand, routeColor, numOfCars), actual);
+        }
+    }
+
+    /**
+     * the combination maps as Player built them before they were packed
+     */
+    private static List<Map<String, Integer>> enumerateMaps(long hand, TrainColor routeColor, int numOfCars) {
+        List<Map<String, Integer>> outerList = new ArrayList<>();
+        if (routeColor.isCardColor()) {
+            addMapsOfAColor(hand, routeColor, numOfCars, outerList);
+        } else {
+            for (TrainColor color : TrainColor.getCardColors()) {
+                if (color != TrainColor.RAINBOW) {
+                    addMapsOfAColor(hand, color, numOfCars, outerList);
+                }
+            }
+        }
+        return outerList;
+    }
+
+    private static void addMapsOfAColor(long hand, TrainColor color, int numOfCars,
+                                        List<Map<String, Integer>> outerList) {
+        int rainbowNum = PackedHand.count(hand, TrainColor.RAINBOW);
+        int currColorNum = PackedHand.count(hand, color);
+        List<Map<String, Integer>> maps = new ArrayList<>();
+        if (rainbowNum >= numOfCars) {
+            maps.add(new HashMap<>(Map.of("rainbow", numOfCars)));
+        }
+        if (currColorNum >= numOfCars) {
+            maps.add(new HashMap<>(Map.of(color.getName(), numOfCars)));
+        }
+        if (rainbowNum + currColorNum >= numOfCars && currColorNum < numOfCars && rainbowNum < numOfCars &&
+                currColorNum > 1) {
+            for (int i = currColorNum; i > 0; i--) {
+                Map<String, Integer> map = new HashMap<>();
+                map.put("rainbow", Math.max(0, numOfCars - i));
+                map.put(color.getName(), i);
+                maps.add(map);
+            }
+        }
+        for (Map<String, Integer> map : maps) {
+            if (!outerList.contains(map)) {
+                outerList.add(map);
+            }
+        }
+    }
+}
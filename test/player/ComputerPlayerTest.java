@@ -5,6 +5,8 @@ import carddeck.FaceDownDeck;
 import carddeck.FaceUpDeck;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ComputerPlayerTest {
@@ -16,7 +18,7 @@ class ComputerPlayerTest {
 
 
     public ComputerPlayerTest() {
-        player = new ComputerPlayer("Testbot", 1);
+        player = new ComputerPlayer("Testbot", 1, new Random(24));
         player.setPlayerId("comptest1");
 
     }
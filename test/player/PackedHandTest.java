@@ -0,0 +1,61 @@
+package player;
+
+import color.TrainColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedHandTest {
+
+    @Test
+    void add_cardsOfEveryColor_countsEachColor() {
+        long hand = PackedHand.EMPTY;
+        for (TrainColor color : TrainColor.getCardColors()) {
+            hand = PackedHand.add(hand, color, color.ordinal() + 14);
+        }
+        int total = 0;
+        for (TrainColor color : TrainColor.getCardColors()) {
+            assertEquals(color.ordinal() + 14, PackedHand.count(hand, color));
+            total += color.ordinal() + 14;
+        }
+        assertEquals(total, PackedHand.total(hand));
+        assertEquals(0, PackedHand.count(hand, TrainColor.GREY));
+
+        hand = PackedHand.remove(hand, TrainColor.RED, 15);
+        assertEquals(1, PackedHand.count(hand, TrainColor.RED));
+        assertEquals(14, PackedHand.count(hand, TrainColor.PURPLE));
+        assertEquals(18, PackedHand.count(hand, TrainColor.RAINBOW));
+    }
+
+    @Test
+    void add_invalidCards_throwsExceptions() {
+        long hand = PackedHand.add(PackedHand.EMPTY, TrainColor.WHITE, PackedHand.MAX_COUNT);
+        assertThrows(IllegalStateException.class, () -> PackedHand.add(hand, TrainColor.WHITE, 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedHand.add(hand, TrainColor.GREY, 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedHand.remove(hand, TrainColor.BLACK, 1));
+    }
+
+    @Test
+    void canPay_randomHands_matchesCountingEveryColor() {
+        SplittableRandom random = new SplittableRandom(23);
+        for (int round = 0; round < 10000; round++) {
+            long hand = PackedHand.EMPTY;
+            int[] counts = new int[TrainColor.NUM_OF_CARD_COLORS];
+            for (TrainColor color : TrainColor.getCardColors()) {
+                counts[color.ordinal()] = random.nextInt(random.nextBoolean() ? 4 : PackedHand.MAX_COUNT + 1);
+                hand = PackedHand.add(hand, color, counts[color.ordinal()]);
+            }
+            int numOfCars = random.nextInt(1, random.nextBoolean() ? 7 : 300);
+            int rainbowNum = counts[TrainColor.RAINBOW.ordinal()];
+            boolean canPayGrey = rainbowNum >= numOfCars;
+            for (TrainColor color : TrainColor.getCardColors()) {
+                boolean canPayColor = counts[color.ordinal()] + rainbowNum >= numOfCars;
+                assertEquals(canPayColor, PackedHand.canPay(hand, color, numOfCars));
+                canPayGrey |= color != TrainColor.RAINBOW && canPayColor;
+            }
+            assertEquals(canPayGrey, PackedHand.canPay(hand, TrainColor.GREY, numOfCars));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package player;
+
+import card.TrainCard;
+import carddeck.DeckManager;
+import city.City;
+import color.TrainColor;
+import org.junit.jupiter.api.Test;
+import route.Route;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerHandTest {
+
+    private final PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+    private final DeckManager manager = new DeckManager(out, new SplittableRandom(22));
+    private final Player player = new Player("hand", manager, out);
+
+    PlayerHandTest() {
+        player.setPlayerId("h1");
+    }
+
+    @Test
+    void addATrainCard_cardsOfSeveralColors_countsEveryColor() {
+        player.addATrainCard(new TrainCard("purple"));
+        player.addATrainCard(new TrainCard("rainbow"));
+        player.addATrainCard(new TrainCard("purple"));
+
+        assertEquals(3, player.getNumOfTrainCard());
+        assertEquals(2, player.getNumOfTrainCard(TrainColor.PURPLE));
+        assertEquals(1, player.getNumOfTrainCard(TrainColor.RAINBOW));
+        assertEquals(0, player.getNumOfTrainCard(TrainColor.BLUE));
+        assertEquals(0, player.getNumOfTrainCard(TrainColor.GREY));
+        assertEquals(3, player.getTrainCards().size());
+    }
+
+    @Test
+    void addATrainCard_sameCardTwice_throwsIllegalArgumentException() {
+        TrainCard card = new TrainCard("red");
+        player.addATrainCard(card);
+        assertThrows(IllegalArgumentException.class, () -> player.addATrainCard(card));
+        assertThrows(IllegalArgumentException.class, () -> player.addATrainCard(new TrainCard("grey")));
+        assertEquals(1, player.getNumOfTrainCard());
+    }
+
+    @Test
+    void chooseACombination_mixedCombination_discardsFirstDrawnCards() {
+        List<TrainCard> purples = List.of(new TrainCard("purple"), new TrainCard("purple"), new TrainCard("purple"));
+        for (TrainCard card : purples) {
+            player.addATrainCard(card);
+        }
+        player.addATrainCard(new TrainCard("rainbow"));
+        player.addATrainCard(new TrainCard("rainbow"));
+        Route<City> route = new Route<>(new City("San Francisco"), new City("Los Angeles"),
+                List.of("purple", "yellow"), 4);
+
+        List<Map<String, Integer>> combinations = player.getCardCombinationOnATargetRoute(route, "purple");
+        int index = combinations.indexOf(Map.of("purple", 2, "rainbow", 2));
+        player.chooseACombination(route, "purple", combinations, index);
+
+        assertEquals(1, player.getNumOfTrainCard());
+        assertEquals(1, player.getNumOfTrainCard(TrainColor.PURPLE));
+        assertEquals(0, player.getNumOfTrainCard(TrainColor.RAINBOW));
+        assertNull(purples.get(0).getOwnerId());
+        assertNull(purples.get(1).getOwnerId());
+        assertEquals("h1", purples.get(2).getOwnerId());
+        assertEquals("h1", route.getOwnerId(0));
+    }
+
+    @Test
+    void getCardCombinationOnATargetRoute_greyRoute_offersEveryColorWithEnoughCards() {
+        player.addATrainCard(new TrainCard("blue"));
+        player.addATrainCard(new TrainCard("blue"));
+        player.addATrainCard(new TrainCard("white"));
+        player.addATrainCard(new TrainCard("white"));
+        Route<City> route = new Route<>(new City("Seattle"), new City("Portland"), List.of("grey", "grey"), 2);
+
+        assertEquals(List.of(Map.of("blue", 2), Map.of("white", 2)),
+                player.getCardCombinationOnATargetRoute(route, "grey"));
+    }
+}
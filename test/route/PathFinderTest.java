@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import route.graph.PathFinder;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -90,4 +91,20 @@ class PathFinderTest {
         assertFalse(finder.findPath());
     }
 
-}
\ No newline at end of file
+    @Test
+    void findPath_firstNeighbourDeadEnd_returnsTrue() {
+        // Denver's first route leads to Helena, a dead end, the second one to Oklahoma City
+        Map<String, Set<Route<City>>> branches = new HashMap<>();
+        Set<Route<City>> denverRoutes = new LinkedHashSet<>();
+        denverRoutes.add(new Route<>(new City("Denver"), new City("Helena"), List.of("green"), 4));
+        denverRoutes.add(new Route<>(new City("Denver"), new City("Oklahoma City"), List.of("red"), 4));
+        branches.put("Denver", denverRoutes);
+        branches.put("Helena", Set.of(new Route<>(new City("Helena"), new City("Denver"), List.of("green"), 4)));
+        branches.put("Oklahoma City",
+                Set.of(new Route<>(new City("Oklahoma City"), new City("Denver"), List.of("red"), 4)));
+
+        PathFinder finder = new PathFinder(branches, "Denver", "Oklahoma City");
+        assertTrue(finder.findPath());
+    }
+
+}
@@ -0,0 +1,44 @@
+package route;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.graph.Graph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteFinderTest {
+
+    private final RouteFinder finder =
+            new RouteFinder(new Graph<>(RouteFileReader.getRouteFileReaderInstance().createRoutes()));
+
+    @Test
+    void searchForRoute_namesInAnyCase_returnsRouteOfCanonicalCities() {
+        Route<City> route = finder.searchForRoute("Seattle", "Portland");
+        assertNotNull(route);
+        assertSame(route, finder.searchForRoute("Seattle", "portland"));
+        assertSame(route, finder.searchForRoute("SEATTLE", "PortLand"));
+        assertEquals("Portland", route.getCity2().getCityName());
+    }
+
+    @Test
+    void searchForRoute_unknownCityOrNoRoute_returnsNull() {
+        assertNull(finder.searchForRoute("Seattle", "Atlantis"));
+        assertNull(finder.searchForRoute("Seattle", "Miami"));
+    }
+
+    @Test
+    void searchForRoute_unknownCity_printsNothing() {
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        try {
+            assertNull(finder.searchForRoute("Atlantis", "seattle"));
+        } finally {
+            System.setOut(stdout);
+        }
+        assertEquals("", out.toString());
+    }
+}
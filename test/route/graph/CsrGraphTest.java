@@ -0,0 +1,162 @@
+package route.graph;
+
+import city.City;
+import city.CityNames;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.RouteFileReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    @Test
+    void constructor_arcsOutOfOrder_groupsArcsBySource() {
+        CsrGraph csr = new CsrGraph(3, new int[]{2, 0, 2, 1}, new int[]{0, 1, 1, 2}, new int[]{5, 6, 7, 8});
+        assertEquals(3, csr.getNumOfVertices());
+        assertEquals(4, csr.getNumOfArcs());
+        assertEquals(1, csr.getDegree(0));
+        assertEquals(1, csr.getDegree(1));
+        assertEquals(2, csr.getDegree(2));
+
+        int first = csr.getFirstArc(2);
+        assertEquals(0, csr.getTarget(first));
+        assertEquals(5, csr.getWeight(first));
+        assertEquals(0, csr.getArcId(first));
+        assertEquals(1, csr.getTarget(first + 1));
+        assertEquals(7, csr.getWeight(first + 1));
+        assertEquals(2, csr.getArcId(first + 1));
+        assertEquals(8, csr.getMaxWeight());
+    }
+
+    @Test
+    void getSource_verticesWithoutArcs_returnsArcSource() {
+        CsrGraph csr = new CsrGraph(5, new int[]{3, 0, 3, 0}, new int[]{1, 1, 2, 4}, new int[]{1, 1, 1, 1});
+        for (int v = 0; v < csr.getNumOfVertices(); v++) {
+            for (int arc = csr.getFirstArc(v); arc < csr.getEndArc(v); arc++) {
+                assertEquals(v, csr.getSource(arc));
+            }
+        }
+    }
+
+    @Test
+    void fromEdges_oneEdge_hasArcsBothWays() {
+        CsrGraph csr = CsrGraph.fromEdges(2, new int[]{0}, new int[]{1}, new int[]{4});
+        assertEquals(2, csr.getNumOfArcs());
+        assertEquals(1, csr.getTarget(csr.getFirstArc(0)));
+        assertEquals(0, csr.getTarget(csr.getFirstArc(1)));
+        assertEquals(0, csr.getArcId(csr.getFirstArc(0)));
+        assertEquals(1, csr.getArcId(csr.getFirstArc(1)));
+    }
+
+    @Test
+    void constructor_vertexOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrGraph(2, new int[]{0}, new int[]{2}, new int[]{1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrGraph(2, new int[]{0, 1}, new int[]{1}, new int[]{1}));
+    }
+
+    @Test
+    void getCsr_mapGraph_everyArcMatchesItsRoute() {
+        List<Route<City>> routes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        CsrGraph csr = graph.getCsr();
+        assertEquals(2 * routes.size(), csr.getNumOfArcs());
+
+        for (int v = 0; v < csr.getNumOfVertices(); v++) {
+            for (int arc = csr.getFirstArc(v); arc < csr.getEndArc(v); arc++) {
+                Route<City> route = graph.getRoute(arc);
+                assertEquals(v, graph.getVertex(route.getCity1()));
+                assertEquals(csr.getTarget(arc), graph.getVertex(route.getCity2()));
+                assertEquals(csr.getWeight(arc), route.getNumOfCars());
+                assertSame(graph.getCity(v), route.getCity1());
+                assertSame(route.getCity2(), graph.getReversedRoute(arc).getCity1());
+                assertSame(route.getCity1(), graph.getReversedRoute(arc).getCity2());
+            }
+        }
+    }
+
+    @Test
+    void getVertex_uninternedCity_returnsVertexOfInternedCity() {
+        List<Route<City>> routes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        City seattle = CityNames.getInstance().getCityByName("Seattle");
+        assertEquals(graph.getVertex(seattle), graph.getVertex(new City("Seattle")));
+        assertEquals(seattle, graph.getCity(graph.getVertex(new City("Seattle"))));
+        assertEquals(City.NO_ID, graph.getVertex(new City("Atlantis")));
+    }
+
+    @Test
+    void getCsr_citiesInternedByOtherMaps_hasOneVertexPerCityOfThisGraph() {
+        List<Route<City>> routes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        int numOfCities = new Graph<>(routes).getAllCities().size();
+        List<Route<City>> otherRoutes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            otherRoutes.add(new Route<>(CityNames.getInstance().addToCityNames("CsrOther" + i),
+                    CityNames.getInstance().addToCityNames("CsrOther" + (i + 1)), List.of("grey"), 1));
+        }
+        new Graph<>(otherRoutes);
+
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        assertEquals(numOfCities, graph.getCsr().getNumOfVertices());
+        for (int v = 0; v < numOfCities; v++) {
+            assertEquals(v, graph.getVertex(graph.getCity(v)));
+        }
+        assertEquals(City.NO_ID, graph.getVertex(CityNames.getInstance().getCityByName("CsrOther100")));
+    }
+
+    @Test
+    void getArc_pairsOfVertices_returnsFirstArcOrMinusOne() {
+        CsrGraph csr = new CsrGraph(4, new int[]{2, 0, 2, 1, 2}, new int[]{0, 1, 1, 2, 0}, new int[]{5, 6, 7, 8, 9});
+        for (int v = 0; v < csr.getNumOfVertices(); v++) {
+            for (int w = 0; w < csr.getNumOfVertices(); w++) {
+                int expected = -1;
+                for (int arc = csr.getEndArc(v) - 1; arc >= csr.getFirstArc(v); arc--) {
+                    if (csr.getTarget(arc) == w) {
+                        expected = arc;
+                    }
+                }
+                assertEquals(expected, csr.getArc(v, w));
+            }
+        }
+        assertEquals(5, csr.getWeight(csr.getArc(2, 0)));
+        assertEquals(-1, csr.getArc(-1, 0));
+        assertEquals(-1, csr.getArc(0, 4));
+        assertEquals(-1, new CsrGraph(0, new int[0], new int[0], new int[0]).getArc(0, 0));
+    }
+
+    @Test
+    void getRoute_mapCities_returnsRouteInBothDirections() {
+        List<Route<City>> routes = RouteFileReader.getRouteFileReaderInstance().createRoutes();
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        for (Route<City> route : routes) {
+            assertSame(route, graph.getRoute(route.getCity1(), route.getCity2()));
+            assertSame(route.reversed(), graph.getRoute(new City(route.getCity2().getCityName()),
+                    new City(route.getCity1().getCityName())));
+        }
+        assertNull(graph.getRoute(new City("Seattle"), new City("Miami")));
+        assertNull(graph.getRoute(new City("Seattle"), new City("Atlantis")));
+    }
+
+    @Test
+    void reversed_routeClaimedInOneDirection_isClaimedInBoth() {
+        Route<City> route = new Route<>(new City("Seattle"), new City("Portland"), List.of("grey", "grey"), 1);
+        Route<City> reversed = route.reversed();
+        assertSame(reversed, route.reversed());
+        assertSame(route, reversed.reversed());
+        assertEquals(route.getCity1(), reversed.getCity2());
+
+        List<String> claims = new ArrayList<>();
+        route.addOwnershipListener((r, index, ownerId) -> claims.add(ownerId));
+        reversed.setOwner("p1", 1);
+        assertEquals("p1", route.getOwnerId(1));
+        route.setOwner("p2", 0);
+        assertEquals("p2", reversed.getOwnerId(0));
+        assertEquals(List.of("p1", "p2"), claims);
+        assertThrows(IllegalStateException.class, () -> reversed.setOwner("p3", 0));
+    }
+}
@@ -0,0 +1,55 @@
+package route.graph;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnionFindTest {
+
+    @Test
+    void isConnected_chainOfRoutes_returnsTrue() {
+        UnionFind unionFind = new UnionFind();
+        assertTrue(unionFind.union(new City("Seattle"), new City("Portland")));
+        assertTrue(unionFind.union(new City("Portland"), new City("San Francisco")));
+        assertTrue(unionFind.isConnected(new City("San Francisco"), new City("Seattle")));
+        assertFalse(unionFind.isConnected(new City("Seattle"), new City("Miami")));
+    }
+
+    @Test
+    void union_alreadyConnected_returnsFalse() {
+        UnionFind unionFind = new UnionFind();
+        unionFind.union(1, 2);
+        unionFind.union(2, 3);
+        assertFalse(unionFind.union(3, 1));
+        assertEquals(2, unionFind.getNumOfUnions());
+    }
+
+    @Test
+    void isConnected_idsBeyondCapacity_growsAndMatchesLabels() {
+        SplittableRandom random = new SplittableRandom(5);
+        int n = 500;
+        int[] labels = new int[n]; // a naive connectivity, every city carries the label of its group
+        for (int i = 0; i < n; i++) {
+            labels[i] = i;
+        }
+        UnionFind unionFind = new UnionFind();
+        for (int round = 0; round < 300; round++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            boolean expected = labels[a] != labels[b];
+            assertEquals(expected, unionFind.union(a, b));
+            int oldLabel = labels[b];
+            for (int i = 0; i < n; i++) {
+                if (labels[i] == oldLabel) {
+                    labels[i] = labels[a];
+                }
+            }
+            int c = random.nextInt(n);
+            int d = random.nextInt(n);
+            assertEquals(labels[c] == labels[d], unionFind.isConnected(c, d));
+        }
+    }
+}
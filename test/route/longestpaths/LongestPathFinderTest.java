@@ -0,0 +1,102 @@
+package route.longestpaths;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.Route;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongestPathFinderTest {
+
+    @Test
+    void getLongestPathLength_noRoutes_returns0() {
+        assertEquals(0, new LongestPathFinder().getLongestPathLength());
+    }
+
+    @Test
+    void getLongestPathLength_starOfThreeRoutes_returnsTwoLongestArms() {
+        LongestPathFinder finder = new LongestPathFinder();
+        finder.addRoute(0, 1, 1);
+        finder.addRoute(0, 2, 2);
+        finder.addRoute(0, 3, 3);
+        assertEquals(5, finder.getLongestPathLength());
+    }
+
+    @Test
+    void getLongestPathLength_cycleWithTail_passesCityTwice() {
+        // a triangle 0-1-2 with a tail 2-3, the trail 3-2-0-1-2 uses every route
+        assertEquals(10, LongestPathFinder.findLongestPath(
+                new int[]{0, 1, 2, 2}, new int[]{1, 2, 0, 3}, new int[]{2, 3, 4, 1}));
+    }
+
+    @Test
+    void getLongestPathLength_routeJoinsComponents_searchesMergedComponent() {
+        LongestPathFinder finder = new LongestPathFinder();
+        finder.addRoute(0, 1, 4);
+        finder.addRoute(2, 3, 6);
+        assertEquals(6, finder.getLongestPathLength());
+        finder.addRoute(1, 2, 1);
+        assertEquals(11, finder.getLongestPathLength());
+        finder.addRoute(7, 8, 2);
+        assertEquals(11, finder.getLongestPathLength());
+    }
+
+    @Test
+    void addRoute_mapRoutes_usesCityIds() {
+        LongestPathFinder finder = new LongestPathFinder();
+        finder.addRoute(new Route<>(new City("Seattle"), new City("Portland"), List.of("grey"), 1));
+        finder.addRoute(new Route<>(new City("Portland"), new City("San Francisco"), List.of("green"), 5));
+        assertEquals(6, finder.getLongestPathLength());
+        assertEquals(2, finder.getNumOfRoutes());
+    }
+
+    @Test
+    void addRoute_nonPositiveLength_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongestPathFinder().addRoute(0, 1, 0));
+    }
+
+    @Test
+    void findBonusWinners_tiedPlayers_everyTiedPlayerWins() {
+        assertArrayEquals(new boolean[]{false, true, true}, LongestPathFinder.findBonusWinners(new int[]{3, 7, 7}));
+        assertArrayEquals(new boolean[]{true, false}, LongestPathFinder.findBonusWinners(new int[]{1, 0}));
+    }
+
+    @Test
+    void findBonusWinners_noRoutes_nobodyWins() {
+        assertArrayEquals(new boolean[]{false, false}, LongestPathFinder.findBonusWinners(new int[]{0, 0}));
+    }
+
+    @Test
+    void getLongestPathLength_randomGraphs_matchesExhaustiveSearch() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int round = 0; round < 200; round++) {
+            int numOfCities = random.nextInt(2, 7);
+            int numOfRoutes = random.nextInt(1, 10);
+            int[] cities1 = random.ints(numOfRoutes, 0, numOfCities).toArray();
+            int[] cities2 = random.ints(numOfRoutes, 0, numOfCities).toArray();
+            int[] lengths = random.ints(numOfRoutes, 1, 7).toArray();
+
+            int expected = 0;
+            for (int city = 0; city < numOfCities; city++) {
+                expected = Math.max(expected, exhaustive(city, cities1, cities2, lengths, new boolean[numOfRoutes]));
+            }
+            assertEquals(expected, LongestPathFinder.findLongestPath(cities1, cities2, lengths));
+        }
+    }
+
+    private static int exhaustive(int city, int[] cities1, int[] cities2, int[] lengths, boolean[] used) {
+        int best = 0;
+        for (int route = 0; route < lengths.length; route++) {
+            if (!used[route] && (cities1[route] == city || cities2[route] == city)) {
+                used[route] = true;
+                int other = cities1[route] == city ? cities2[route] : cities1[route];
+                best = Math.max(best, lengths[route] + exhaustive(other, cities1, cities2, lengths, used));
+                used[route] = false;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,116 @@
+package route.shortestpaths;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.RouteFileReader;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllPairsShortestPathsTest {
+
+    private RouteFileReader routeFileReader = RouteFileReader.getRouteFileReaderInstance();
+
+    @Test
+    void of_twoGraphsOfTheSameMap_returnsTheSameTable() {
+        routeFileReader.createAllRoutes();
+        Graph<City, Route<City>> graph1 = new Graph<>(routeFileReader.createRoutes());
+        Graph<City, Route<City>> graph2 = new Graph<>(RouteFileReader.getRoutes());
+        assertSame(AllPairsShortestPaths.of(graph1), AllPairsShortestPaths.of(graph2));
+    }
+
+    @Test
+    void getDistance_everyPair_matchesFloydWarshall() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        CsrGraph csr = graph.getCsr();
+        int n = csr.getNumOfVertices();
+        int[][] expected = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                expected[i][j] = i == j ? 0 : Integer.MAX_VALUE / 2;
+            }
+            for (int arc = csr.getFirstArc(i); arc < csr.getEndArc(i); arc++) {
+                expected[i][csr.getTarget(arc)] = Math.min(expected[i][csr.getTarget(arc)], csr.getWeight(arc));
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    expected[i][j] = Math.min(expected[i][j], expected[i][k] + expected[k][j]);
+                }
+            }
+        }
+
+        AllPairsShortestPaths table = AllPairsShortestPaths.of(graph);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (graph.getCity(i) != null && graph.getCity(j) != null) {
+                    assertEquals(expected[i][j], table.getDistance(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void getPath_everyPair_isConnectedAndAsLongAsTheDistance() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        AllPairsShortestPaths table = AllPairsShortestPaths.of(graph);
+        for (City city1 : graph.getAllCities()) {
+            for (City city2 : graph.getAllCities()) {
+                List<Route<City>> path = table.getPath(graph, graph.getVertex(city1), graph.getVertex(city2));
+                City curr = city1;
+                int length = 0;
+                for (Route<City> route : path) {
+                    assertEquals(curr, route.getCity1());
+                    curr = route.getCity2();
+                    length += route.getNumOfCars();
+                }
+                assertEquals(city2, curr);
+                assertEquals(table.getDistance(graph.getVertex(city1), graph.getVertex(city2)), length);
+            }
+        }
+    }
+
+    @Test
+    void of_smallMapAfterLargeMap_answersFromTableOfItsOwnCities() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        AllPairsShortestPaths table = AllPairsShortestPaths.of(graph);
+        List<Route<City>> largeMap = new ArrayList<>();
+        for (int i = 0; i <= ShortestPathFinder.MAX_TABLE_CITIES; i++) {
+            largeMap.add(new Route<>(new City("TableLarge" + i), new City("TableLarge" + (i + 1)), List.of("grey"), 1));
+        }
+        assertFalse(ShortestPathFinder.isAnsweredByTable(new Graph<>(largeMap)));
+
+        Graph<City, Route<City>> smallGraph = new Graph<>(routeFileReader.createRoutes());
+        assertTrue(ShortestPathFinder.isAnsweredByTable(smallGraph));
+        assertSame(table, AllPairsShortestPaths.of(smallGraph));
+        assertEquals(graph.getAllCities().size(), table.getNumOfCities());
+        assertEquals(1, new ShortestPathFinder<>(smallGraph, new City("Seattle"), new City("Portland")).getDistance());
+    }
+
+    @Test
+    void of_routeTooLongForKey_searchesInsteadOfTable() {
+        List<Route<City>> routes = List.of(
+                new Route<>(new City("TableLong0"), new City("TableLong1"), List.of("grey"), 70000),
+                new Route<>(new City("TableLong1"), new City("TableLong2"), List.of("grey"), 3));
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        assertFalse(ShortestPathFinder.isAnsweredByTable(graph));
+        assertThrows(IllegalArgumentException.class, () -> AllPairsShortestPaths.of(graph));
+        assertEquals(70003,
+                new ShortestPathFinder<>(graph, new City("TableLong0"), new City("TableLong2")).getDistance());
+    }
+
+    @Test
+    void getDistance_finder_returnsTableDistance() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        assertEquals(1, new ShortestPathFinder<>(graph, new City("Seattle"), new City("Portland")).getDistance());
+        assertEquals(0, new ShortestPathFinder<>(graph, new City("Seattle"), new City("Seattle")).getDistance());
+        assertEquals(AllPairsShortestPaths.NO_PATH,
+                new ShortestPathFinder<>(graph, new City("Seattle"), new City("Atlantis")).getDistance());
+    }
+}
@@ -0,0 +1,141 @@
+package route.shortestpaths;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AltSearchTest {
+
+    @Test
+    void search_randomGrid_matchesDialDistances() {
+        SplittableRandom random = new SplittableRandom(20);
+        CsrGraph csr = GridGraphs.create(30, 0.8, random);
+        AltSearch altSearch = new AltSearch(csr, new Landmarks(csr, Landmarks.MAX_LANDMARKS));
+        int[] distances = new int[csr.getNumOfVertices()];
+        int[] predecessors = new int[csr.getNumOfVertices()];
+        for (int round = 0; round < 300; round++) {
+            int source = random.nextInt(csr.getNumOfVertices());
+            int target = random.nextInt(csr.getNumOfVertices());
+            DialSearch.search(csr, csr.getMaxWeight(), source, target, distances, predecessors, null);
+            int distance = altSearch.search(source, target);
+            assertEquals(distances[target], distance);
+            if (distance != Integer.MAX_VALUE) {
+                assertEquals(distance, getPathLength(csr, altSearch, source, target));
+            }
+        }
+    }
+
+    @Test
+    void search_largeGrid_settlesFewerVerticesThanDijkstra() {
+        SplittableRandom random = new SplittableRandom(21);
+        CsrGraph csr = GridGraphs.create(100, 1, random);
+        AltSearch altSearch = new AltSearch(csr, new Landmarks(csr, Landmarks.MAX_LANDMARKS));
+        int[] distances = new int[csr.getNumOfVertices()];
+        int[] predecessors = new int[csr.getNumOfVertices()];
+        long settledByDijkstra = 0;
+        long settledByAlt = 0;
+        for (int round = 0; round < 50; round++) {
+            int source = random.nextInt(csr.getNumOfVertices());
+            int target = random.nextInt(csr.getNumOfVertices());
+            settledByDijkstra += ShortestPathFinder.search(csr, source, target, distances, predecessors, null);
+            assertEquals(distances[target], altSearch.search(source, target));
+            settledByAlt += altSearch.getNumOfSettled();
+        }
+        assertTrue(4 * settledByAlt < settledByDijkstra, settledByAlt + " vs " + settledByDijkstra);
+    }
+
+    @Test
+    void getLowerBound_randomGrid_neverExceedsDistance() {
+        SplittableRandom random = new SplittableRandom(22);
+        CsrGraph csr = GridGraphs.create(20, 0.7, random);
+        Landmarks landmarks = new Landmarks(csr, 4);
+        int[] distances = new int[csr.getNumOfVertices()];
+        int[] predecessors = new int[csr.getNumOfVertices()];
+        for (int source = 0; source < csr.getNumOfVertices(); source += 7) {
+            DialSearch.search(csr, csr.getMaxWeight(), source, -1, distances, predecessors, null);
+            for (int v = 0; v < csr.getNumOfVertices(); v++) {
+                int bound = landmarks.getLowerBound(source, v);
+                assertTrue(bound <= distances[v]);
+                if (bound == Integer.MAX_VALUE) {
+                    assertEquals(Integer.MAX_VALUE, distances[v]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findShortestPath_mapLargerThanTable_searchesWithLandmarks() {
+        SplittableRandom random = new SplittableRandom(23);
+        int size = 40; // more cities than ShortestPathFinder.MAX_TABLE_CITIES
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < size * size; i++) {
+            cities.add(new City("AltGrid" + i));
+        }
+        List<Route<City>> routes = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int city = row * size + col;
+                if (col + 1 < size) {
+                    routes.add(new Route<>(cities.get(city), cities.get(city + 1), List.of("grey"),
+                            random.nextInt(1, 7)));
+                }
+                if (row + 1 < size) {
+                    routes.add(new Route<>(cities.get(city), cities.get(city + size), List.of("grey"),
+                            random.nextInt(1, 7)));
+                }
+            }
+        }
+        Graph<City, Route<City>> graph = new Graph<>(routes);
+        CsrGraph csr = graph.getCsr();
+        assertTrue(csr.getNumOfVertices() > ShortestPathFinder.MAX_TABLE_CITIES);
+        int[] distances = new int[csr.getNumOfVertices()];
+        int[] predecessors = new int[csr.getNumOfVertices()];
+        for (int round = 0; round < 20; round++) {
+            City city1 = cities.get(random.nextInt(cities.size()));
+            City city2 = cities.get(random.nextInt(cities.size()));
+            ShortestPathFinder<Graph<City, Route<City>>, City, Route<City>> finder =
+                    new ShortestPathFinder<>(graph, city1, city2);
+            ShortestPath<City, Route<City>> path = finder.findShortestPath();
+            List<City> vertices = path.vertices();
+            assertEquals(city1, vertices.get(0));
+            assertEquals(city2, vertices.get(vertices.size() - 1));
+            for (int i = 0; i < path.edges().size(); i++) {
+                assertEquals(vertices.get(i), path.edges().get(i).getCity1());
+            }
+
+            ShortestPathFinder.search(csr, graph.getVertex(city1), -1, distances, predecessors, null);
+            assertEquals(distances[graph.getVertex(city2)], (int) path.totalWeight());
+            assertEquals(distances[graph.getVertex(city2)], finder.getDistance());
+        }
+    }
+
+    /**
+     * follow the arcs of the last search from the source to the target and add up their weights
+     */
+    private static int getPathLength(CsrGraph csr, AltSearch altSearch, int source, int target) {
+        int length = 0;
+        int vertex = altSearch.getMeetingVertex();
+        for (int arc = altSearch.getForwardPredecessor(vertex); arc != -1;
+             arc = altSearch.getForwardPredecessor(vertex)) {
+            length += csr.getWeight(arc);
+            vertex = csr.getSource(arc);
+        }
+        assertEquals(source, vertex);
+        vertex = altSearch.getMeetingVertex();
+        for (int arc = altSearch.getBackwardPredecessor(vertex); arc != -1;
+             arc = altSearch.getBackwardPredecessor(vertex)) {
+            length += csr.getWeight(arc);
+            vertex = csr.getSource(arc);
+        }
+        assertEquals(target, vertex);
+        return length;
+    }
+}
@@ -0,0 +1,51 @@
+package route.shortestpaths;
+
+import org.junit.jupiter.api.Test;
+import route.graph.CsrGraph;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DialSearchTest {
+
+    @Test
+    void search_randomGraphs_matchesHeapDistances() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int round = 0; round < 50; round++) {
+            int numOfVertices = random.nextInt(1, 60);
+            int numOfEdges = random.nextInt(0, 150);
+            int[] cities1 = random.ints(numOfEdges, 0, numOfVertices).toArray();
+            int[] cities2 = random.ints(numOfEdges, 0, numOfVertices).toArray();
+            int[] weights = random.ints(numOfEdges, 0, 7).toArray(); // includes routes of length 0
+            CsrGraph csr = CsrGraph.fromEdges(numOfVertices, cities1, cities2, weights);
+            int source = random.nextInt(numOfVertices);
+
+            int[] expected = new int[numOfVertices];
+            int[] distances = new int[numOfVertices];
+            int[] predecessors = new int[numOfVertices];
+            int[] order = new int[numOfVertices];
+            int expectedSettled = ShortestPathFinder.heapSearch(csr, source, -1, expected, new int[numOfVertices], null);
+            int settled = DialSearch.search(csr, csr.getMaxWeight(), source, -1, distances, predecessors, order);
+
+            assertEquals(expectedSettled, settled);
+            assertArrayEquals(expected, distances);
+            for (int i = 1; i < settled; i++) {
+                int to = order[i];
+                assertTrue(distances[order[i - 1]] <= distances[to]);
+                assertEquals(distances[to], distances[csr.getSource(predecessors[to])] + csr.getWeight(predecessors[to]));
+            }
+        }
+    }
+
+    @Test
+    void search_targetSettled_stopsEarly() {
+        // a path 0 - 1 - 2 - 3
+        CsrGraph csr = CsrGraph.fromEdges(4, new int[]{0, 1, 2}, new int[]{1, 2, 3}, new int[]{2, 3, 4});
+        int[] distances = new int[4];
+        int[] predecessors = new int[4];
+        assertEquals(2, DialSearch.search(csr, csr.getMaxWeight(), 0, 1, distances, predecessors, null));
+        assertEquals(2, distances[1]);
+        assertEquals(Integer.MAX_VALUE, distances[3]);
+    }
+}
@@ -0,0 +1,67 @@
+package route.shortestpaths;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedMinHeapTest {
+
+    @Test
+    void removeMin_randomOperations_matchesPriorityQueue() {
+        SplittableRandom random = new SplittableRandom(21);
+        int capacity = 200;
+        IndexedMinHeap heap = new IndexedMinHeap(capacity);
+        int[] priorities = new int[capacity];
+        PriorityQueue<long[]> expected = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        for (int round = 0; round < 20000; round++) {
+            int item = random.nextInt(capacity);
+            if (random.nextInt(3) > 0) {
+                if (!heap.contains(item)) {
+                    priorities[item] = random.nextInt(1000);
+                    heap.add(item, priorities[item]);
+                } else {
+                    priorities[item] -= random.nextInt(priorities[item] + 1);
+                    heap.decreasePriority(item, priorities[item]);
+                }
+                assertEquals(priorities[item], heap.getPriority(item));
+            } else if (!heap.isEmpty()) {
+                expected.clear();
+                for (int i = 0; i < capacity; i++) {
+                    if (heap.contains(i)) {
+                        expected.add(new long[]{priorities[i], i});
+                    }
+                }
+                assertEquals(expected.size(), heap.size());
+                int min = heap.removeMin();
+                assertEquals(expected.peek()[0], priorities[min]);
+                assertFalse(heap.contains(min));
+            }
+        }
+    }
+
+    @Test
+    void clear_itemsInHeap_canBeAddedAgain() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        heap.add(2, 5);
+        heap.add(0, 1);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(2));
+        heap.add(2, 7);
+        assertEquals(2, heap.peekMin());
+    }
+
+    @Test
+    void operations_invalidItems_throwExceptions() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        assertThrows(NoSuchElementException.class, heap::removeMin);
+        assertThrows(NoSuchElementException.class, () -> heap.decreasePriority(1, 0));
+        heap.add(1, 4);
+        assertThrows(IllegalArgumentException.class, () -> heap.add(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreasePriority(1, 5));
+    }
+}
@@ -0,0 +1,134 @@
+package route.shortestpaths;
+
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.RouteFileReader;
+import route.RouteFinder;
+import route.graph.Graph;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KShortestPathFinderTest {
+
+    private RouteFileReader routeFileReader = RouteFileReader.getRouteFileReaderInstance();
+
+    @Test
+    void findShortestPaths_mapCities_startsWithShortestPathAndIsOrdered() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        City seattle = new City("Seattle");
+        City miami = new City("Miami");
+        List<ShortestPath<City, Route<City>>> paths = new KShortestPathFinder<>(graph, seattle, miami)
+                .findShortestPaths(10);
+
+        assertEquals(10, paths.size());
+        assertEquals(new ShortestPathFinder<>(graph, seattle, miami).getDistance(), paths.get(0).totalWeight());
+        Set<List<City>> distinct = new HashSet<>();
+        for (int i = 0; i < paths.size(); i++) {
+            ShortestPath<City, Route<City>> path = paths.get(i);
+            if (i > 0) {
+                assertTrue(paths.get(i - 1).totalWeight() <= path.totalWeight());
+            }
+            List<City> vertices = path.vertices();
+            assertEquals(seattle, vertices.get(0));
+            assertEquals(miami, vertices.get(vertices.size() - 1));
+            assertEquals(vertices.size(), new HashSet<>(vertices).size(), "the path is loopless");
+            assertTrue(distinct.add(vertices));
+            assertEquals(path.edges().stream().mapToInt(Route::getNumOfCars).sum(), path.totalWeight());
+        }
+    }
+
+    @Test
+    void findShortestPaths_randomGraphs_matchesExhaustiveSearch() {
+        SplittableRandom random = new SplittableRandom(18);
+        for (int round = 0; round < 100; round++) {
+            int numOfCities = random.nextInt(3, 8);
+            List<City> cities = new ArrayList<>();
+            for (int i = 0; i < numOfCities; i++) {
+                cities.add(new City("KShortest" + round + "-" + i));
+            }
+            List<Route<City>> routes = new ArrayList<>();
+            for (int i = 0; i < numOfCities; i++) {
+                for (int j = i + 1; j < numOfCities; j++) {
+                    if (random.nextInt(3) > 0) {
+                        routes.add(new Route<>(cities.get(i), cities.get(j), List.of("grey"), random.nextInt(1, 7)));
+                    }
+                }
+            }
+            Graph<City, Route<City>> graph = new Graph<>(routes);
+            City from = cities.get(0);
+            City to = cities.get(numOfCities - 1);
+            List<Integer> expected = new ArrayList<>();
+            exhaustive(routes, from, to, new HashSet<>(Set.of(from)), 0, expected);
+            Collections.sort(expected);
+
+            int k = random.nextInt(1, 12);
+            List<ShortestPath<City, Route<City>>> paths = new KShortestPathFinder<>(graph, from, to)
+                    .findShortestPaths(k);
+            assertEquals(Math.min(k, expected.size()), paths.size());
+            for (int i = 0; i < paths.size(); i++) {
+                assertEquals((double) expected.get(i), paths.get(i).totalWeight());
+            }
+        }
+    }
+
+    @Test
+    void findShortestPaths_routesOwned_followsPlayerCosts() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        RouteFinder finder = new RouteFinder(graph);
+        finder.searchForRoute("Portland", "San Francisco").setOwner("p1", 0);
+        Route<City> toSeattle = finder.searchForRoute("Vancouver", "Seattle");
+        for (int i = 0; i < toSeattle.getColors().size(); i++) {
+            toSeattle.setOwner("p2", i);
+        }
+        OccupancyShortestPaths distances = new OccupancyShortestPaths(graph, "p1");
+
+        List<ShortestPath<City, Route<City>>> paths = new KShortestPathFinder<>(graph, distances,
+                new City("Portland"), new City("San Francisco")).findShortestPaths(3);
+        assertEquals(0, paths.get(0).totalWeight());
+        assertEquals(1, paths.get(0).edges().size());
+
+        for (ShortestPath<City, Route<City>> path : new KShortestPathFinder<>(graph, distances,
+                new City("Vancouver"), new City("Seattle")).findShortestPaths(5)) {
+            assertFalse(path.edges().stream().anyMatch(route -> route.getCity1().equals(new City("Vancouver"))
+                    && route.getCity2().equals(new City("Seattle"))));
+        }
+    }
+
+    @Test
+    void findShortestPaths_sameCityOrUnknownCity_returnsTrivialResult() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        City seattle = new City("Seattle");
+        List<ShortestPath<City, Route<City>>> same = new KShortestPathFinder<>(graph, seattle, seattle)
+                .findShortestPaths(3);
+        assertEquals(1, same.size());
+        assertTrue(same.get(0) instanceof ShortestPath.SingleVertex);
+        assertTrue(new KShortestPathFinder<>(graph, seattle, new City("Atlantis")).findShortestPaths(3).isEmpty());
+    }
+
+    @Test
+    void findShortestPaths_nonPositiveK_throwsIllegalArgumentException() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        KShortestPathFinder<City, Route<City>> finder = new KShortestPathFinder<>(graph, new City("Seattle"),
+                new City("Miami"));
+        assertThrows(IllegalArgumentException.class, () -> finder.findShortestPaths(0));
+    }
+
+    private static void exhaustive(List<Route<City>> routes, City city, City to, Set<City> visited, int weight,
+                                   List<Integer> weights) {
+        if (city.equals(to)) {
+            weights.add(weight);
+            return;
+        }
+        for (Route<City> route : routes) {
+            City other = route.getCity1().equals(city) ? route.getCity2()
+                    : route.getCity2().equals(city) ? route.getCity1() : null;
+            if (other != null && visited.add(other)) {
+                exhaustive(routes, other, to, visited, weight + route.getNumOfCars(), weights);
+                visited.remove(other);
+            }
+        }
+    }
+}
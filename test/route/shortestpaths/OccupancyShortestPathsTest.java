@@ -0,0 +1,111 @@
+package route.shortestpaths;
+
+import card.TaskCard;
+import city.City;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.RouteFileReader;
+import route.RouteFinder;
+import route.graph.CsrGraph;
+import route.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyShortestPathsTest {
+
+    private RouteFileReader routeFileReader = RouteFileReader.getRouteFileReaderInstance();
+
+    @Test
+    void getCarsNeeded_routesClaimed_followsOwners() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        OccupancyShortestPaths paths = new OccupancyShortestPaths(graph, "p1");
+        TaskCard task = new TaskCard(new City("Seattle"), new City("Portland"), 1);
+        assertEquals(1, paths.getCarsNeeded(task));
+
+        // one of the two parallel routes taken by another player, the other one is still free
+        Route<City> route = new RouteFinder(graph).searchForRoute("Seattle", "Portland");
+        route.setOwner("p2", 0);
+        assertEquals(1, paths.getCarsNeeded(task));
+
+        // both taken, the way around is longer
+        route.setOwner("p3", 1);
+        int around = paths.getCarsNeeded(task);
+        assertTrue(around > 1);
+        assertEquals(around, new OccupancyShortestPaths(graph, "p1").getCarsNeeded(task));
+    }
+
+    @Test
+    void getCarsNeeded_playerClaimsReversedRoute_returns0() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        OccupancyShortestPaths paths = new OccupancyShortestPaths(graph, "p1");
+        new RouteFinder(graph).searchForRoute("Portland", "Seattle").setOwner("p1", 1);
+        assertEquals(0, paths.getDistance(new City("Seattle"), new City("Portland")));
+        assertEquals(1, paths.getDistance(new City("Vancouver"), new City("Portland")));
+    }
+
+    @Test
+    void getDistance_randomClaims_matchesNewTable() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        CsrGraph csr = graph.getCsr();
+        OccupancyShortestPaths paths = new OccupancyShortestPaths(graph, "p1");
+        int initialSearches = paths.getNumOfSearches();
+        SplittableRandom random = new SplittableRandom(3);
+        boolean[] claimed = new boolean[csr.getNumOfArcs()];
+
+        for (int round = 0; round < 60; round++) {
+            int arc = random.nextInt(csr.getNumOfArcs());
+            Route<City> route = graph.getRoute(arc);
+            int index = random.nextInt(route.getColors().size());
+            int slot = (csr.getArcId(arc) / 2) * 2 + index;
+            if (claimed[slot]) {
+                continue;
+            }
+            claimed[slot] = true;
+            route.setOwner(random.nextInt(3) == 0 ? "p1" : "p2", index);
+
+            OccupancyShortestPaths expected = new OccupancyShortestPaths(graph, "p1");
+            expected.detach();
+            for (int i = 0; i < csr.getNumOfVertices(); i++) {
+                for (int j = 0; j < csr.getNumOfVertices(); j++) {
+                    assertEquals(expected.getDistance(i, j), paths.getDistance(i, j));
+                }
+            }
+        }
+        // far fewer searches than a new table after every claim
+        assertTrue(paths.getNumOfSearches() - initialSearches < 60 * csr.getNumOfVertices() / 2);
+    }
+
+    @Test
+    void detach_routeClaimed_distancesUnchanged() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        OccupancyShortestPaths paths = new OccupancyShortestPaths(graph, "p1");
+        paths.detach();
+        new RouteFinder(graph).searchForRoute("Seattle", "Portland").setOwner("p1", 0);
+        assertEquals(1, paths.getDistance(new City("Seattle"), new City("Portland")));
+    }
+
+    @Test
+    void constructor_afterLargeMap_keepsOneRowPerCityOfTheMap() {
+        List<Route<City>> largeMap = new ArrayList<>();
+        for (int i = 0; i <= ShortestPathFinder.MAX_TABLE_CITIES; i++) {
+            largeMap.add(new Route<>(new City("OccupancyLarge" + i), new City("OccupancyLarge" + (i + 1)),
+                    List.of("grey"), 1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyShortestPaths(new Graph<>(largeMap), "p1"));
+
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        OccupancyShortestPaths paths = new OccupancyShortestPaths(graph, "p1");
+        assertEquals(graph.getAllCities().size(), paths.getNumOfSearches());
+        assertEquals(1, paths.getDistance(new City("Seattle"), new City("Portland")));
+    }
+
+    @Test
+    void constructor_nullPlayer_throwsIllegalArgumentException() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyShortestPaths(graph, null));
+    }
+}
@@ -0,0 +1,113 @@
+package route.shortestpaths;
+
+import card.TaskCard;
+import city.City;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import route.Route;
+import route.RouteFileReader;
+import route.RouteFinder;
+import route.graph.Graph;
+import route.graph.UnionFind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SteinerPlannerTest {
+
+    private RouteFileReader routeFileReader = RouteFileReader.getRouteFileReaderInstance();
+    private List<OccupancyShortestPaths> attached = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        attached.forEach(OccupancyShortestPaths::detach);
+    }
+
+    /**
+     * a planner for p1, its distances stop following the routes after the test
+     */
+    private SteinerPlanner<City, Route<City>> createPlanner(Graph<City, Route<City>> graph) {
+        OccupancyShortestPaths distances = new OccupancyShortestPaths(graph, "p1");
+        attached.add(distances);
+        return new SteinerPlanner<>(graph, distances);
+    }
+
+    @Test
+    void plan_twoTasksSharingRoutes_costsLessThanSeparatePaths() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        SteinerPlanner<City, Route<City>> planner = createPlanner(graph);
+        List<TaskCard> tasks = List.of(
+                new TaskCard(new City("Seattle"), new City("Los Angeles"), 9),
+                new TaskCard(new City("Portland"), new City("Phoenix"), 11));
+        SteinerPlan<Route<City>> plan = planner.plan(tasks);
+
+        assertTrue(plan.isComplete());
+        int separate = 0;
+        for (TaskCard task : tasks) {
+            separate += new ShortestPathFinder<>(graph, task.getCity1(), task.getCity2()).getDistance();
+        }
+        assertTrue(plan.getNumOfCars() < separate);
+        assertConnectsTasks(plan, tasks);
+        assertEquals(plan.getNumOfCars(), plan.getRoutes().stream().mapToInt(Route::getNumOfCars).sum());
+    }
+
+    @Test
+    void plan_ownedRoute_costsNothing() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        SteinerPlanner<City, Route<City>> planner = createPlanner(graph);
+        List<TaskCard> tasks = List.of(new TaskCard(new City("Portland"), new City("San Francisco"), 5));
+        assertEquals(5, planner.plan(tasks).getNumOfCars());
+
+        new RouteFinder(graph).searchForRoute("Portland", "San Francisco").setOwner("p1", 0);
+        SteinerPlan<Route<City>> plan = planner.plan(tasks);
+        assertEquals(0, plan.getNumOfCars());
+        assertEquals(1, plan.getRoutes().size());
+    }
+
+    @Test
+    void plan_cityCutOff_isNotComplete() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        SteinerPlanner<City, Route<City>> planner = createPlanner(graph);
+        // Vancouver only has routes to Seattle and Calgary
+        RouteFinder finder = new RouteFinder(graph);
+        Route<City> toSeattle = finder.searchForRoute("Vancouver", "Seattle");
+        for (int i = 0; i < toSeattle.getColors().size(); i++) {
+            toSeattle.setOwner("p2", i);
+        }
+        Route<City> toCalgary = finder.searchForRoute("Vancouver", "Calgary");
+        toCalgary.setOwner("p2", 0);
+
+        SteinerPlan<Route<City>> plan = planner.plan(List.of(new TaskCard(new City("Vancouver"), new City("Miami"), 20)));
+        assertFalse(plan.isComplete());
+        assertTrue(plan.getRoutes().isEmpty());
+    }
+
+    @Test
+    void plan_noTasks_returnsEmptyPlan() {
+        Graph<City, Route<City>> graph = new Graph<>(routeFileReader.createRoutes());
+        SteinerPlan<Route<City>> plan = createPlanner(graph).plan(List.of());
+        assertTrue(plan.isComplete());
+        assertEquals(0, plan.getNumOfCars());
+    }
+
+    @Test
+    void constructor_distancesOfAnotherGraph_throwsIllegalArgumentException() {
+        Graph<City, Route<City>> graph1 = new Graph<>(routeFileReader.createRoutes());
+        Graph<City, Route<City>> graph2 = new Graph<>(routeFileReader.createRoutes());
+        OccupancyShortestPaths distances = new OccupancyShortestPaths(graph1, "p1");
+        attached.add(distances);
+        assertThrows(IllegalArgumentException.class, () -> new SteinerPlanner<>(graph2, distances));
+    }
+
+    private static void assertConnectsTasks(SteinerPlan<Route<City>> plan, List<TaskCard> tasks) {
+        UnionFind connected = new UnionFind();
+        for (Route<City> route : plan.getRoutes()) {
+            assertTrue(connected.union(route.getCity1(), route.getCity2()), "the routes form a tree");
+        }
+        for (TaskCard task : tasks) {
+            assertTrue(connected.isConnected(task.getCity1(), task.getCity2()));
+        }
+    }
+}